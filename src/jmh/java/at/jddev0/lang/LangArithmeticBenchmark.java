@@ -0,0 +1,53 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures a tight INT arithmetic loop with and without the self-specializing execution engine<br>
+ * The allocation rate can be measured with the GC profiler: {@code gradle jmh -PjmhInclude=LangArithmeticBenchmark -PjmhProfiler=gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LangArithmeticBenchmark {
+    private static final String LOOP_FUNCTION = "fp.loop = ($n) -> {\n" +
+            "\t$acc = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$acc = parser.op(($acc + $i * 3 - ($i % 7)) & 65535)\n" +
+            "\t}\n" +
+            "\treturn $acc\n" +
+            "}\n";
+
+    @Param({"false", "true"})
+    public boolean specializingExecutionEngine;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree loopCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+        interpreter.executionFlags.specializingExecutionEngine = specializingExecutionEngine;
+        interpreter.executionFlags.frameSlotResolution = specializingExecutionEngine;
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(LOOP_FUNCTION)));
+        loopCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.loop(1000)\n")));
+    }
+
+    @Benchmark
+    public DataObject intLoop() {
+        interpreter.interpretAST(loopCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
@@ -0,0 +1,74 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the creation and the iteration of large INT arrays<br>
+ * The memory footprint of the array is the normalized allocation rate of the generateArray benchmark which can be
+ * measured with the GC profiler: {@code gradle jmh -PjmhInclude=LangArrayBenchmark -PjmhProfiler=gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangArrayBenchmark {
+    private static final String ARRAY_FUNCTIONS = "fp.identity = ($i) -> return $i\n" +
+            "fp.add = ($a, $b) -> return parser.op($a + $b)\n" +
+            "fp.sumIndexed = (&array) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], @&array) {\n" +
+            "\t\t$sum += parser.op(&array[$i])\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n";
+
+    @Param({"1000000"})
+    public int arrayLength;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree generateArrayCall;
+    private AbstractSyntaxTree sumIndexedCall;
+    private AbstractSyntaxTree reduceCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(ARRAY_FUNCTIONS)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("&array = func.arrayGenerateFrom(fp.identity, " + arrayLength + ")\n")));
+
+        generateArrayCall = interpreter.parseLines(new BufferedReader(new StringReader("return func.arrayGenerateFrom(fp.identity, " + arrayLength + ")\n")));
+        sumIndexedCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.sumIndexed(&array)\n")));
+        reduceCall = interpreter.parseLines(new BufferedReader(new StringReader("return func.arrayReduce(&array, fp.add)\n")));
+    }
+
+    @Benchmark
+    public DataObject generateArray() {
+        interpreter.interpretAST(generateArrayCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject sumIndexed() {
+        interpreter.interpretAST(sumIndexedCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject reduce() {
+        interpreter.interpretAST(reduceCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
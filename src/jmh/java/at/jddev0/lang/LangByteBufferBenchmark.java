@@ -0,0 +1,86 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures an indexed loop over a memory-mapped file and the slicing of the mapped region<br>
+ * The heap usage should not depend on the file size which can be verified with the GC profiler:
+ * {@code gradle jmh -PjmhInclude=LangByteBufferBenchmark -PjmhProfiler=gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangByteBufferBenchmark {
+    private static final String BYTE_BUFFER_FUNCTIONS = "fp.sumIndexed = ($buf) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], @$buf) {\n" +
+            "\t\t$sum += parser.op($buf[$i])\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n" +
+            "fp.sliceHalves = ($buf) -> {\n" +
+            "\t$len = parser.op(@$buf)\n" +
+            "\t$count = 0\n" +
+            "\twhile(parser.op($len > 1)) {\n" +
+            "\t\t$len //= 2\n" +
+            "\t\t$slice = parser.op($buf[0:$len])\n" +
+            "\t\t$count += parser.op(@$slice)\n" +
+            "\t}\n" +
+            "\treturn $count\n" +
+            "}\n";
+
+    @Param({"1000000"})
+    public int fileSize;
+
+    private File file;
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree sumIndexedCall;
+    private AbstractSyntaxTree sliceHalvesCall;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("langByteBufferBenchmark", ".bin");
+        try(RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(fileSize);
+        }
+
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(BYTE_BUFFER_FUNCTIONS)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("$buf = func.byteBufferMapFile(" +
+                file.getAbsolutePath() + ", 0, " + fileSize + ")\n")));
+
+        sumIndexedCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.sumIndexed($buf)\n")));
+        sliceHalvesCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.sliceHalves($buf)\n")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public DataObject sumIndexed() {
+        interpreter.interpretAST(sumIndexedCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject sliceHalves() {
+        interpreter.interpretAST(sliceHalvesCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
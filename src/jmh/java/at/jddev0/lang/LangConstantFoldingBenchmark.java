@@ -0,0 +1,74 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures loops with constant expressions, constant if conditions, and type constrained function definitions<br>
+ * The results can be compared with a run of the previous version:
+ * {@code gradle jmh -PjmhInclude=LangConstantFoldingBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangConstantFoldingBenchmark {
+    private static final String CONSTANT_FUNCTIONS = "fp.constantExpressions = ($n) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$sum = parser.op($sum + (60 * 60 * 24) % 1000 - -3 + (1 << 4) * 2.5)\n" +
+            "\t\tif(1 < 2 && !0) {\n" +
+            "\t\t\t$sum = parser.op($sum - 1)\n" +
+            "\t\t}else {\n" +
+            "\t\t\t$sum = parser.op($sum + 1)\n" +
+            "\t\t}\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n" +
+            "fp.typeConstrainedDefinitions = ($n) -> {\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\tfp.f = ($a{INT|LONG}, $b{?TEXT}):{INT|LONG|DOUBLE} -> return $a\n" +
+            "\t}\n" +
+            "\treturn fp.f(1, null)\n" +
+            "}\n";
+
+    @Param({"10000"})
+    public int iterationCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree constantExpressionsCall;
+    private AbstractSyntaxTree typeConstrainedDefinitionsCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(CONSTANT_FUNCTIONS)));
+
+        constantExpressionsCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.constantExpressions(" + iterationCount + ")\n")));
+        typeConstrainedDefinitionsCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.typeConstrainedDefinitions(" + iterationCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject constantExpressions() {
+        interpreter.interpretAST(constantExpressionsCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject typeConstrainedDefinitions() {
+        interpreter.interpretAST(typeConstrainedDefinitionsCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
@@ -0,0 +1,81 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures "==" and "===" of large arrays of numbers and texts and of large nested lists<br>
+ * The results can be compared with a run of the previous version:
+ * {@code gradle jmh -PjmhInclude=LangDeepEqualsBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangDeepEqualsBenchmark {
+    @Param({"50000"})
+    public int elementCount;
+
+    private LangInterpreter interpreter;
+    private DataObject leftIntList;
+    private DataObject rightIntList;
+    private DataObject leftTextList;
+    private DataObject rightTextList;
+    private DataObject leftNestedList;
+    private DataObject rightNestedList;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader("&leftIntList = func.listOf()\n" +
+                "&rightIntList = func.listOf()\n" +
+                "&leftTextList = func.listOf()\n" +
+                "&rightTextList = func.listOf()\n" +
+                "&leftNestedList = func.listOf()\n" +
+                "&rightNestedList = func.listOf()\n" +
+                "$i = 0\n" +
+                "repeat($[i], " + elementCount + ") {\n" +
+                "\tfunc.listAdd(&leftIntList, $i)\n" +
+                "\tfunc.listAdd(&rightIntList, $i)\n" +
+                "\tfunc.listAdd(&leftTextList, text$i)\n" +
+                "\tfunc.listAdd(&rightTextList, text$i)\n" +
+                "\tfunc.listAdd(&leftNestedList, func.arrayOf($i, text$i, func.listOf(2.5, $i)))\n" +
+                "\tfunc.listAdd(&rightNestedList, func.arrayOf($i, text$i, func.listOf(2.5, $i)))\n" +
+                "}\n")));
+
+        leftIntList = interpreter.getData().var.get("&leftIntList");
+        rightIntList = interpreter.getData().var.get("&rightIntList");
+        leftTextList = interpreter.getData().var.get("&leftTextList");
+        rightTextList = interpreter.getData().var.get("&rightTextList");
+        leftNestedList = interpreter.getData().var.get("&leftNestedList");
+        rightNestedList = interpreter.getData().var.get("&rightNestedList");
+    }
+
+    @Benchmark
+    public boolean intListEquals() {
+        return interpreter.operators.isEquals(leftIntList, rightIntList, CodePosition.EMPTY);
+    }
+
+    @Benchmark
+    public boolean textListEquals() {
+        return interpreter.operators.isEquals(leftTextList, rightTextList, CodePosition.EMPTY);
+    }
+
+    @Benchmark
+    public boolean nestedListEquals() {
+        return interpreter.operators.isEquals(leftNestedList, rightNestedList, CodePosition.EMPTY);
+    }
+
+    @Benchmark
+    public boolean nestedListStrictEquals() {
+        return interpreter.operators.isStrictEquals(leftNestedList, rightNestedList, CodePosition.EMPTY);
+    }
+}
@@ -0,0 +1,75 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the passing of an array through several layers of helper functions and calls of a var args function<br>
+ * The allocated DataObjects per call can be measured with the GC profiler:
+ * {@code gradle jmh -PjmhInclude=LangFunctionCallBenchmark -PjmhProfiler=gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangFunctionCallBenchmark {
+    private static final String CALL_FUNCTIONS = "fp.identity = ($i) -> return $i\n" +
+            "fp.layer3 = (&array) -> return &array\n" +
+            "fp.layer2 = (&array) -> return fp.layer3(&array)\n" +
+            "fp.layer1 = (&array) -> return fp.layer2(&array)\n" +
+            "fp.passThrough = (&array, $n) -> {\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t&array = fp.layer1(fp.layer1(&array))\n" +
+            "\t}\n" +
+            "\treturn parser.op(@&array)\n" +
+            "}\n" +
+            "fp.count = (&args...) -> return parser.op(@&args)\n" +
+            "fp.varArgs = ($n) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$sum += fp.count(1, 2, 3, 4, 5, 6, 7, 8)\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n";
+
+    @Param({"10000"})
+    public int callCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree passThroughCall;
+    private AbstractSyntaxTree varArgsCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(CALL_FUNCTIONS)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("&array = func.arrayGenerateFrom(fp.identity, 1000)\n")));
+
+        passThroughCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.passThrough(&array, " + callCount + ")\n")));
+        varArgsCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.varArgs(" + callCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject passThrough() {
+        interpreter.interpretAST(passThroughCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject varArgs() {
+        interpreter.interpretAST(varArgsCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
@@ -0,0 +1,37 @@
+package at.jddev0.lang;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the construction of LangInterpreter instances with and without the shared LangRuntimeImage
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LangInterpreterConstructionBenchmark {
+    private final String langPath = new File("").getAbsolutePath();
+    private final ILangPlatformAPI langPlatformAPI = new DefaultLangPlatformAPI();
+
+    @Setup
+    public void setup() {
+        //Create the default runtime image before measuring
+        LangRuntimeImage.getDefault();
+    }
+
+    @Benchmark
+    public LangInterpreter withRuntimeImage() {
+        return new LangInterpreter(langPath, null, langPlatformAPI);
+    }
+
+    @Benchmark
+    public LangInterpreter withoutRuntimeImage() {
+        //Interprets the Lang standard implementation for every interpreter (Behavior before LangRuntimeImage existed)
+        return new LangInterpreter(null, langPath, null, null, langPlatformAPI, null);
+    }
+}
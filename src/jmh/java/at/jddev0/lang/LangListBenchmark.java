@@ -0,0 +1,66 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures an indexed loop over a large LIST value and the usage of a LIST value as a queue
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangListBenchmark {
+    private static final String LIST_FUNCTIONS = "fp.sumIndexed = (&list) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], @&list) {\n" +
+            "\t\t$sum += parser.op(&list[$i])\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n" +
+            "fp.rotate = (&list) -> {\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], @&list) {\n" +
+            "\t\tfunc.listPush(&list, func.listShift(&list))\n" +
+            "\t}\n" +
+            "}\n" +
+            "fp.identity = ($i) -> return $i\n";
+
+    @Param({"100000"})
+    public int listSize;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree sumIndexedCall;
+    private AbstractSyntaxTree rotateCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(LIST_FUNCTIONS)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("&list = func.listGenerateFrom(fp.identity, " + listSize + ")\n")));
+
+        sumIndexedCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.sumIndexed(&list)\n")));
+        rotateCall = interpreter.parseLines(new BufferedReader(new StringReader("fp.rotate(&list)\n")));
+    }
+
+    @Benchmark
+    public DataObject sumIndexed() {
+        interpreter.interpretAST(sumIndexedCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public void rotate() {
+        interpreter.interpretAST(rotateCall);
+    }
+}
@@ -0,0 +1,94 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the member access of a struct and an object with many members and the creation of their instances<br>
+ * The time per member access should not depend on the member count
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangMemberAccessBenchmark {
+    @Param({"4", "64"})
+    public int memberCount;
+
+    @Param({"10000"})
+    public int accessCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree structAccessCall;
+    private AbstractSyntaxTree objectAccessCall;
+    private AbstractSyntaxTree objectCreationCall;
+
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder structDefinition = new StringBuilder("struct &S {\n");
+        StringBuilder classDefinition = new StringBuilder("class &C {\n");
+        StringBuilder structValues = new StringBuilder();
+        for(int i = 0;i < memberCount;i++) {
+            structDefinition.append("\t$m").append(i).append("\n");
+            classDefinition.append("\t+$m").append(i).append("\n");
+            structValues.append(i == 0?"1":", 1");
+        }
+        structDefinition.append("}\n");
+        classDefinition.append("\t+construct = () -> {\n\t\t&this::$m").append(memberCount - 1).append(" ::= 1\n\t}\n}\n");
+
+        String lastMember = "$m" + (memberCount - 1);
+        String memberFunctions = "fp.accessMembers = (&composite, $n) -> {\n" +
+                "\t$sum = 0\n" +
+                "\t$i = 0\n" +
+                "\trepeat($[i], $n) {\n" +
+                "\t\t$sum += parser.op(&composite::" + lastMember + ")\n" +
+                "\t}\n" +
+                "\treturn $sum\n" +
+                "}\n" +
+                "fp.createObjects = ($n) -> {\n" +
+                "\t$i = 0\n" +
+                "\trepeat($[i], $n) {\n" +
+                "\t\t&obj = &C()\n" +
+                "\t}\n" +
+                "\treturn &obj\n" +
+                "}\n";
+
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(structDefinition.toString() +
+                classDefinition + memberFunctions)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("&s = &S(" + structValues + ")\n&c = &C()\n")));
+
+        structAccessCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.accessMembers(&s, " + accessCount + ")\n")));
+        objectAccessCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.accessMembers(&c, " + accessCount + ")\n")));
+        objectCreationCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.createObjects(" + accessCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject structAccess() {
+        interpreter.interpretAST(structAccessCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject objectAccess() {
+        interpreter.interpretAST(objectAccessCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject objectCreation() {
+        interpreter.interpretAST(objectCreationCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
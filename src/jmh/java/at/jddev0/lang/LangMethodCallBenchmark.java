@@ -0,0 +1,83 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures operator overloading and super method calls of objects with a deep class hierarchy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangMethodCallBenchmark {
+    private static final String METHOD_FUNCTIONS = "class &A {\n" +
+            "\t+$value\n" +
+            "\t+construct = ($value) -> &this::$value ::= $value\n" +
+            "\t+mp.get = () -> return parser.op(&this::$value)\n" +
+            "\t+op:add = ($o) -> return parser.op(&this::$value + $o)\n" +
+            "}\n" +
+            "class &B < &A > {\n" +
+            "\t+construct = ($value) -> parser.op(super::construct($value))\n" +
+            "\t+override:mp.get = () -> return parser.op(super::mp.get())\n" +
+            "}\n" +
+            "class &C < &B > {\n" +
+            "\t+construct = ($value) -> parser.op(super::construct($value))\n" +
+            "\t+override:mp.get = () -> return parser.op(super::mp.get())\n" +
+            "}\n" +
+            "fp.addOperator = (&obj, $n) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$sum += parser.op(&obj + 1)\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n" +
+            "fp.superCalls = (&obj, $n) -> {\n" +
+            "\t$sum = 0\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$sum += parser.op(&obj::mp.get())\n" +
+            "\t}\n" +
+            "\treturn $sum\n" +
+            "}\n";
+
+    @Param({"10000"})
+    public int callCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree addOperatorCall;
+    private AbstractSyntaxTree superCallsCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(METHOD_FUNCTIONS)));
+        interpreter.interpretLines(new BufferedReader(new StringReader("&obj = &C(2)\n")));
+
+        addOperatorCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.addOperator(&obj, " + callCount + ")\n")));
+        superCallsCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.superCalls(&obj, " + callCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject addOperator() {
+        interpreter.interpretAST(addOperatorCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject superCalls() {
+        interpreter.interpretAST(superCallsCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
@@ -0,0 +1,56 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures arithmetic, division, and bitwise operators with mixed INT, LONG, FLOAT, and DOUBLE operands<br>
+ * The results can be compared with a run of the previous version:
+ * {@code gradle jmh -PjmhInclude=LangMixedArithmeticBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangMixedArithmeticBenchmark {
+    private static final String ARITHMETIC_FUNCTIONS = "fp.mixedArithmetic = ($n) -> {\n" +
+            "\t$long = parser.op(1 + 0 * 9000000000)\n" +
+            "\t$float = 1.5f\n" +
+            "\t$double = 0.5\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$double = parser.op($double + $i * $float - $long / 3 + $float ** 2)\n" +
+            "\t\t$long = parser.op(($long + $i) % 1000 | 1)\n" +
+            "\t}\n" +
+            "\treturn $double\n" +
+            "}\n";
+
+    @Param({"10000"})
+    public int iterationCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree mixedArithmeticCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(ARITHMETIC_FUNCTIONS)));
+
+        mixedArithmeticCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.mixedArithmetic(" + iterationCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject mixedArithmetic() {
+        interpreter.interpretAST(mixedArithmeticCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
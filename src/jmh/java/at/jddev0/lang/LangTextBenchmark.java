@@ -0,0 +1,61 @@
+package at.jddev0.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the creation and the code point access of Text values for ASCII, BMP, and supplementary texts<br>
+ * The memory footprint of a Text value is the normalized allocation rate of the createText benchmark which can be
+ * measured with the GC profiler: {@code gradle jmh -PjmhInclude=LangTextBenchmark -PjmhProfiler=gc}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LangTextBenchmark {
+    @Param({"ASCII", "BMP", "SUPPLEMENTARY"})
+    public String textKind;
+
+    private String str;
+    private DataObject.Text text;
+
+    @Setup
+    public void setup() {
+        String part;
+        switch(textKind) {
+            case "ASCII":
+                part = "Translation value ";
+                break;
+            case "BMP":
+                part = "\u00DCbersetzungswert \u20AC ";
+                break;
+            default:
+                part = "Translation value \uD83D\uDE00 ";
+                break;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0;i < 16;i++)
+            builder.append(part);
+
+        str = builder.toString();
+        text = DataObject.Text.fromString(str);
+    }
+
+    @Benchmark
+    public DataObject.Text createText() {
+        return DataObject.Text.fromString(str);
+    }
+
+    @Benchmark
+    public int sumCodePoints() {
+        int sum = 0;
+        for(int i = 0;i < text.length();i++)
+            sum += text.charAt(i);
+
+        return sum;
+    }
+}
@@ -0,0 +1,68 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the building of a text from many pieces with the concat operator and with text interpolation<br>
+ * The runtime should grow linearly with the piece count
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangTextConcatBenchmark {
+    private static final String BUILD_FUNCTIONS = "fp.buildConcat = ($n) -> {\n" +
+            "\t$txt = \\e\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$txt = parser.op($txt ||| Piece)\n" +
+            "\t}\n" +
+            "\treturn parser.op(@$txt)\n" +
+            "}\n" +
+            "fp.buildInterpolation = ($n) -> {\n" +
+            "\t$txt = \\e\n" +
+            "\t$i = 0\n" +
+            "\trepeat($[i], $n) {\n" +
+            "\t\t$txt = $txt$i,\n" +
+            "\t}\n" +
+            "\treturn parser.op(@$txt)\n" +
+            "}\n";
+
+    @Param({"10000", "100000"})
+    public int pieceCount;
+
+    private LangInterpreter interpreter;
+    private AbstractSyntaxTree buildConcatCall;
+    private AbstractSyntaxTree buildInterpolationCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader(BUILD_FUNCTIONS)));
+        buildConcatCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.buildConcat(" + pieceCount + ")\n")));
+        buildInterpolationCall = interpreter.parseLines(new BufferedReader(new StringReader("return fp.buildInterpolation(" + pieceCount + ")\n")));
+    }
+
+    @Benchmark
+    public DataObject buildConcat() {
+        interpreter.interpretAST(buildConcatCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+
+    @Benchmark
+    public DataObject buildInterpolation() {
+        interpreter.interpretAST(buildInterpolationCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
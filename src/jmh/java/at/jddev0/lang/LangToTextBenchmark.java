@@ -0,0 +1,55 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the text conversion of large nested lists<br>
+ * The results can be compared with a run of the previous version:
+ * {@code gradle jmh -PjmhInclude=LangToTextBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LangToTextBenchmark {
+    @Param({"10000"})
+    public int elementCount;
+
+    private LangInterpreter interpreter;
+    private DataObject nestedList;
+    private AbstractSyntaxTree listGetAllCall;
+
+    @Setup
+    public void setup() throws IOException {
+        interpreter = new LangInterpreter(new File("").getAbsolutePath(), null, new DefaultLangPlatformAPI());
+
+        interpreter.interpretLines(new BufferedReader(new StringReader("&nestedList = func.listOf()\n" +
+                "$i = 0\n" +
+                "repeat($[i], " + elementCount + ") {\n" +
+                "\tfunc.listAdd(&nestedList, func.arrayOf($i, func.listOf(a, $i), 2.5))\n" +
+                "}\n")));
+        nestedList = interpreter.getData().var.get("&nestedList");
+
+        listGetAllCall = interpreter.parseLines(new BufferedReader(new StringReader("return func.listGetAll(&nestedList)\n")));
+    }
+
+    @Benchmark
+    public DataObject.Text toText() {
+        return interpreter.conversions.toText(nestedList, CodePosition.EMPTY);
+    }
+
+    @Benchmark
+    public DataObject listGetAll() {
+        interpreter.interpretAST(listGetAllCall);
+
+        return interpreter.getAndResetReturnValue();
+    }
+}
@@ -14,6 +14,11 @@ import at.jddev0.lang.LangParser.ParsingError;
 public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Node> {
     private final List<Node> nodes;
 
+    /**
+     * Frame layout of the LangInterpreter if this AST is a function body (Is not part of the AST)
+     */
+    private volatile LangFrameLayout frameLayout;
+
     public AbstractSyntaxTree() {
         nodes = new ArrayList<>();
     }
@@ -40,6 +45,14 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         AbstractSyntaxTree.optimizeNodes(nodes);
     }
 
+    LangFrameLayout getFrameLayout() {
+        return frameLayout;
+    }
+
+    void setFrameLayout(LangFrameLayout frameLayout) {
+        this.frameLayout = frameLayout;
+    }
+
     @Override
     public Iterator<AbstractSyntaxTree.Node> iterator() {
         return nodes.iterator();
@@ -218,11 +231,294 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             if(listNode.nodes.size() == 1) {
                 return listNode.nodes.get(0);
             }
+        }else if(node instanceof OperationNode) {
+            Node constantNode = tryEvaluateConstantOperation((OperationNode)node);
+            if(constantNode != null)
+                return constantNode;
         }
 
         return node;
     }
 
+    /**
+     * Operands must already be optimized
+     *
+     * @return The value node of the result or null if the operation is not constant or if the result would depend on
+     * the state of the interpreter (e.g. errno)
+     */
+    private static Node tryEvaluateConstantOperation(OperationNode node) {
+        OperationNode.Operator operator = node.getOperator();
+        if(operator.getOperatorType() == OperationNode.OperatorType.CONDITION) {
+            //Boolean values are represented as INT values
+            Boolean conditionOutput = tryEvaluateConstantCondition(node);
+            return conditionOutput == null?null:new IntValueNode(node.getPos(), conditionOutput?1:0);
+        }
+
+        Node leftSideOperand = node.getLeftSideOperand();
+        switch(operator) {
+            case NON:
+            case MATH_NON:
+                return isConstantValueNode(leftSideOperand)?leftSideOperand:null;
+
+            case CONCAT:
+            case ADD:
+                Node rightSideOperand = node.getRightSideOperand();
+                if(leftSideOperand.getNodeType() == NodeType.TEXT_VALUE && rightSideOperand.getNodeType() == NodeType.TEXT_VALUE)
+                    return new TextValueNode(node.getPos(), ((TextValueNode)leftSideOperand).getText() +
+                            ((TextValueNode)rightSideOperand).getText());
+
+                break;
+
+            default:
+                break;
+        }
+
+        if(operator.getOperatorType() != OperationNode.OperatorType.MATH || operator.isTernary())
+            return null;
+
+        DataObject leftSideNumber = createConstantNumber(leftSideOperand);
+        if(leftSideNumber == null)
+            return null;
+
+        DataObject output;
+        if(operator.isUnary()) {
+            output = LangOperators.evaluateConstantOperation(operator, leftSideNumber);
+        }else {
+            DataObject rightSideNumber = createConstantNumber(node.getRightSideOperand());
+            if(rightSideNumber == null)
+                return null;
+
+            output = LangOperators.evaluateConstantOperation(operator, leftSideNumber, rightSideNumber);
+        }
+
+        if(output == null)
+            return null;
+
+        switch(output.getType()) {
+            case INT:
+                return new IntValueNode(node.getPos(), output.getInt());
+            case LONG:
+                return new LongValueNode(node.getPos(), output.getLong());
+            case FLOAT:
+                return new FloatValueNode(node.getPos(), output.getFloat());
+            case DOUBLE:
+                return new DoubleValueNode(node.getPos(), output.getDouble());
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Operands must already be optimized
+     *
+     * @return The result of the condition or null if the condition is not constant
+     */
+    private static Boolean tryEvaluateConstantCondition(OperationNode node) {
+        OperationNode.Operator operator = node.getOperator();
+        switch(operator) {
+            case CONDITIONAL_NON:
+            case NOT:
+                Boolean operand = tryEvaluateConstantBoolean(node.getLeftSideOperand());
+                return operand == null?null:operand ^ operator == OperationNode.Operator.NOT;
+
+            //The right side operand is not evaluated if the result is already known (Lazy evaluation)
+            case AND:
+                Boolean leftSideOperand = tryEvaluateConstantBoolean(node.getLeftSideOperand());
+                if(leftSideOperand == null || !leftSideOperand)
+                    return leftSideOperand;
+
+                return tryEvaluateConstantBoolean(node.getRightSideOperand());
+            case OR:
+                leftSideOperand = tryEvaluateConstantBoolean(node.getLeftSideOperand());
+                if(leftSideOperand == null || leftSideOperand)
+                    return leftSideOperand;
+
+                return tryEvaluateConstantBoolean(node.getRightSideOperand());
+
+            case EQUALS:
+            case NOT_EQUALS:
+            case STRICT_EQUALS:
+            case STRICT_NOT_EQUALS:
+            case LESS_THAN:
+            case GREATER_THAN:
+            case LESS_THAN_OR_EQUALS:
+            case GREATER_THAN_OR_EQUALS:
+                return tryEvaluateConstantComparison(operator, node.getLeftSideOperand(), node.getRightSideOperand());
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Only operands of the same type are compared, because comparisons of different types depend on the conversion rules
+     * of the interpreter
+     *
+     * @return The result of the comparison or null if the operands are not comparable constants
+     */
+    private static Boolean tryEvaluateConstantComparison(OperationNode.Operator operator, Node leftSideOperand, Node rightSideOperand) {
+        if(leftSideOperand.getNodeType() != rightSideOperand.getNodeType())
+            return null;
+
+        switch(leftSideOperand.getNodeType()) {
+            case INT_VALUE:
+                int leftSideInt = ((IntValueNode)leftSideOperand).getInt();
+                int rightSideInt = ((IntValueNode)rightSideOperand).getInt();
+                return evaluateComparison(operator, leftSideInt < rightSideInt, leftSideInt == rightSideInt,
+                        leftSideInt > rightSideInt);
+            case LONG_VALUE:
+                long leftSideLong = ((LongValueNode)leftSideOperand).getLong();
+                long rightSideLong = ((LongValueNode)rightSideOperand).getLong();
+                return evaluateComparison(operator, leftSideLong < rightSideLong, leftSideLong == rightSideLong,
+                        leftSideLong > rightSideLong);
+            case FLOAT_VALUE:
+                float leftSideFloat = ((FloatValueNode)leftSideOperand).getFloat();
+                float rightSideFloat = ((FloatValueNode)rightSideOperand).getFloat();
+                return evaluateComparison(operator, leftSideFloat < rightSideFloat, leftSideFloat == rightSideFloat,
+                        leftSideFloat > rightSideFloat);
+            case DOUBLE_VALUE:
+                double leftSideDouble = ((DoubleValueNode)leftSideOperand).getDouble();
+                double rightSideDouble = ((DoubleValueNode)rightSideOperand).getDouble();
+                return evaluateComparison(operator, leftSideDouble < rightSideDouble, leftSideDouble == rightSideDouble,
+                        leftSideDouble > rightSideDouble);
+            case TEXT_VALUE:
+                if(operator == OperationNode.Operator.LESS_THAN || operator == OperationNode.Operator.GREATER_THAN ||
+                        operator == OperationNode.Operator.LESS_THAN_OR_EQUALS || operator == OperationNode.Operator.GREATER_THAN_OR_EQUALS)
+                    return null;
+
+                return evaluateComparison(operator, false, ((TextValueNode)leftSideOperand).getText().equals(
+                        ((TextValueNode)rightSideOperand).getText()), false);
+
+            default:
+                return null;
+        }
+    }
+
+    private static boolean evaluateComparison(OperationNode.Operator operator, boolean lessThan, boolean equals, boolean greaterThan) {
+        switch(operator) {
+            case EQUALS:
+            case STRICT_EQUALS:
+                return equals;
+            case NOT_EQUALS:
+            case STRICT_NOT_EQUALS:
+                return !equals;
+            case LESS_THAN:
+                return lessThan;
+            case GREATER_THAN:
+                return greaterThan;
+            case LESS_THAN_OR_EQUALS:
+                return lessThan || equals;
+            case GREATER_THAN_OR_EQUALS:
+                return greaterThan || equals;
+
+            default:
+                throw new IllegalStateException("Operator \"" + operator.getSymbol() + "\" is no comparison operator");
+        }
+    }
+
+    /**
+     * @return The boolean value of the node or null if the node is not a constant value node
+     */
+    private static Boolean tryEvaluateConstantBoolean(Node node) {
+        switch(node.getNodeType()) {
+            case INT_VALUE:
+                return ((IntValueNode)node).getInt() != 0;
+            case LONG_VALUE:
+                return ((LongValueNode)node).getLong() != 0;
+            case FLOAT_VALUE:
+                return ((FloatValueNode)node).getFloat() != 0;
+            case DOUBLE_VALUE:
+                return ((DoubleValueNode)node).getDouble() != 0;
+            case CHAR_VALUE:
+                return ((CharValueNode)node).getChar() != 0;
+            case TEXT_VALUE:
+                return !((TextValueNode)node).getText().isEmpty();
+            case NULL_VALUE:
+            case VOID_VALUE:
+                return false;
+
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isConstantValueNode(Node node) {
+        switch(node.getNodeType()) {
+            case INT_VALUE:
+            case LONG_VALUE:
+            case FLOAT_VALUE:
+            case DOUBLE_VALUE:
+            case TEXT_VALUE:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return The number of the value node or null if the node is not a number value node
+     */
+    private static DataObject createConstantNumber(Node node) {
+        switch(node.getNodeType()) {
+            case INT_VALUE:
+                return new DataObject().setInt(((IntValueNode)node).getInt());
+            case LONG_VALUE:
+                return new DataObject().setLong(((LongValueNode)node).getLong());
+            case FLOAT_VALUE:
+                return new DataObject().setFloat(((FloatValueNode)node).getFloat());
+            case DOUBLE_VALUE:
+                return new DataObject().setDouble(((DoubleValueNode)node).getDouble());
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return The data type constraint or null if the type constraint is invalid (The error will be reported by the
+     * interpreter)
+     */
+    private static DataObject.DataTypeConstraint tryEvaluateTypeConstraint(String typeConstraint) {
+        if(typeConstraint == null || typeConstraint.isEmpty())
+            return null;
+
+        boolean nullable = typeConstraint.charAt(0) == '?';
+        boolean inverted = typeConstraint.charAt(0) == '!';
+        List<DataObject.DataType> typeValues = new LinkedList<>();
+
+        if(nullable || inverted)
+            typeConstraint = typeConstraint.substring(1);
+
+        for(String type:typeConstraint.split("\\|", -1)) {
+            try {
+                typeValues.add(DataObject.DataType.valueOf(type));
+            }catch(IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        if(nullable)
+            typeValues.add(DataObject.DataType.NULL);
+
+        if(inverted)
+            return DataObject.DataTypeConstraint.fromNotAllowedTypes(typeValues);
+        else
+            return DataObject.DataTypeConstraint.fromAllowedTypes(typeValues);
+    }
+
+    /**
+     * @return The data type constraints (Elements are null for missing or invalid type constraints)
+     */
+    private static DataObject.DataTypeConstraint[] tryEvaluateTypeConstraints(List<String> typeConstraints) {
+        DataObject.DataTypeConstraint[] evaluatedTypeConstraints = new DataObject.DataTypeConstraint[typeConstraints.size()];
+        for(int i = 0;i < evaluatedTypeConstraints.length;i++)
+            evaluatedTypeConstraints[i] = tryEvaluateTypeConstraint(typeConstraints.get(i));
+
+        return evaluatedTypeConstraints;
+    }
+
     public interface Node extends Iterable<Node> {
         List<Node> getChildren();
         NodeType getNodeType();
@@ -611,6 +907,15 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
     public static final class UnprocessedVariableNameNode extends ChildlessNode {
         private final String variableName;
 
+        /**
+         * Cached result of the LangInterpreter (Is not part of the AST)
+         */
+        private volatile ResolvedVariableName resolvedVariableName;
+        /**
+         * Frame slot which was assigned by the resolver pass of the LangInterpreter (Is not part of the AST)
+         */
+        private volatile LangFrameLayout.Slot frameSlot;
+
         public UnprocessedVariableNameNode(CodePosition pos, String variableName) {
             super(pos);
 
@@ -626,6 +931,45 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return variableName;
         }
 
+        /**
+         * @return The cached resolved node or null if the node was resolved for a different shape version of a variable map
+         */
+        Node getResolvedVariableName(long variableShapeVersion) {
+            ResolvedVariableName resolvedVariableName = this.resolvedVariableName;
+            if(resolvedVariableName == null || resolvedVariableName.variableShapeVersion != variableShapeVersion)
+                return null;
+
+            return resolvedVariableName.node;
+        }
+
+        void setResolvedVariableName(long variableShapeVersion, Node node) {
+            resolvedVariableName = new ResolvedVariableName(variableShapeVersion, node);
+        }
+
+        /**
+         * @return The frame slot or null if the variable name is dynamic or if the node is not part of a resolved function body
+         */
+        LangFrameLayout.Slot getFrameSlot() {
+            return frameSlot;
+        }
+
+        void setFrameSlot(LangFrameLayout.Slot frameSlot) {
+            this.frameSlot = frameSlot;
+        }
+
+        /**
+         * Immutable in order to be safely shared between threads
+         */
+        private static final class ResolvedVariableName {
+            private final long variableShapeVersion;
+            private final Node node;
+
+            private ResolvedVariableName(long variableShapeVersion, Node node) {
+                this.variableShapeVersion = variableShapeVersion;
+                this.node = node;
+            }
+        }
+
         @Override
         public void optimize() {}
 
@@ -661,6 +1005,16 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         private final String variableName;
         private final String typeConstraint;
 
+        /**
+         * Cached member index of the last member access of the LangInterpreter (Is not part of the AST)
+         */
+        private volatile CachedMemberIndex cachedMemberIndex;
+
+        /**
+         * Type constraint which was evaluated during the optimization (Is not part of the AST)
+         */
+        private DataObject.DataTypeConstraint evaluatedTypeConstraint;
+
         public VariableNameNode(CodePosition pos, String variableName, String typeConstraint) {
             super(pos);
 
@@ -684,8 +1038,45 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return typeConstraint;
         }
 
+        /**
+         * @return The evaluated type constraint or null if the type constraint was not evaluated
+         */
+        DataObject.DataTypeConstraint getEvaluatedTypeConstraint() {
+            return evaluatedTypeConstraint;
+        }
+
+        /**
+         * @return The cached member index or -1 if the member was accessed with a different shape
+         */
+        int getCachedMemberIndex(DataObject.MemberShape shape) {
+            CachedMemberIndex cachedMemberIndex = this.cachedMemberIndex;
+            if(cachedMemberIndex == null || cachedMemberIndex.shape != shape)
+                return -1;
+
+            return cachedMemberIndex.index;
+        }
+
+        void setCachedMemberIndex(DataObject.MemberShape shape, int index) {
+            cachedMemberIndex = new CachedMemberIndex(shape, index);
+        }
+
+        /**
+         * Immutable in order to be safely shared between threads
+         */
+        private static final class CachedMemberIndex {
+            private final DataObject.MemberShape shape;
+            private final int index;
+
+            private CachedMemberIndex(DataObject.MemberShape shape, int index) {
+                this.shape = shape;
+                this.index = index;
+            }
+        }
+
         @Override
-        public void optimize() {}
+        public void optimize() {
+            evaluatedTypeConstraint = AbstractSyntaxTree.tryEvaluateTypeConstraint(typeConstraint);
+        }
 
         @Override
         public String toString() {
@@ -945,6 +1336,11 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         private final AbstractSyntaxTree functionBody;
         private final CodePosition pos;
 
+        /**
+         * Return value type constraint which was evaluated during the optimization (Is not part of the AST)
+         */
+        private DataObject.DataTypeConstraint evaluatedReturnValueTypeConstraint;
+
         public FunctionDefinitionNode(CodePosition pos, String functionName, boolean overloaded, boolean combinator,
                                       String docComment, List<Node> parameterList, String returnValueTypeConstraint,
                                       AbstractSyntaxTree functionBody) {
@@ -993,12 +1389,22 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return returnValueTypeConstraint;
         }
 
+        /**
+         * @return The evaluated return value type constraint or null if the type constraint was not evaluated
+         */
+        DataObject.DataTypeConstraint getEvaluatedReturnValueTypeConstraint() {
+            return evaluatedReturnValueTypeConstraint;
+        }
+
         public AbstractSyntaxTree getFunctionBody() {
             return functionBody;
         }
 
         @Override
         public void optimize() {
+            parameterList.forEach(Node::optimize);
+            evaluatedReturnValueTypeConstraint = AbstractSyntaxTree.tryEvaluateTypeConstraint(returnValueTypeConstraint);
+
             functionBody.optimizeAST();
         }
 
@@ -1229,7 +1635,7 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         private final CodePosition pos;
 
         public IfStatementNode(CodePosition pos, List<IfStatementPartNode> nodes) {
-            this.nodes = nodes;
+            this.nodes = new ArrayList<>(nodes);
 
             this.pos = pos;
         }
@@ -1256,6 +1662,32 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         @Override
         public void optimize() {
             nodes.forEach(IfStatementPartNode::optimize);
+
+            //Remove parts with a constant false condition and replace the first part with a constant true condition
+            //with an else part (At least one part must be kept, because an empty if statement is invalid)
+            int i = 0;
+            while(i < nodes.size()) {
+                IfStatementPartNode node = nodes.get(i);
+                if(node.getNodeType() != NodeType.IF_STATEMENT_PART_IF) {
+                    i++;
+
+                    continue;
+                }
+
+                Boolean conditionOutput = AbstractSyntaxTree.tryEvaluateConstantCondition(((IfStatementPartIfNode)node).getCondition());
+                if(conditionOutput == null) {
+                    i++;
+                }else if(conditionOutput) {
+                    nodes.set(i, new IfStatementPartElseNode(node.getPos(), node.getIfBody()));
+                    nodes.subList(i + 1, nodes.size()).clear();
+
+                    break;
+                }else if(nodes.size() > 1) {
+                    nodes.remove(i);
+                }else {
+                    i++;
+                }
+            }
         }
 
         @Override
@@ -2344,6 +2776,11 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         private final OperatorType nodeType;
         private final CodePosition pos;
 
+        /**
+         * Executable node of the self-specializing execution engine of the LangInterpreter (Is not part of the AST)
+         */
+        private volatile LangExecutableNode executableNode;
+
         /**
          * For ternary operator
          */
@@ -2479,10 +2916,25 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return operator.getOperatorType();
         }
 
+        LangExecutableNode getExecutableNode() {
+            return executableNode;
+        }
+
+        void setExecutableNode(LangExecutableNode executableNode) {
+            this.executableNode = executableNode;
+        }
+
         @Override
         public void optimize() {
+            Node leftSideOperand = nodes.get(0);
             nodes.replaceAll(AbstractSyntaxTree::optimizeNode);
 
+            //Constant operations must not be folded into the left side operand of the member access operator,
+            //because a text value node left side operand is treated as "super"
+            if(operator == Operator.MEMBER_ACCESS && leftSideOperand instanceof OperationNode &&
+                    nodes.get(0).getNodeType() == NodeType.TEXT_VALUE)
+                nodes.set(0, leftSideOperand);
+
             if(operator == Operator.NON || operator == Operator.MATH_NON || operator == Operator.CONDITIONAL_NON) {
                 Node node = nodes.get(0);
                 if(node instanceof OperationNode) {
@@ -3328,6 +3780,11 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
         private final List<String> memberNames;
         private final List<String> typeConstraints;
 
+        /**
+         * Type constraints which were evaluated during the optimization (Is not part of the AST)
+         */
+        private DataObject.DataTypeConstraint[] evaluatedTypeConstraints;
+
         public StructDefinitionNode(CodePosition pos, String structName, List<String> memberNames,
                                     List<String> typeConstraints) {
             super(pos);
@@ -3350,13 +3807,22 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return typeConstraints;
         }
 
+        /**
+         * @return The evaluated type constraint or null if the type constraint was not evaluated
+         */
+        DataObject.DataTypeConstraint getEvaluatedTypeConstraint(int index) {
+            return evaluatedTypeConstraints == null?null:evaluatedTypeConstraints[index];
+        }
+
         @Override
         public NodeType getNodeType() {
             return NodeType.STRUCT_DEFINITION;
         }
 
         @Override
-        public void optimize() {}
+        public void optimize() {
+            evaluatedTypeConstraints = AbstractSyntaxTree.tryEvaluateTypeConstraints(typeConstraints);
+        }
 
         @Override
         public String toString() {
@@ -3436,6 +3902,15 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
          */
         private final List<AbstractSyntaxTree.Node> parentClasses;
 
+        /**
+         * Type constraints which were evaluated during the optimization (Is not part of the AST)
+         */
+        private DataObject.DataTypeConstraint[] evaluatedStaticMemberTypeConstraints;
+        /**
+         * Type constraints which were evaluated during the optimization (Is not part of the AST)
+         */
+        private DataObject.DataTypeConstraint[] evaluatedMemberTypeConstraints;
+
         public ClassDefinitionNode(CodePosition pos, String className, List<String> staticMemberNames,
                                    List<String> staticMemberTypeConstraints, List<Node> staticMemberValues,
                                    List<Boolean> staticMemberFinalFlag, List<Visibility> staticMemberVisibility,
@@ -3482,6 +3957,13 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return staticMemberTypeConstraints;
         }
 
+        /**
+         * @return The evaluated type constraint or null if the type constraint was not evaluated
+         */
+        DataObject.DataTypeConstraint getEvaluatedStaticMemberTypeConstraint(int index) {
+            return evaluatedStaticMemberTypeConstraints == null?null:evaluatedStaticMemberTypeConstraints[index];
+        }
+
         public List<Node> getStaticMemberValues() {
             return staticMemberValues;
         }
@@ -3502,6 +3984,13 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
             return memberTypeConstraints;
         }
 
+        /**
+         * @return The evaluated type constraint or null if the type constraint was not evaluated
+         */
+        DataObject.DataTypeConstraint getEvaluatedMemberTypeConstraint(int index) {
+            return evaluatedMemberTypeConstraints == null?null:evaluatedMemberTypeConstraints[index];
+        }
+
         public List<Boolean> getMemberFinalFlag() {
             return memberFinalFlag;
         }
@@ -3545,6 +4034,9 @@ public final class AbstractSyntaxTree implements Iterable<AbstractSyntaxTree.Nod
 
         @Override
         public void optimize() {
+            evaluatedStaticMemberTypeConstraints = AbstractSyntaxTree.tryEvaluateTypeConstraints(staticMemberTypeConstraints);
+            evaluatedMemberTypeConstraints = AbstractSyntaxTree.tryEvaluateTypeConstraints(memberTypeConstraints);
+
             staticMemberValues.replaceAll(AbstractSyntaxTree::optimizeNode);
             methodDefinitions.replaceAll(AbstractSyntaxTree::optimizeNode);
             constructorDefinitions.replaceAll(AbstractSyntaxTree::optimizeNode);
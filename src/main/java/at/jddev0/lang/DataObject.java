@@ -1,5 +1,6 @@
 package at.jddev0.lang;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -147,10 +148,71 @@ public class DataObject {
         return this;
     }
 
+    /**
+     * The bytes of the buffer between its position and its limit are used without a copy (e.g. of a direct buffer or a
+     * MappedByteBuffer)
+     */
+    public DataObject setByteBuffer(ByteBuffer buffer) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+        if(buffer == null)
+            return setNull();
+
+        this.type = checkAndRetType(DataType.BYTE_BUFFER);
+        this.value = new ByteBufferValue(buffer);
+
+        return this;
+    }
+
+    /**
+     * Byte buffers which are backed by a java.nio.ByteBuffer (e.g. a MappedByteBuffer) are copied by this method,
+     * {@link #getByteBufferLength()}, {@link #getByteBufferByte(int)}, {@link #setByteBufferByte(int, byte)}, and
+     * {@link #getByteBufferView()} should be used instead if possible
+     */
     public byte[] getByteBuffer() {
         return value.getByteBuffer();
     }
 
+    public int getByteBufferLength() {
+        return ((ByteBufferValue)value).getLength();
+    }
+
+    public byte getByteBufferByte(int index) {
+        return ((ByteBufferValue)value).getByte(index);
+    }
+
+    /**
+     * @throws java.nio.ReadOnlyBufferException If the byte buffer is read-only
+     */
+    public void setByteBufferByte(int index, byte value) {
+        ((ByteBufferValue)this.value).setByte(index, value);
+    }
+
+    public boolean isByteBufferReadOnly() {
+        return ((ByteBufferValue)value).isReadOnly();
+    }
+
+    /**
+     * @return A ByteBuffer which shares the bytes of the byte buffer
+     */
+    public ByteBuffer getByteBufferView() {
+        return ((ByteBufferValue)value).getByteBufferView();
+    }
+
+    /**
+     * Sets this data object to a slice of the byte buffer: A byte buffer which is backed by a java.nio.ByteBuffer is
+     * not copied, the slice is a view of the same bytes
+     */
+    public DataObject setByteBufferSlice(DataObject byteBufferObject, int fromIndex, int toIndex) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+
+        this.type = checkAndRetType(DataType.BYTE_BUFFER);
+        this.value = ((ByteBufferValue)byteBufferObject.value).slice(fromIndex, toIndex);
+
+        return this;
+    }
+
     public DataObject setArray(DataObject[] arr) throws DataTypeConstraintViolatedException {
         if(isFinalData())
             return this;
@@ -163,23 +225,147 @@ public class DataObject {
         return this;
     }
 
+    /**
+     * The elements are stored in a primitive array if all elements are INT, LONG, or DOUBLE values of the same type
+     * without modifiers (NULL values are allowed as well)
+     *
+     * @param arr The array must not be used after this call
+     */
+    public DataObject setArrayOfElements(DataObject[] arr) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+        if(arr == null)
+            return setNull();
+
+        this.type = checkAndRetType(DataType.ARRAY);
+        this.value = ArrayValue.ofElements(arr);
+
+        return this;
+    }
+
+    /**
+     * Creates an array of copies of the values, the copies are only allocated if the values can not be stored in a
+     * primitive array
+     */
+    public DataObject setArrayOfElementCopies(List<DataObject> values) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+        if(values == null)
+            return setNull();
+
+        this.type = checkAndRetType(DataType.ARRAY);
+        this.value = ArrayValue.ofElementCopies(values);
+
+        return this;
+    }
+
+    /**
+     * Creates an array of length NULL values without the allocation of a DataObject for every element
+     */
+    public DataObject setArrayOfNullElements(int length) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+
+        this.type = checkAndRetType(DataType.ARRAY);
+        this.value = ArrayValue.ofNullElements(length);
+
+        return this;
+    }
+
+    /**
+     * Elements of the array are not copied, but a primitive array will be copied without the allocation of a DataObject
+     * for every element
+     *
+     * @param arrayObject The array from which the elements from fromIndex (inclusive) to toIndex (exclusive) are used
+     */
+    public DataObject setArrayCopyOfRange(DataObject arrayObject, int fromIndex, int toIndex) throws DataTypeConstraintViolatedException {
+        if(isFinalData())
+            return this;
+
+        this.type = checkAndRetType(DataType.ARRAY);
+        this.value = ((ArrayValue)arrayObject.value).copyOfRange(fromIndex, toIndex);
+
+        return this;
+    }
+
+    /**
+     * @return True if the elements of the array are stored in a primitive array (Elements are plain INT, LONG, DOUBLE, or NULL values)
+     */
+    public boolean isArrayOfPrimitiveElements() {
+        return ((ArrayValue)value).isPrimitiveStorage();
+    }
+
+    /**
+     * Arrays of INT, LONG, or DOUBLE values might be stored in a primitive array which will be converted permanently
+     * by this method, {@link #getArrayLength()}, {@link #getArrayElement(int)}, and
+     * {@link #setArrayElement(int, DataObject)} should be used instead if possible
+     */
     public DataObject[] getArray() {
         return value.getArray();
     }
 
-    public DataObject setList(LinkedList<DataObject> list) throws DataTypeConstraintViolatedException {
+    /**
+     * The storage of the array must not be converted by the caller (Only for the element comparison of LangOperators)
+     */
+    ArrayValue getArrayValue() {
+        return (ArrayValue)value;
+    }
+
+    public int getArrayLength() {
+        return ((ArrayValue)value).getLength();
+    }
+
+    /**
+     * @return A copy of the element at index
+     */
+    public DataObject getArrayElement(int index) {
+        return ((ArrayValue)value).getElement(index);
+    }
+
+    /**
+     * Sets the element at index to a copy of the value
+     */
+    public void setArrayElement(int index, DataObject value) {
+        ((ArrayValue)this.value).setElementCopy(index, value);
+    }
+
+    /**
+     * Sets the element at index to the element (Its identity is not preserved if it is stored in a primitive array)
+     */
+    public void replaceArrayElement(int index, DataObject element) {
+        ((ArrayValue)value).setElement(index, element);
+    }
+
+    /**
+     * A LangArrayDeque is used as the value of this data object without a copy.<br>
+     * All other lists (e.g. a LinkedList) are copied into a new LangArrayDeque, later changes to the provided list
+     * will therefore not be visible in this data object and vice versa (Use {@link #getList()} after this call to
+     * modify the elements)
+     */
+    public DataObject setList(List<DataObject> list) throws DataTypeConstraintViolatedException {
         if(isFinalData())
             return this;
         if(list == null)
             return setNull();
 
         this.type = checkAndRetType(DataType.LIST);
-        this.value = new ListValue(list);
+        this.value = new ListValue(list instanceof LangArrayDeque?(LangArrayDeque<DataObject>)list:new LangArrayDeque<>(list));
 
         return this;
     }
 
-    public LinkedList<DataObject> getList() {
+    /**
+     * @return The list of this data object (Modifications are written through) or null, if this data object is not a LIST
+     */
+    public List<DataObject> getList() {
+        return value.getList();
+    }
+
+    /**
+     * @return The list of this data object as a Deque with constant time indexed access (Modifications are written
+     * through) or null, if this data object is not a LIST
+     */
+    public LangArrayDeque<DataObject> getListDeque() {
         return value.getList();
     }
 
@@ -272,7 +458,7 @@ public class DataObject {
             return this;
 
         this.type = checkAndRetType(DataType.INT);
-        this.value = new IntValue(intValue);
+        this.value = IntValue.valueOf(intValue);
 
         return this;
     }
@@ -293,7 +479,7 @@ public class DataObject {
             return this;
 
         this.type = checkAndRetType(DataType.LONG);
-        this.value = new LongValue(longValue);
+        this.value = LongValue.valueOf(longValue);
 
         return this;
     }
@@ -484,8 +670,7 @@ public class DataObject {
     public boolean isAccessible(LangObject accessingClass) {
         return memberOfClassId == -1 || memberVisibility == null || memberVisibility == Visibility.PUBLIC ||
                 (accessingClass != null && (accessingClass.classId == memberOfClassId ||
-                        (memberVisibility == Visibility.PROTECTED && Arrays.stream(LangObject.CLASS_ID_TO_SUPER_CLASS_IDS.get(accessingClass.classId)).
-                                anyMatch(classId -> classId == memberOfClassId))));
+                        (memberVisibility == Visibility.PROTECTED && accessingClass.isSubclassOfClassId(memberOfClassId))));
     }
 
     @Override
@@ -499,6 +684,10 @@ public class DataObject {
     public static final class DataTypeConstraint {
         private final Set<DataType> types;
         private final boolean allowed;
+        /**
+         * Result of isTypeAllowed() for every data type indexed by the ordinal of the data type
+         */
+        private final boolean[] typeAllowedLookupTable;
 
         public static DataTypeConstraint fromAllowedTypes(Collection<DataType> allowedTypes) {
             return new DataTypeConstraint(allowedTypes, true);
@@ -515,10 +704,15 @@ public class DataObject {
         private DataTypeConstraint(Collection<DataType> types, boolean allowed) {
             this.types = new HashSet<>(types);
             this.allowed = allowed;
+
+            DataType[] dataTypes = DataType.values();
+            typeAllowedLookupTable = new boolean[dataTypes.length];
+            for(DataType dataType:dataTypes)
+                typeAllowedLookupTable[dataType.ordinal()] = this.types.contains(dataType) == allowed;
         }
 
         public boolean isTypeAllowed(DataType type) {
-            return type == null || types.contains(type) == allowed;
+            return type == null || typeAllowedLookupTable[type.ordinal()];
         }
 
         public List<DataType> getAllowedTypes() {
@@ -604,8 +798,32 @@ public class DataObject {
     public static final class Text implements Comparable<Text> {
         public static final Text EMPTY = new Text("");
 
-        private final String cachedStr;
-        private final int[] chars;
+        /**
+         * Texts which are created by concatenation of at least ROPE_MIN_LENGTH chars are ropes: The String is
+         * only created if it is needed
+         */
+        private static final int ROPE_MIN_LENGTH = 256;
+
+        /**
+         * Null if the text is a rope which was not yet flattened
+         */
+        private volatile String cachedStr;
+        /**
+         * The two texts of a rope or null if the text was flattened
+         */
+        private volatile Text[] concatenation;
+        /**
+         * If true, every char of cachedStr is a single code point and all operations can use cachedStr directly
+         */
+        private final boolean surrogateFree;
+        /**
+         * Count of code points
+         */
+        private final int length;
+        /**
+         * Code points of the text (They are only created if the text contains surrogate chars and if they are needed)
+         */
+        private volatile int[] chars;
 
         public static Text fromString(String str) {
             return str == null?null:new Text(str);
@@ -618,131 +836,250 @@ public class DataObject {
             return new Text(new String(Character.toChars(codePoint)));
         }
 
+        private static boolean isSurrogateFree(String str) {
+            for(int i = 0;i < str.length();i++)
+                if(Character.isSurrogate(str.charAt(i)))
+                    return false;
+
+            return true;
+        }
+
+        /**
+         * @param chars The code points of cachedStr or null
+         */
         private Text(String cachedStr, int[] chars) {
             this.cachedStr = cachedStr;
-            this.chars = chars;
+            this.surrogateFree = isSurrogateFree(cachedStr);
+
+            if(surrogateFree) {
+                this.length = cachedStr.length();
+            }else {
+                this.length = chars == null?cachedStr.codePointCount(0, cachedStr.length()):chars.length;
+                this.chars = chars;
+            }
         }
 
         private Text(String cachedStr) {
-            this.cachedStr = cachedStr;
-            this.chars = cachedStr.codePoints().toArray();
+            this(cachedStr, null);
+        }
+
+        /**
+         * Creates a rope (Both texts must be surrogate free)
+         */
+        private Text(Text left, Text right) {
+            this.concatenation = new Text[] {left, right};
+            this.surrogateFree = true;
+            this.length = left.length + right.length;
         }
 
         private Text(int[] chars) {
+            this(codePointsToString(chars), chars);
+        }
+
+        private static String codePointsToString(int[] chars) {
             StringBuilder builder = new StringBuilder(chars.length);
 
             IntStream.of(chars).forEach(builder::appendCodePoint);
 
-            this.cachedStr = builder.toString();
-            this.chars = chars;
+            return builder.toString();
+        }
+
+        private int[] getChars() {
+            int[] chars = this.chars;
+            if(chars == null) {
+                chars = toString().codePoints().toArray();
+                this.chars = chars;
+            }
+
+            return chars;
         }
 
         public int charAt(int index) {
-            return chars[index];
+            if(surrogateFree)
+                return toString().charAt(index);
+
+            return getChars()[index];
         }
 
         public int length() {
-            return chars.length;
+            return length;
+        }
+
+        /**
+         * Long texts are concatenated lazily: The String of the new text will only be created if it is needed (e.g. for charAt())
+         */
+        public Text concat(Text txt) {
+            if(txt.length == 0)
+                return this;
+            if(length == 0)
+                return txt;
+
+            if(surrogateFree && txt.surrogateFree && length + txt.length >= ROPE_MIN_LENGTH)
+                return new Text(this, txt);
+
+            return new Text(toString().concat(txt.toString()));
         }
 
         public Text trim() {
-            return Text.fromString(cachedStr.trim());
+            return Text.fromString(toString().trim());
         }
 
         public Text toLowerCase() {
-            return Text.fromString(cachedStr.toLowerCase(Locale.ENGLISH));
+            return Text.fromString(toString().toLowerCase(Locale.ENGLISH));
         }
 
         public Text toUpperCase() {
-            return Text.fromString(cachedStr.toUpperCase(Locale.ENGLISH));
+            return Text.fromString(toString().toUpperCase(Locale.ENGLISH));
         }
 
         public int indexOf(Text txt) {
-            int index = cachedStr.indexOf(txt.cachedStr);
+            if(surrogateFree)
+                return toString().indexOf(txt.toString());
+
+            int index = toString().indexOf(txt.toString());
             int newIndex = index;
-            for(int i = 0;i <= index;i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            //The index of a match of an empty text might be equal to the length
+            for(int i = 0;i <= index && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     newIndex--;
 
             return newIndex;
         }
 
         public int indexOf(Text txt, int fromIndex) {
+            if(surrogateFree)
+                return toString().indexOf(txt.toString(), fromIndex);
+
             int fromIndexOrig = fromIndex;
-            for(int i = 0;i <= fromIndexOrig && i < cachedStr.length();i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            for(int i = 0;i <= fromIndexOrig && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     fromIndex++;
 
-            int index = cachedStr.indexOf(txt.cachedStr, fromIndex);
+            int index = toString().indexOf(txt.toString(), fromIndex);
             int newIndex = index;
-            for(int i = 0;i <= index;i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            //The index of a match of an empty text might be equal to the length
+            for(int i = 0;i <= index && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     newIndex--;
 
             return newIndex;
         }
 
         public int lastIndexOf(Text txt) {
-            int index = cachedStr.lastIndexOf(txt.cachedStr);
+            if(surrogateFree)
+                return toString().lastIndexOf(txt.toString());
+
+            int index = toString().lastIndexOf(txt.toString());
             int newIndex = index;
-            for(int i = 0;i <= index;i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            //The index of a match of an empty text might be equal to the length
+            for(int i = 0;i <= index && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     newIndex--;
 
             return newIndex;
         }
 
         public int lastIndexOf(Text txt, int fromIndex) {
+            if(surrogateFree)
+                return toString().lastIndexOf(txt.toString(), fromIndex);
+
             int fromIndexOrig = fromIndex;
-            for(int i = 0;i <= fromIndexOrig && i < cachedStr.length();i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            for(int i = 0;i <= fromIndexOrig && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     fromIndex++;
 
-            int index = cachedStr.lastIndexOf(txt.cachedStr, fromIndex);
+            int index = toString().lastIndexOf(txt.toString(), fromIndex);
             int newIndex = index;
-            for(int i = 0;i <= index;i++)
-                if(Character.isLowSurrogate(cachedStr.charAt(i)))
+            //The index of a match of an empty text might be equal to the length
+            for(int i = 0;i <= index && i < toString().length();i++)
+                if(Character.isLowSurrogate(toString().charAt(i)))
                     newIndex--;
 
             return newIndex;
         }
 
         public Text substring(int fromIndex, int toIndex) {
-            return new Text(Arrays.copyOfRange(chars, fromIndex, toIndex));
+            if(surrogateFree && fromIndex >= 0 && fromIndex <= toIndex && toIndex <= length)
+                return new Text(toString().substring(fromIndex, toIndex));
+
+            return new Text(Arrays.copyOfRange(getChars(), fromIndex, toIndex));
         }
 
         public boolean startsWith(Text txt) {
-            return cachedStr.startsWith(txt.cachedStr);
+            return toString().startsWith(txt.toString());
         }
 
         public boolean endsWith(Text txt) {
-            return cachedStr.endsWith(txt.cachedStr);
+            return toString().endsWith(txt.toString());
         }
 
         public boolean isEmpty() {
-            return cachedStr.isEmpty();
+            return length == 0;
         }
 
         public boolean contains(CharSequence str) {
-            return cachedStr.contains(str);
+            return toString().contains(str);
         }
 
         public boolean contains(Text txt) {
-            return cachedStr.contains(txt.cachedStr);
+            return toString().contains(txt.toString());
         }
 
         public int[] toCharArray() {
+            if(surrogateFree)
+                return toString().chars().toArray();
+
+            int[] chars = getChars();
             return Arrays.copyOf(chars, chars.length);
         }
 
         @Override
         public int compareTo(Text txt) {
-            return cachedStr.compareTo(txt.cachedStr);
+            return toString().compareTo(txt.toString());
         }
 
         @Override
         public String toString() {
-            return cachedStr;
+            String str = cachedStr;
+
+            return str == null?flatten():str;
+        }
+
+        /**
+         * The texts of the concatenation are appended iteratively (Ropes can be very deep)
+         */
+        private String flatten() {
+            Text[] concatenation = this.concatenation;
+            if(concatenation == null) //Flattened by another thread
+                return cachedStr;
+
+            StringBuilder builder = new StringBuilder(length);
+
+            Deque<Text> texts = new ArrayDeque<>();
+            texts.push(this);
+            while(!texts.isEmpty()) {
+                Text text = texts.pop();
+
+                String str = text.cachedStr;
+                Text[] textConcatenation = str == null?text.concatenation:null;
+                if(textConcatenation == null) {
+                    //The text was flattened by another thread if str is null
+                    builder.append(str == null?text.cachedStr:str);
+
+                    continue;
+                }
+
+                texts.push(textConcatenation[1]);
+                texts.push(textConcatenation[0]);
+            }
+
+            String str = builder.toString();
+
+            //The String must be set before the concatenation is released
+            cachedStr = str;
+            this.concatenation = null;
+
+            return str;
         }
 
         @Override
@@ -750,12 +1087,12 @@ public class DataObject {
             if(this == o) return true;
             if(o == null || getClass() != o.getClass()) return false;
             Text text = (Text)o;
-            return Objects.equals(cachedStr, text.cachedStr);
+            return Objects.equals(toString(), text.toString());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(cachedStr);
+            return Objects.hashCode(toString());
         }
     }
     public static final class FunctionPointerObject {
@@ -1143,8 +1480,48 @@ public class DataObject {
             return var;
         }
     }
-    public static final class StructObject {
+    /**
+     * The member names of a struct or class with a precomputed hash lookup of the member indices<br>
+     * A shape is created once for a definition and shared by all its instances
+     */
+    public static final class MemberShape {
         private final String[] memberNames;
+        private final Map<String, Integer> memberIndices;
+
+        private MemberShape(String[] memberNames) {
+            this.memberNames = memberNames;
+
+            memberIndices = new HashMap<>(memberNames.length * 4 / 3 + 1);
+            //The first member wins if a member name is present multiple times (Same as a linear search)
+            for(int i = 0;i < memberNames.length;i++)
+                memberIndices.putIfAbsent(memberNames[i], i);
+        }
+
+        public int getMemberCount() {
+            return memberNames.length;
+        }
+
+        public String getMemberName(int index) {
+            return memberNames[index];
+        }
+
+        public String[] getMemberNames() {
+            return Arrays.copyOf(memberNames, memberNames.length);
+        }
+
+        /**
+         * @return Will return -1, if the member was not found
+         */
+        public int getIndexOfMember(String memberName) {
+            Integer index = memberIndices.get(memberName);
+            return index == null?-1:index;
+        }
+    }
+    public static final class StructObject {
+        private final MemberShape shape;
+        /**
+         * Shared with the struct definition
+         */
         private final DataTypeConstraint[] typeConstraints;
         private final DataObject[] members;
         /**
@@ -1159,11 +1536,11 @@ public class DataObject {
         }
 
         public StructObject(String[] memberNames, DataTypeConstraint[] typeConstraints) throws DataTypeConstraintException {
-            this.memberNames = Arrays.copyOf(memberNames, memberNames.length);
-            this.typeConstraints = typeConstraints == null?new DataTypeConstraint[this.memberNames.length]:
+            this.shape = new MemberShape(Arrays.copyOf(memberNames, memberNames.length));
+            this.typeConstraints = typeConstraints == null?new DataTypeConstraint[memberNames.length]:
                     Arrays.copyOf(typeConstraints, typeConstraints.length);
 
-            if(this.memberNames.length != this.typeConstraints.length)
+            if(memberNames.length != this.typeConstraints.length)
                 throw new DataTypeConstraintException("The count of members must be equals to the count of type constraints");
 
             this.members = null;
@@ -1181,15 +1558,15 @@ public class DataObject {
             //Must be set first for isDefinition checks
             this.structBaseDefinition = structBaseDefinition;
 
-            this.memberNames = Arrays.copyOf(structBaseDefinition.memberNames, structBaseDefinition.memberNames.length);
-            this.typeConstraints = Arrays.copyOf(structBaseDefinition.typeConstraints, structBaseDefinition.typeConstraints.length);
-            this.members = new DataObject[this.memberNames.length];
+            this.shape = structBaseDefinition.shape;
+            this.typeConstraints = structBaseDefinition.typeConstraints;
+            this.members = new DataObject[shape.getMemberCount()];
 
-            if(values != null && this.memberNames.length != values.length)
+            if(values != null && this.members.length != values.length)
                 throw new DataTypeConstraintException("The count of members must be equals to the count of values");
 
             for(int i = 0;i < this.members.length;i++) {
-                this.members[i] = new DataObject().setVariableName(this.memberNames[i]);
+                this.members[i] = new DataObject().setVariableName(shape.getMemberName(i));
 
                 if(values != null && values[i] != null)
                     this.members[i].setData(values[i]);
@@ -1203,8 +1580,12 @@ public class DataObject {
             return structBaseDefinition == null;
         }
 
+        public MemberShape getShape() {
+            return shape;
+        }
+
         public String[] getMemberNames() {
-            return Arrays.copyOf(memberNames, memberNames.length);
+            return shape.getMemberNames();
         }
 
         public DataTypeConstraint[] getTypeConstraints() {
@@ -1219,11 +1600,7 @@ public class DataObject {
          * @return Will -1 null, if the member was not found
          */
         public int getIndexOfMember(String memberName) {
-            for(int i = 0;i < memberNames.length;i++)
-                if(memberNames[i].equals(memberName))
-                    return i;
-
-            return -1;
+            return shape.getIndexOfMember(memberName);
         }
 
         public DataTypeConstraint getTypeConstraint(String memberName) throws DataTypeConstraintException {
@@ -1245,6 +1622,16 @@ public class DataObject {
             return members[index];
         }
 
+        /**
+         * @param index The index of the member in the shape of this struct
+         */
+        public DataObject getMember(int index) throws DataTypeConstraintException {
+            if(isDefinition())
+                throw new DataTypeConstraintException("The struct definition is no struct instance and has no member values");
+
+            return members[index];
+        }
+
         public void setMember(String memberName, DataObject dataObject) throws DataTypeConstraintException {
             if(isDefinition())
                 throw new DataTypeConstraintException("The struct definition is no struct instance and has no member values");
@@ -1263,7 +1650,26 @@ public class DataObject {
     }
     public static final class LangObject {
         private static long nextClassId = 0;
-        static final Map<Long, Long[]> CLASS_ID_TO_SUPER_CLASS_IDS = new HashMap<>();
+
+        /**
+         * Bit indices of the operator methods (Without the "op:" prefix), of the reverse operator methods
+         * (Without the "op:r-" prefix), and of the conversion methods (Without the "to:" prefix)
+         */
+        private static final Map<String, Integer> OPERATOR_METHOD_INDICES = new HashMap<>();
+        private static final Map<String, Integer> REVERSE_OPERATOR_METHOD_INDICES = new HashMap<>();
+        private static final Map<String, Integer> CONVERSION_METHOD_INDICES = new HashMap<>();
+        static {
+            int index = 0;
+            for(String methodName:LangInterpreter.OPERATOR_METHOD_NAMES) {
+                if(methodName.startsWith("op:r-"))
+                    REVERSE_OPERATOR_METHOD_INDICES.put(methodName.substring(5), index++);
+                else
+                    OPERATOR_METHOD_INDICES.put(methodName.substring(3), index++);
+            }
+
+            for(String methodName:LangInterpreter.CONVERSION_METHOD_NAMES)
+                CONVERSION_METHOD_INDICES.put(methodName.substring(3), index++);
+        }
 
         public static final LangObject OBJECT_CLASS;
         static {
@@ -1328,17 +1734,39 @@ public class DataObject {
         private int superLevel = 0;
 
         private final long classId;
+        /**
+         * Sorted class ids of the class and of all its super classes (Shared by a class and all its objects)
+         */
+        private final long[] superClassIds;
 
         private final String className;
 
+        /**
+         * The static members, the member arrays, the shapes, and the parent classes are shared by a class and all its objects
+         */
         private final DataObject[] staticMembers;
-        private final String[] memberNames;
+        private final MemberShape staticMemberShape;
+        private final MemberShape memberShape;
         private final DataTypeConstraint[] memberTypeConstraints;
         private final boolean[] memberFinalFlags;
         private final Visibility[] memberVisibility;
         private final LangObject[] memberOfClass;
         private final DataObject[] members;
+        /**
+         * Read-only method table (The methods of objects are bound to the object)
+         */
         private final Map<String, FunctionPointerObject> methods;
+        /**
+         * Read-only method tables of the super classes for each super level [0 is parent, 1 is grandparent, ...]<br>
+         * Shared by a class and all its objects
+         */
+        private final List<Map<String, FunctionPointerObject>> superMethodTables;
+        /**
+         * Flags of the operator and conversion methods (Including inherited methods) with the indices of
+         * OPERATOR_METHOD_INDICES, REVERSE_OPERATOR_METHOD_INDICES, and CONVERSION_METHOD_INDICES<br>
+         * Shared by a class and all its objects
+         */
+        private final BitSet specialMethodFlags;
         private final FunctionPointerObject constructors;
         /**
          * If size = 0: This is the base object<br>
@@ -1397,11 +1825,10 @@ public class DataObject {
 
             HashSet<Long> superClassIds = new HashSet<>();
             superClassIds.add(classId);
-            for(LangObject parentClass:this.parentClasses) {
-                Long[] superSuperClassIds = CLASS_ID_TO_SUPER_CLASS_IDS.get(parentClass.classId);
-                superClassIds.addAll(Arrays.asList(superSuperClassIds));
-            }
-            CLASS_ID_TO_SUPER_CLASS_IDS.put(classId, superClassIds.toArray(new Long[0]));
+            for(LangObject parentClass:this.parentClasses)
+                for(long superClassId:parentClass.superClassIds)
+                    superClassIds.add(superClassId);
+            this.superClassIds = superClassIds.stream().mapToLong(Long::longValue).sorted().toArray();
 
             for(DataObject staticMember:staticMembers) {
                 String staticMemberName = staticMember.getVariableName();
@@ -1442,6 +1869,8 @@ public class DataObject {
                     }
                 }
             }
+            this.staticMemberShape = new MemberShape(Arrays.stream(this.staticMembers).map(DataObject::getVariableName).
+                    toArray(String[]::new));
 
             if(memberNames.length != memberTypeConstraints.length)
                 throw new DataTypeConstraintException("The count of members must be equals to the count of member type constraints");
@@ -1473,7 +1902,7 @@ public class DataObject {
             //TODO allow multi-inheritance (Check if a member is in both super classes)
             int superClassMemberCount = Arrays.stream(parentClasses).
                     mapToInt(parentClass -> parentClass.getMemberNames().length).sum();
-            this.memberNames = Arrays.copyOf(memberNames, memberNames.length + superClassMemberCount);
+            String[] allMemberNames = Arrays.copyOf(memberNames, memberNames.length + superClassMemberCount);
             this.memberTypeConstraints = Arrays.copyOf(memberTypeConstraints, memberTypeConstraints.length + superClassMemberCount);
             this.memberFinalFlags = Arrays.copyOf(memberFinalFlags, memberFinalFlags.length + superClassMemberCount);
             this.memberVisibility = Arrays.copyOf(memberVisibility, memberVisibility.length + superClassMemberCount);
@@ -1483,19 +1912,20 @@ public class DataObject {
             {
                 int memberIndex = memberNames.length;
                 for(LangObject parentClass:parentClasses) {
-                    for(int i = 0;i < parentClass.getMemberNames().length;i++) {
-                        this.memberNames[memberIndex] = parentClass.getMemberNames()[i];
-                        this.memberTypeConstraints[memberIndex] = parentClass.getMemberTypeConstraints()[i];
-                        this.memberFinalFlags[memberIndex] = parentClass.getMemberFinalFlags()[i];
-                        this.memberVisibility[memberIndex] = parentClass.getMemberVisibility()[i];
+                    for(int i = 0;i < parentClass.memberShape.getMemberCount();i++) {
+                        allMemberNames[memberIndex] = parentClass.memberShape.getMemberName(i);
+                        this.memberTypeConstraints[memberIndex] = parentClass.memberTypeConstraints[i];
+                        this.memberFinalFlags[memberIndex] = parentClass.memberFinalFlags[i];
+                        this.memberVisibility[memberIndex] = parentClass.memberVisibility[i];
                         this.memberOfClass[memberIndex] = parentClass;
 
                         memberIndex++;
                     }
                 }
             }
+            this.memberShape = new MemberShape(allMemberNames);
 
-            this.methods = new HashMap<>();
+            Map<String, FunctionPointerObject> methodTable = new HashMap<>();
             List<String> methodNames = new ArrayList<>(methods.keySet());
             for(String methodName:methodNames) {
                 FunctionPointerObject overloadedMethods = methods.get(methodName);
@@ -1516,7 +1946,7 @@ public class DataObject {
                             new FunctionPointerObject.InternalFunction(internalFunctions.get(i),
                                     this, overloadedMethodVisibility.get(i)), 0));
                 overloadedMethods = overloadedMethods.withFunctions(internalFunctions);
-                this.methods.put(methodName, overloadedMethods);
+                methodTable.put(methodName, overloadedMethods);
 
                 //Check override flag
                 List<LangBaseFunction> functionSignatures = overloadedMethods.getFunctions().stream().
@@ -1564,9 +1994,9 @@ public class DataObject {
             {
                 for(LangObject parentClass:parentClasses) {
                     parentClass.getMethods().forEach((k, v) -> {
-                        FunctionPointerObject overloadedMethods = this.methods.get(k);
+                        FunctionPointerObject overloadedMethods = methodTable.get(k);
                         if(overloadedMethods == null) {
-                            this.methods.put(k, v.withMappedFunctions(internalFunction -> new FunctionPointerObject.InternalFunction(
+                            methodTable.put(k, v.withMappedFunctions(internalFunction -> new FunctionPointerObject.InternalFunction(
                                     internalFunction, internalFunction.getSuperLevel() + 1)));
 
                             return;
@@ -1609,12 +2039,37 @@ public class DataObject {
                             }
                         }
 
-                        this.methods.put(k, overloadedMethods.withAddedFunctions(v.
+                        methodTable.put(k, overloadedMethods.withAddedFunctions(v.
                                 withMappedFunctions(internalFunction -> new FunctionPointerObject.InternalFunction(
                                         internalFunction, internalFunction.getSuperLevel() + 1))));
                     });
                 }
             }
+            this.methods = Collections.unmodifiableMap(methodTable);
+
+            this.specialMethodFlags = new BitSet();
+            for(String methodName:methodTable.keySet()) {
+                Integer index = null;
+                if(methodName.startsWith("op:r-"))
+                    index = REVERSE_OPERATOR_METHOD_INDICES.get(methodName.substring(5));
+                else if(methodName.startsWith("op:"))
+                    index = OPERATOR_METHOD_INDICES.get(methodName.substring(3));
+                else if(methodName.startsWith("to:"))
+                    index = CONVERSION_METHOD_INDICES.get(methodName.substring(3));
+
+                if(index != null)
+                    this.specialMethodFlags.set(index);
+            }
+
+            List<Map<String, FunctionPointerObject>> superMethodTables = new ArrayList<>();
+            for(int superLevel = 0;;superLevel++) {
+                Map<String, FunctionPointerObject> superMethodTable = createSuperMethodTable(parentClasses, superLevel);
+                if(superMethodTable == null)
+                    break;
+
+                superMethodTables.add(Collections.unmodifiableMap(superMethodTable));
+            }
+            this.superMethodTables = Collections.unmodifiableList(superMethodTables);
 
             if(constructors.getOverloadedFunctionCount() != constructorVisibility.size())
                 throw new DataTypeConstraintException("The count of constructors must be equals to the count of constructor visibility");
@@ -1666,29 +2121,34 @@ public class DataObject {
             this.classBaseDefinition = classBaseDefinition;
 
             this.classId = classBaseDefinition.classId;
+            this.superClassIds = classBaseDefinition.superClassIds;
 
             this.className = classBaseDefinition.className;
 
             //No copies, because static members should be the same across all objects
-            this.staticMembers = Arrays.copyOf(classBaseDefinition.staticMembers, classBaseDefinition.staticMembers.length);
+            this.staticMembers = classBaseDefinition.staticMembers;
+            this.staticMemberShape = classBaseDefinition.staticMemberShape;
 
-            this.memberNames = Arrays.copyOf(classBaseDefinition.memberNames, classBaseDefinition.memberNames.length);
-            this.memberTypeConstraints = Arrays.copyOf(classBaseDefinition.memberTypeConstraints, classBaseDefinition.memberTypeConstraints.length);
-            this.memberFinalFlags = Arrays.copyOf(classBaseDefinition.memberFinalFlags, classBaseDefinition.memberFinalFlags.length);
-            this.memberVisibility = Arrays.copyOf(classBaseDefinition.memberVisibility, classBaseDefinition.memberVisibility.length);
-            this.memberOfClass = Arrays.copyOf(classBaseDefinition.memberOfClass, classBaseDefinition.memberOfClass.length);
+            this.memberShape = classBaseDefinition.memberShape;
+            this.memberTypeConstraints = classBaseDefinition.memberTypeConstraints;
+            this.memberFinalFlags = classBaseDefinition.memberFinalFlags;
+            this.memberVisibility = classBaseDefinition.memberVisibility;
+            this.memberOfClass = classBaseDefinition.memberOfClass;
 
-            this.members = new DataObject[classBaseDefinition.memberNames.length];
+            this.members = new DataObject[memberShape.getMemberCount()];
             for(int i = 0;i < members.length;i++)
                 this.members[i] = new DataObject().setNull().setMemberVisibility(this.memberVisibility[i]).
-                        setMemberOfClassId(this.memberOfClass[i]).setVariableName(this.memberNames[i]);
+                        setMemberOfClassId(this.memberOfClass[i]).setVariableName(memberShape.getMemberName(i));
 
-            this.methods = new HashMap<>(classBaseDefinition.methods);
-            this.methods.replaceAll((k, v) -> new FunctionPointerObject(v, this));
+            Map<String, FunctionPointerObject> methodTable = new HashMap<>(classBaseDefinition.methods);
+            methodTable.replaceAll((k, v) -> new FunctionPointerObject(v, this));
+            this.methods = Collections.unmodifiableMap(methodTable);
+            this.superMethodTables = classBaseDefinition.superMethodTables;
+            this.specialMethodFlags = classBaseDefinition.specialMethodFlags;
 
             this.constructors = new FunctionPointerObject(classBaseDefinition.constructors, this);
 
-            this.parentClasses = Arrays.copyOf(classBaseDefinition.parentClasses, classBaseDefinition.parentClasses.length);
+            this.parentClasses = classBaseDefinition.parentClasses;
         }
 
         public int getSuperLevel() {
@@ -1743,11 +2203,7 @@ public class DataObject {
          * @return Will return -1, if the member was not found
          */
         public int getIndexOfStaticMember(String memberName) {
-            for(int i = 0;i < staticMembers.length;i++)
-                if(staticMembers[i].getVariableName().equals(memberName))
-                    return i;
-
-            return -1;
+            return staticMemberShape.getIndexOfMember(memberName);
         }
 
         public DataObject getStaticMember(String memberName) throws DataTypeConstraintException {
@@ -1758,8 +2214,23 @@ public class DataObject {
             return staticMembers[index];
         }
 
+        /**
+         * @param index The index of the static member in the static member shape of this class or object
+         */
+        public DataObject getStaticMember(int index) {
+            return staticMembers[index];
+        }
+
+        public MemberShape getStaticMemberShape() {
+            return staticMemberShape;
+        }
+
+        public MemberShape getMemberShape() {
+            return memberShape;
+        }
+
         public String[] getMemberNames() {
-            return Arrays.copyOf(memberNames, memberNames.length);
+            return memberShape.getMemberNames();
         }
 
         public DataTypeConstraint[] getMemberTypeConstraints() {
@@ -1782,11 +2253,7 @@ public class DataObject {
          * @return Will return -1, if the member was not found
          */
         public int getIndexOfMember(String memberName) {
-            for(int i = 0;i < members.length;i++)
-                if(members[i].getVariableName().equals(memberName))
-                    return i;
-
-            return -1;
+            return memberShape.getIndexOfMember(memberName);
         }
 
         public DataObject getMember(String memberName) throws DataTypeConstraintException {
@@ -1800,37 +2267,86 @@ public class DataObject {
             return members[index];
         }
 
+        /**
+         * @param index The index of the member in the member shape of this object
+         */
+        public DataObject getMember(int index) throws DataTypeConstraintException {
+            if(isClass())
+                throw new DataTypeConstraintException("The class is no object and has no member values");
+
+            return members[index];
+        }
+
+        /**
+         * @return A read-only view of the methods
+         */
         public Map<String, FunctionPointerObject> getMethods() {
-            return new HashMap<>(methods);
+            return methods;
+        }
+
+        /**
+         * @param operatorName The name of the operator without the "op:" prefix (e.g. "add")
+         * @return True if the "op:" method of the operator is defined (Without a copy of the method name and without a
+         * lookup in the method table)
+         */
+        public boolean hasOperatorMethod(String operatorName) {
+            Integer index = OPERATOR_METHOD_INDICES.get(operatorName);
+            return index != null && specialMethodFlags.get(index);
+        }
+
+        /**
+         * @param operatorName The name of the operator without the "op:r-" prefix (e.g. "add")
+         * @return True if the reverse "op:r-" method of the operator is defined
+         */
+        public boolean hasReverseOperatorMethod(String operatorName) {
+            Integer index = REVERSE_OPERATOR_METHOD_INDICES.get(operatorName);
+            return index != null && specialMethodFlags.get(index);
+        }
+
+        /**
+         * @param conversionName The name of the conversion without the "to:" prefix (e.g. "text")
+         * @return True if the "to:" method of the conversion is defined
+         */
+        public boolean hasConversionMethod(String conversionName) {
+            Integer index = CONVERSION_METHOD_INDICES.get(conversionName);
+            return index != null && specialMethodFlags.get(index);
         }
 
-        private Map<String, FunctionPointerObject> getRawSuperMethods(int superLevel) {
-            Map<String, FunctionPointerObject> rawSuperMethods = new HashMap<>();
+        /**
+         * @return The merged methods of all classes at superLevel above the parentClasses
+         * [0 is parent, 1 is grandparent] or null if there is no class at superLevel
+         */
+        private static Map<String, FunctionPointerObject> createSuperMethodTable(LangObject[] parentClasses, int superLevel) {
+            Map<String, FunctionPointerObject> superMethodTable = null;
             for(LangObject parentClass:parentClasses) {
+                Map<String, FunctionPointerObject> parentMethods;
                 if(superLevel > 0) {
-                    Map<String, FunctionPointerObject> superRawSuperMethods = parentClass.
-                            getRawSuperMethods(superLevel - 1);
-                    superRawSuperMethods.forEach((k, v) -> {
-                        if(rawSuperMethods.containsKey(k))
-                            rawSuperMethods.put(k, rawSuperMethods.get(k).withAddedFunctions(v));
-                        else
-                            rawSuperMethods.put(k, v);
-                    });
+                    if(superLevel - 1 >= parentClass.superMethodTables.size())
+                        continue;
+
+                    parentMethods = parentClass.superMethodTables.get(superLevel - 1);
                 }else {
-                    parentClass.getMethods().forEach((k, v) -> {
-                        if(rawSuperMethods.containsKey(k))
-                            rawSuperMethods.put(k, rawSuperMethods.get(k).withAddedFunctions(v));
-                        else
-                            rawSuperMethods.put(k, v);
-                    });
+                    parentMethods = parentClass.methods;
                 }
+
+                if(superMethodTable == null)
+                    superMethodTable = new HashMap<>();
+
+                for(Map.Entry<String, FunctionPointerObject> entry:parentMethods.entrySet())
+                    superMethodTable.merge(entry.getKey(), entry.getValue(), FunctionPointerObject::withAddedFunctions);
             }
 
-            return rawSuperMethods;
+            return superMethodTable;
         }
 
+        /**
+         * @return A read-only view of the methods of the super classes for the current super level
+         */
         public Map<String, FunctionPointerObject> getSuperMethods() {
-            return getRawSuperMethods(this.superLevel);
+            if(this.superLevel >= superMethodTables.size())
+                return Collections.emptyMap();
+
+            return superMethodTables.get(this.superLevel);
         }
 
         public FunctionPointerObject getConstructors() {
@@ -1884,17 +2400,14 @@ public class DataObject {
             if(!classObject.isClass())
                 return false;
 
-            if(!isClass())
-                return classBaseDefinition.isInstanceOf(classObject);
-
-            if(this.equals(classObject))
-                return true;
-
-            for(LangObject parentClass:parentClasses)
-                if(parentClass.isInstanceOf(classObject))
-                    return true;
+            return isSubclassOfClassId(classObject.classId);
+        }
 
-            return false;
+        /**
+         * @return True if classId is the id of this class (or of the class of this object) or the id of any super class
+         */
+        boolean isSubclassOfClassId(long classId) {
+            return Arrays.binarySearch(superClassIds, classId) >= 0;
         }
 
         @Override
@@ -4,12 +4,15 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -62,10 +65,23 @@ public class DefaultLangPlatformAPI implements ILangPlatformAPI {
         return new BufferedReader(new FileReader(new File(langFile)));
     }
 
+    public long getLangFileLastModified(String langFile) {
+        return new File(langFile).lastModified();
+    }
+
     public InputStream getInputStream(String langFile) throws IOException {
         return new FileInputStream(langFile);
     }
 
+    public FileChannel getFileChannel(String langFile, boolean readWrite) throws IOException {
+        File file = new File(langFile);
+        if(!file.isFile())
+            throw new FileNotFoundException("\"" + langFile + "\" was not found");
+
+        return readWrite?FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE):
+                FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
     public boolean writeLangFile(File langFile, Map<String, String> translationMap, TerminalIO term) {
         try {
             BufferedWriter w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(langFile), StandardCharsets.UTF_8));
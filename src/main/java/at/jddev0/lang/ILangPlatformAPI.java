@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.Map;
 
@@ -41,12 +42,31 @@ public interface ILangPlatformAPI {
      */
     BufferedReader getLangReader(String langFile) throws IOException;
 
+    /**
+     * @param langFile Path to the file
+     * @return Return the modification time of the file or 0 if the modification time is unknown (Return 0 if not implemented)
+     */
+    default long getLangFileLastModified(String langFile) {
+        return 0;
+    }
+
     /**
      * @param langFile Path to the file
      * @return Return an input stream for the file
      */
     InputStream getInputStream(String langFile) throws IOException;
 
+    /**
+     * @param langFile Path to the file
+     * @param readWrite If true, the channel must be opened for reading and writing
+     * @return Return a file channel for the file (Throw a FileNotFoundException if the file does not exist or if it is
+     * not a regular file)
+     * @throws IOException Throw any IOException if the file could not be opened (Throw an IOException if not implemented)
+     */
+    default FileChannel getFileChannel(String langFile, boolean readWrite) throws IOException {
+        throw new IOException("File channels are not supported by this platform");
+    }
+
     /**
      * @param langFile Path to the file
      * @param translationMap The Map of all translations
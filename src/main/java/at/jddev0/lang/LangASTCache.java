@@ -0,0 +1,132 @@
+package at.jddev0.lang;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lang-Module<br>
+ * LRU cache of parsed and optimized ASTs which is shared by all LangInterpreter instances of the JVM<br>
+ * The AST of a Lang file is cached by the absolute path and the modification time of the file, the AST of all other
+ * source code (exec code and files inside modules) is cached by the source code itself<br>
+ * Cached ASTs are executed by multiple interpreters, possibly on different threads, and their nodes still carry
+ * mutable state of the interpreter: resolved variable names, frame slots and the frame layout of function bodies,
+ * cached member indices, and the executable nodes of the self-specializing execution engine. This state is stored in
+ * volatile fields of immutable objects which are validated before use (Shape version of the variable map, member
+ * shape, frame layout identity), so a node whose state was set by another interpreter is never used incorrectly. The
+ * specialization state of executable nodes only changes monotonically.
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+final class LangASTCache {
+    private static final int MAX_ENTRY_COUNT = 256;
+
+    private static final LangASTCache SHARED_CACHE = new LangASTCache(MAX_ENTRY_COUNT);
+
+    private final Map<Object, AbstractSyntaxTree> entries;
+
+    /**
+     * @return The AST cache which is used by all LangInterpreter instances
+     */
+    static LangASTCache getSharedCache() {
+        return SHARED_CACHE;
+    }
+
+    static Object createFileKey(String absolutePath, long lastModified) {
+        return new FileKey(absolutePath, lastModified);
+    }
+
+    static Object createSourceCodeKey(String sourceCode) {
+        return new SourceCodeKey(sourceCode);
+    }
+
+    /**
+     * Line terminators are not modified
+     */
+    static String readSourceCode(BufferedReader lines) throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        char[] buffer = new char[8192];
+        int count;
+        while((count = lines.read(buffer)) != -1)
+            builder.append(buffer, 0, count);
+
+        return builder.toString();
+    }
+
+    private LangASTCache(int maxEntryCount) {
+        entries = new LinkedHashMap<Object, AbstractSyntaxTree>(16, .75f, true) {
+            private static final long serialVersionUID = -6412207474834632148L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, AbstractSyntaxTree> eldest) {
+                return size() > maxEntryCount;
+            }
+        };
+    }
+
+    /**
+     * @return The cached AST or null
+     */
+    synchronized AbstractSyntaxTree get(Object key) {
+        return entries.get(key);
+    }
+
+    /**
+     * The AST must not be modified after it was added to the cache
+     */
+    synchronized void put(Object key, AbstractSyntaxTree ast) {
+        entries.put(Objects.requireNonNull(key), Objects.requireNonNull(ast));
+    }
+
+    private static final class FileKey {
+        private final String absolutePath;
+        private final long lastModified;
+
+        private FileKey(String absolutePath, long lastModified) {
+            this.absolutePath = absolutePath;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj)
+                return true;
+
+            if(!(obj instanceof FileKey))
+                return false;
+
+            FileKey that = (FileKey)obj;
+            return this.lastModified == that.lastModified && this.absolutePath.equals(that.absolutePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(absolutePath, lastModified);
+        }
+    }
+
+    private static final class SourceCodeKey {
+        private final String sourceCode;
+
+        private SourceCodeKey(String sourceCode) {
+            this.sourceCode = sourceCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj)
+                return true;
+
+            return obj instanceof SourceCodeKey && this.sourceCode.equals(((SourceCodeKey)obj).sourceCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return sourceCode.hashCode();
+        }
+    }
+}
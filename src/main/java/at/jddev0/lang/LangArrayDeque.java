@@ -0,0 +1,462 @@
+package at.jddev0.lang;
+
+import java.util.*;
+
+/**
+ * Lang-Module<br>
+ * Storage of LIST values: Circular array which implements List and Deque<br>
+ * Indexed access is in constant time, adding and removing elements at both ends is in amortized constant time, and
+ * adding or removing elements at an index only moves the elements of the shorter side.<br>
+ * It can be used in the same way as a LinkedList, but null elements are permitted in contrast to an ArrayDeque.
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+public final class LangArrayDeque<E> extends AbstractList<E> implements Deque<E>, RandomAccess {
+    private static final int MIN_CAPACITY = 8;
+
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private Object[] elements;
+    /**
+     * Array index of the first element
+     */
+    private int head;
+    private int size;
+
+    public LangArrayDeque() {
+        elements = EMPTY_ELEMENTS;
+    }
+
+    public LangArrayDeque(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        elements = initialCapacity == 0?EMPTY_ELEMENTS:new Object[initialCapacity];
+    }
+
+    public LangArrayDeque(Collection<? extends E> c) {
+        elements = c.toArray();
+        if(elements.getClass() != Object[].class)
+            elements = Arrays.copyOf(elements, elements.length, Object[].class);
+
+        size = elements.length;
+    }
+
+    /**
+     * @return The array index of the element at the given list index
+     */
+    private int arrayIndex(int index) {
+        int arrayIndex = head + index;
+
+        return arrayIndex >= elements.length?arrayIndex - elements.length:arrayIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int arrayIndex) {
+        return (E)elements[arrayIndex];
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void checkPositionIndex(int index) {
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if(minCapacity <= elements.length)
+            return;
+
+        if(minCapacity < 0)
+            throw new OutOfMemoryError("Required list capacity is too large");
+
+        int newCapacity = Math.max(elements.length + (elements.length >> 1), MIN_CAPACITY);
+        if(newCapacity < minCapacity || newCapacity < 0)
+            newCapacity = minCapacity;
+
+        elements = copyElements(newCapacity);
+        head = 0;
+    }
+
+    /**
+     * @return A new array of the given length which contains all elements in list order starting at index 0
+     */
+    private Object[] copyElements(int length) {
+        Object[] newElements = new Object[length];
+
+        int firstPartSize = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPartSize);
+        System.arraycopy(elements, 0, newElements, firstPartSize, size - firstPartSize);
+
+        return newElements;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return elementAt(arrayIndex(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        int arrayIndex = arrayIndex(index);
+        E oldElement = elementAt(arrayIndex);
+        elements[arrayIndex] = element;
+
+        return oldElement;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if(index == size) {
+            addLast(element);
+
+            return;
+        }
+
+        if(index == 0) {
+            addFirst(element);
+
+            return;
+        }
+
+        ensureCapacity(size + 1);
+
+        if(index < (size >> 1)) {
+            //Move the elements before index to the front
+            head = head == 0?elements.length - 1:head - 1;
+            for(int i = 0;i < index;i++)
+                elements[arrayIndex(i)] = elements[arrayIndex(i + 1)];
+        }else {
+            //Move the elements starting at index to the back
+            for(int i = size;i > index;i--)
+                elements[arrayIndex(i)] = elements[arrayIndex(i - 1)];
+        }
+
+        elements[arrayIndex(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] newElements = c.toArray();
+        if(newElements.length == 0)
+            return false;
+
+        ensureCapacity(size + newElements.length);
+
+        for(Object element:newElements)
+            elements[arrayIndex(size++)] = element;
+
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        int arrayIndex = arrayIndex(index);
+        E oldElement = elementAt(arrayIndex);
+
+        if(index < (size >> 1)) {
+            //Move the elements before index to the back
+            for(int i = index;i > 0;i--)
+                elements[arrayIndex(i)] = elements[arrayIndex(i - 1)];
+
+            elements[head] = null;
+            head = arrayIndex(1);
+        }else {
+            //Move the elements after index to the front
+            for(int i = index;i < size - 1;i++)
+                elements[arrayIndex(i)] = elements[arrayIndex(i + 1)];
+
+            elements[arrayIndex(size - 1)] = null;
+        }
+
+        size--;
+        modCount++;
+
+        return oldElement;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if(count <= 0)
+            return;
+
+        for(int i = fromIndex;i < size - count;i++)
+            elements[arrayIndex(i)] = elements[arrayIndex(i + count)];
+
+        for(int i = size - count;i < size;i++)
+            elements[arrayIndex(i)] = null;
+
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for(int i = 0;i < size;i++)
+            if(Objects.equals(o, elements[arrayIndex(i)]))
+                return i;
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for(int i = size - 1;i >= 0;i--)
+            if(Objects.equals(o, elements[arrayIndex(i)]))
+                return i;
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return copyElements(size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if(a.length < size)
+            return (T[])Arrays.copyOf(copyElements(size), size, a.getClass());
+
+        System.arraycopy(copyElements(size), 0, a, 0, size);
+        if(a.length > size)
+            a[size] = null;
+
+        return a;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        ensureCapacity(size + 1);
+
+        head = head == 0?elements.length - 1:head - 1;
+        elements[head] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        ensureCapacity(size + 1);
+
+        elements[arrayIndex(size)] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if(size == 0)
+            throw new NoSuchElementException();
+
+        return pollFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        if(size == 0)
+            throw new NoSuchElementException();
+
+        return pollLast();
+    }
+
+    @Override
+    public E pollFirst() {
+        if(size == 0)
+            return null;
+
+        E element = elementAt(head);
+        elements[head] = null;
+        head = arrayIndex(1);
+        size--;
+        modCount++;
+
+        return element;
+    }
+
+    @Override
+    public E pollLast() {
+        if(size == 0)
+            return null;
+
+        int arrayIndex = arrayIndex(size - 1);
+        E element = elementAt(arrayIndex);
+        elements[arrayIndex] = null;
+        size--;
+        modCount++;
+
+        return element;
+    }
+
+    @Override
+    public E getFirst() {
+        if(size == 0)
+            throw new NoSuchElementException();
+
+        return elementAt(head);
+    }
+
+    @Override
+    public E getLast() {
+        if(size == 0)
+            throw new NoSuchElementException();
+
+        return elementAt(arrayIndex(size - 1));
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0?null:elementAt(head);
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0?null:elementAt(arrayIndex(size - 1));
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if(index == -1)
+            return false;
+
+        remove(index);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if(index == -1)
+            return false;
+
+        remove(index);
+
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> listIterator = listIterator(size);
+
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return listIterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return listIterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                listIterator.remove();
+            }
+        };
+    }
+}
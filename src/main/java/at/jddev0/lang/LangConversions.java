@@ -24,11 +24,12 @@ public final class LangConversions {
 
     private DataObject callConversionMethod(String conversionName, DataObject operand,
                                             CodePosition pos) {
-        String methodName = "to:" + conversionName;
-
-        if(operand.getType() != DataType.OBJECT || operand.getObject().isClass())
+        if(operand.getType() != DataType.OBJECT || operand.getObject().isClass() ||
+                !operand.getObject().hasConversionMethod(conversionName))
             return null;
 
+        String methodName = "to:" + conversionName;
+
         FunctionPointerObject method = operand.getObject().getMethods().get(methodName);
         if(method == null)
             return null;
@@ -41,139 +42,177 @@ public final class LangConversions {
     }
 
     //DataType conversion methods
-    private DataObject.Text convertByteBufferToText(DataObject operand, CodePosition pos) {
-        StringBuilder builder = new StringBuilder();
-        if(operand.getByteBuffer().length > 0) {
+    private void appendByteBufferText(StringBuilder builder, DataObject operand) {
+        if(operand.getByteBufferLength() > 0) {
             final String HEX_DIGITS = "0123456789ABCDEF";
 
             builder.append("0x");
-            for(byte b:operand.getByteBuffer()) {
+            for(int i = 0;i < operand.getByteBufferLength();i++) {
+                byte b = operand.getByteBufferByte(i);
                 builder.append(HEX_DIGITS.charAt((b >> 4) & 0xF));
                 builder.append(HEX_DIGITS.charAt(b & 0xF));
             }
         }else {
             builder.append("<Empty ByteBuffer>");
         }
-        return DataObject.Text.fromString(builder.toString());
     }
 
-    private DataObject.Text convertToTextMaxRecursion(DataObject ele, CodePosition pos) {
+    private void appendMaxRecursionText(StringBuilder builder, DataObject ele) {
         if(ele.getType() == DataType.ARRAY) {
-            return DataObject.Text.fromString("<Array[" + ele.getArray().length + "]>");
+            builder.append("<Array[").append(ele.getArrayLength()).append("]>");
         }else if(ele.getType() == DataType.LIST) {
-            return DataObject.Text.fromString("<List[" + ele.getList().size() + "]>");
+            builder.append("<List[").append(ele.getList().size()).append("]>");
         }else if(ele.getType() == DataType.STRUCT) {
-            return DataObject.Text.fromString(ele.getStruct().isDefinition()?"<Struct[Definition]>":"<Struct[Instance]>");
+            builder.append(ele.getStruct().isDefinition()?"<Struct[Definition]>":"<Struct[Instance]>");
         }else if(ele.getType() == DataType.OBJECT) {
-            return DataObject.Text.fromString(ele.getObject().isClass()?"<Class>":"<Object>");
+            builder.append(ele.getObject().isClass()?"<Class>":"<Object>");
         }else {
-            return DataObject.Text.fromString("...");
+            builder.append("...");
         }
     }
 
-    private DataObject.Text convertArrayToText(DataObject operand, int recursionStep, CodePosition pos) {
-        StringBuilder builder = new StringBuilder("[");
-        if(operand.getArray().length > 0) {
-            for(DataObject ele:operand.getArray()) {
-                builder.append(toText(ele, recursionStep - 1, pos));
+    private void appendArrayText(StringBuilder builder, DataObject operand, int recursionStep, CodePosition pos) {
+        builder.append('[');
+        for(int i = 0;i < operand.getArrayLength();i++) {
+            if(i > 0)
                 builder.append(", ");
-            }
-            builder.delete(builder.length() - 2, builder.length());
+            appendText(builder, operand.getArrayElement(i), recursionStep - 1, pos);
         }
         builder.append(']');
-        return DataObject.Text.fromString(builder.toString());
     }
 
-    private DataObject.Text convertListToText(DataObject operand, int recursionStep, CodePosition pos) {
-        StringBuilder builder = new StringBuilder("[");
-        if(!operand.getList().isEmpty()) {
-            for(DataObject ele:operand.getList()) {
-                builder.append(toText(ele, recursionStep - 1, pos));
+    private void appendListText(StringBuilder builder, DataObject operand, int recursionStep, CodePosition pos) {
+        builder.append('[');
+        boolean first = true;
+        for(DataObject ele:operand.getList()) {
+            if(!first)
                 builder.append(", ");
-            }
-            builder.delete(builder.length() - 2, builder.length());
+            first = false;
+            appendText(builder, ele, recursionStep - 1, pos);
         }
         builder.append(']');
-        return DataObject.Text.fromString(builder.toString());
     }
 
-    private DataObject.Text convertStructToText(DataObject operand, int recursionStep, CodePosition pos) {
-        StringBuilder builder = new StringBuilder("{");
+    private void appendStructText(StringBuilder builder, DataObject operand, int recursionStep, CodePosition pos) {
+        builder.append('{');
         String[] memberNames = operand.getStruct().getMemberNames();
-        if(memberNames.length > 0) {
-            if(operand.getStruct().isDefinition()) {
-                for(String memberName:memberNames)
-                    builder.append(memberName).append(", ");
-            }else {
-                for(String memberName:memberNames) {
-                    builder.append(memberName).append(": ");
-                    builder.append(toText(operand.getStruct().getMember(memberName), recursionStep - 1, pos));
-                    builder.append(", ");
-                }
+        boolean isDefinition = operand.getStruct().isDefinition();
+        for(int i = 0;i < memberNames.length;i++) {
+            if(i > 0)
+                builder.append(", ");
+            builder.append(memberNames[i]);
+            if(!isDefinition) {
+                builder.append(": ");
+                appendText(builder, operand.getStruct().getMember(memberNames[i]), recursionStep - 1, pos);
             }
-
-            builder.delete(builder.length() - 2, builder.length());
         }
         builder.append('}');
-        return DataObject.Text.fromString(builder.toString());
     }
 
-    private DataObject.Text toText(DataObject operand, int recursionStep, CodePosition pos) {
+    /**
+     * Appends the text representation of the operand to the builder without creating intermediate texts for composite values
+     */
+    private void appendText(StringBuilder builder, DataObject operand, int recursionStep, CodePosition pos) {
         DataObject ret = callConversionMethod("text", operand, pos);
         if(ret != null)
             operand = ret;
 
+        appendConvertedText(builder, operand, recursionStep, pos);
+    }
+
+    private void appendConvertedText(StringBuilder builder, DataObject operand, int recursionStep, CodePosition pos) {
         if(recursionStep <= 0) {
-            return convertToTextMaxRecursion(operand, pos);
+            appendMaxRecursionText(builder, operand);
+
+            return;
         }
 
         switch(operand.getType()) {
             case TEXT:
             case ARGUMENT_SEPARATOR:
-                return operand.getText();
+                builder.append(operand.getText().toString());
+                break;
             case BYTE_BUFFER:
-                return convertByteBufferToText(operand, pos);
+                appendByteBufferText(builder, operand);
+                break;
             case ARRAY:
-                return convertArrayToText(operand, recursionStep, pos);
+                appendArrayText(builder, operand, recursionStep, pos);
+                break;
             case LIST:
-                return convertListToText(operand, recursionStep, pos);
+                appendListText(builder, operand, recursionStep, pos);
+                break;
             case VAR_POINTER:
-                DataObject var = operand.getVarPointer().getVar();
-                return DataObject.Text.fromString("-->{" + toText(var, recursionStep - 1, pos) + "}");
+                builder.append("-->{");
+                appendText(builder, operand.getVarPointer().getVar(), recursionStep - 1, pos);
+                builder.append('}');
+                break;
 
             case FUNCTION_POINTER:
                 if(operand.getVariableName() != null)
-                    return DataObject.Text.fromString(operand.getVariableName());
-
-                return DataObject.Text.fromString(operand.getFunctionPointer().toString());
+                    builder.append(operand.getVariableName());
+                else
+                    builder.append(operand.getFunctionPointer().toString());
+                break;
             case STRUCT:
-                return convertStructToText(operand, recursionStep, pos);
+                appendStructText(builder, operand, recursionStep, pos);
+                break;
             case OBJECT:
-                return DataObject.Text.fromString(operand.getObject().toString());
+                builder.append(operand.getObject().toString());
+                break;
             case VOID:
-                return DataObject.Text.EMPTY;
+                break;
             case NULL:
-                return DataObject.Text.fromString("null");
+                builder.append("null");
+                break;
             case INT:
-                return DataObject.Text.fromString(operand.getInt() + "");
+                builder.append(operand.getInt());
+                break;
             case LONG:
-                return DataObject.Text.fromString(operand.getLong() + "");
+                builder.append(operand.getLong());
+                break;
             case FLOAT:
-                return DataObject.Text.fromString(operand.getFloat() + "");
+                builder.append(operand.getFloat());
+                break;
             case DOUBLE:
-                return DataObject.Text.fromString(operand.getDouble() + "");
+                builder.append(operand.getDouble());
+                break;
             case CHAR:
-                return DataObject.Text.fromCodePoint(operand.getChar());
+                builder.appendCodePoint(operand.getChar());
+                break;
             case ERROR:
-                return DataObject.Text.fromString(operand.getError().toString());
+                builder.append(operand.getError().toString());
+                break;
             case TYPE:
-                return DataObject.Text.fromString(operand.getTypeValue().name());
+                builder.append(operand.getTypeValue().name());
+                break;
         }
-
-        return null;
     }
+
     public DataObject.Text toText(DataObject operand, CodePosition pos) {
-        return toText(operand, MAX_TO_TEXT_RECURSION_DEPTH, pos);
+        DataObject ret = callConversionMethod("text", operand, pos);
+        if(ret != null)
+            operand = ret;
+
+        //Texts are returned as is and do not need a builder
+        switch(operand.getType()) {
+            case TEXT:
+            case ARGUMENT_SEPARATOR:
+                return operand.getText();
+            case VOID:
+                return DataObject.Text.EMPTY;
+            case CHAR:
+                return DataObject.Text.fromCodePoint(operand.getChar());
+        }
+
+        StringBuilder builder = new StringBuilder();
+        appendConvertedText(builder, operand, MAX_TO_TEXT_RECURSION_DEPTH, pos);
+        return DataObject.Text.fromString(builder.toString());
+    }
+    /**
+     * Appends the text representation of the operand to the builder (Composite values are appended element by element)
+     */
+    public void appendText(StringBuilder builder, DataObject operand, CodePosition pos) {
+        appendText(builder, operand, MAX_TO_TEXT_RECURSION_DEPTH, pos);
     }
     public Integer toChar(DataObject operand, CodePosition pos) {
         DataObject ret = callConversionMethod("char", operand, pos);
@@ -236,9 +275,9 @@ public final class LangConversions {
             case ERROR:
                 return operand.getError().getErrno();
             case BYTE_BUFFER:
-                return operand.getByteBuffer().length;
+                return operand.getByteBufferLength();
             case ARRAY:
-                return operand.getArray().length;
+                return operand.getArrayLength();
             case LIST:
                 return operand.getList().size();
             case STRUCT:
@@ -283,9 +322,9 @@ public final class LangConversions {
             case ERROR:
                 return (long)operand.getError().getErrno();
             case BYTE_BUFFER:
-                return (long)operand.getByteBuffer().length;
+                return (long)operand.getByteBufferLength();
             case ARRAY:
-                return (long)operand.getArray().length;
+                return (long)operand.getArrayLength();
             case LIST:
                 return (long)operand.getList().size();
             case STRUCT:
@@ -336,9 +375,9 @@ public final class LangConversions {
             case ERROR:
                 return (float)operand.getError().getErrno();
             case BYTE_BUFFER:
-                return (float)operand.getByteBuffer().length;
+                return (float)operand.getByteBufferLength();
             case ARRAY:
-                return (float)operand.getArray().length;
+                return (float)operand.getArrayLength();
             case LIST:
                 return (float)operand.getList().size();
             case STRUCT:
@@ -389,9 +428,9 @@ public final class LangConversions {
             case ERROR:
                 return (double)operand.getError().getErrno();
             case BYTE_BUFFER:
-                return (double)operand.getByteBuffer().length;
+                return (double)operand.getByteBufferLength();
             case ARRAY:
-                return (double)operand.getArray().length;
+                return (double)operand.getArrayLength();
             case LIST:
                 return (double)operand.getList().size();
             case STRUCT:
@@ -409,14 +448,27 @@ public final class LangConversions {
 
         return null;
     }
+    /**
+     * Byte buffers which are backed by a java.nio.ByteBuffer (e.g. a MappedByteBuffer) are copied by this method,
+     * {@link #toByteBufferValue(DataObject, CodePosition) toByteBufferValue()} should be used instead if possible
+     */
     public byte[] toByteBuffer(DataObject operand, CodePosition pos) {
+        DataObject byteBufferObject = toByteBufferValue(operand, pos);
+
+        return byteBufferObject == null?null:byteBufferObject.getByteBuffer();
+    }
+    /**
+     * @return Will return the BYTE_BUFFER value itself (Or the BYTE_BUFFER result of the conversion method) without a
+     * copy of its bytes or null, if the operand can not be converted to a BYTE_BUFFER value
+     */
+    public DataObject toByteBufferValue(DataObject operand, CodePosition pos) {
         DataObject ret = callConversionMethod("byteBuffer", operand, pos);
         if(ret != null)
             operand = ret;
 
         switch(operand.getType()) {
             case BYTE_BUFFER:
-                return operand.getByteBuffer();
+                return operand;
 
             case TEXT:
             case CHAR:
@@ -479,20 +531,20 @@ public final class LangConversions {
 
         return null;
     }
-    public LinkedList<DataObject> toList(DataObject operand, CodePosition pos) {
+    public LangArrayDeque<DataObject> toList(DataObject operand, CodePosition pos) {
         DataObject ret = callConversionMethod("list", operand, pos);
         if(ret != null)
             operand = ret;
 
         switch(operand.getType()) {
             case ARRAY:
-                return Arrays.stream(operand.getArray()).map(DataObject::new).collect(Collectors.toCollection(LinkedList::new));
+                return Arrays.stream(operand.getArray()).map(DataObject::new).collect(Collectors.toCollection(LangArrayDeque::new));
             case LIST:
-                return operand.getList();
+                return operand.getListDeque();
             case STRUCT:
                 try {
                     DataObject operandCopy = operand;
-                    return new LinkedList<>(Arrays.asList(Arrays.stream(operand.getStruct().getMemberNames()).
+                    return new LangArrayDeque<>(Arrays.asList(Arrays.stream(operand.getStruct().getMemberNames()).
                             map(memberName -> new DataObject(operandCopy.getStruct().getMember(memberName))).toArray(DataObject[]::new)));
                 }catch(DataObject.DataTypeConstraintException e) {
                     return null;
@@ -539,9 +591,9 @@ public final class LangConversions {
             case DOUBLE:
                 return operand.getDouble() != 0;
             case BYTE_BUFFER:
-                return operand.getByteBuffer().length > 0;
+                return operand.getByteBufferLength() > 0;
             case ARRAY:
-                return operand.getArray().length > 0;
+                return operand.getArrayLength() > 0;
             case LIST:
                 return !operand.getList().isEmpty();
             case STRUCT:
@@ -616,11 +668,11 @@ public final class LangConversions {
             case DOUBLE:
                 return operand.getDouble();
             case BYTE_BUFFER:
-                return operand.getByteBuffer().length;
+                return operand.getByteBufferLength();
             case ERROR:
                 return operand.getError().getErrno();
             case ARRAY:
-                return operand.getArray().length;
+                return operand.getArrayLength();
             case LIST:
                 return operand.getList().size();
             case STRUCT:
@@ -0,0 +1,415 @@
+package at.jddev0.lang;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import at.jddev0.lang.AbstractSyntaxTree.*;
+import at.jddev0.lang.AbstractSyntaxTree.OperationNode.Operator;
+import at.jddev0.lang.DataObject.DataType;
+
+/**
+ * Lang-Module<br>
+ * Executable node of the self-specializing execution engine<br>
+ * Operation nodes are converted to a tree of executable nodes on the first execution. Every executable operation node
+ * specializes itself on the types of the operands of the first execution and falls back to the generic operation
+ * implementation of the LangInterpreter permanently if a guard of the specialization fails.<br>
+ * INT results of operations are passed to the parent operation as primitive values, a DataObject is only allocated
+ * for the result of the outermost operation.<br>
+ * Variable operands are read directly from the frame slot or from the variable map of the current scope, the conditions
+ * of if statements and of while and until loops are converted to a boolean without the allocation of a DataObject.
+ * All other operands, operators, and statements are interpreted by the LangInterpreter.
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+abstract class LangExecutableNode {
+    /**
+     * Will be returned by {@link #executeInt(LangInterpreter)} if the result is not a new INT value
+     */
+    static final long NO_INT_RESULT = Long.MIN_VALUE;
+
+    /**
+     * @return The executable node which is cached in the operation node
+     */
+    static LangExecutableNode of(OperationNode node) {
+        LangExecutableNode executableNode = node.getExecutableNode();
+        if(executableNode == null) {
+            executableNode = new OperationExecutableNode(node);
+            node.setExecutableNode(executableNode);
+        }
+
+        return executableNode;
+    }
+
+    private static LangExecutableNode ofOperand(Node node) {
+        switch(node.getNodeType()) {
+            case OPERATION:
+            case MATH:
+            case CONDITION:
+                return of((OperationNode)node);
+
+            case INT_VALUE:
+                return new IntValueExecutableNode((IntValueNode)node);
+
+            case UNPROCESSED_VARIABLE_NAME:
+                return new VariableExecutableNode((UnprocessedVariableNameNode)node);
+
+            default:
+                return new GenericExecutableNode(node);
+        }
+    }
+
+    protected final Node node;
+
+    private LangExecutableNode(Node node) {
+        this.node = node;
+    }
+
+    Node getNode() {
+        return node;
+    }
+
+    /**
+     * @return Might return null
+     */
+    abstract DataObject execute(LangInterpreter interpreter);
+
+    /**
+     * Executes the node without the allocation of a DataObject if the result is a new INT value
+     *
+     * @return The INT value or NO_INT_RESULT if the result is a DataObject which must be taken with
+     * {@link LangInterpreter#takeExecutableNodeResult()} (e.g. variables which must not be copied)
+     */
+    long executeInt(LangInterpreter interpreter) {
+        interpreter.setExecutableNodeResult(execute(interpreter));
+
+        return NO_INT_RESULT;
+    }
+
+    /**
+     * Executes the node as condition of an if statement or of a loop without the allocation of a DataObject if the
+     * result is a new INT value
+     */
+    boolean executeBool(LangInterpreter interpreter, CodePosition pos) {
+        long ret = executeInt(interpreter);
+
+        return ret == NO_INT_RESULT?interpreter.conversions.toBool(interpreter.takeExecutableNodeResult(), pos):ret != 0;
+    }
+
+    /**
+     * Nodes which are interpreted by the LangInterpreter without specialization
+     */
+    private static final class GenericExecutableNode extends LangExecutableNode {
+        private GenericExecutableNode(Node node) {
+            super(node);
+        }
+
+        @Override
+        DataObject execute(LangInterpreter interpreter) {
+            return interpreter.interpretNode(null, node);
+        }
+    }
+
+    private static final class IntValueExecutableNode extends LangExecutableNode {
+        private final int value;
+
+        private IntValueExecutableNode(IntValueNode node) {
+            super(node);
+
+            this.value = node.getInt();
+        }
+
+        @Override
+        DataObject execute(LangInterpreter interpreter) {
+            return new DataObject().setInt(value);
+        }
+
+        @Override
+        long executeInt(LangInterpreter interpreter) {
+            return value;
+        }
+    }
+
+    /**
+     * Variable names which are read without the resolution of the variable name if the variable exists
+     */
+    private static final class VariableExecutableNode extends LangExecutableNode {
+        /**
+         * If false, the variable name might be resolved to a pointer dereference or to a composition of variables and
+         * text and is always interpreted by the LangInterpreter
+         */
+        private final boolean plainVariableName;
+
+        private VariableExecutableNode(UnprocessedVariableNameNode node) {
+            super(node);
+
+            String variableName = node.getVariableName();
+            plainVariableName = (variableName.startsWith("$") || variableName.startsWith("&") ||
+                    variableName.startsWith("fp.")) && LangPatterns.matches(variableName, LangPatterns.VAR_NAME_FULL) &&
+                    variableName.indexOf('*') == -1;
+        }
+
+        @Override
+        DataObject execute(LangInterpreter interpreter) {
+            if(plainVariableName) {
+                DataObject variable = interpreter.getAccessibleVariable((UnprocessedVariableNameNode)node);
+                if(variable != null)
+                    return variable;
+            }
+
+            return interpreter.interpretNode(null, node);
+        }
+    }
+
+    private static final class OperationExecutableNode extends LangExecutableNode {
+        private static final int STATE_UNINITIALIZED = 0;
+        private static final int STATE_INT = 1;
+        private static final int STATE_GENERIC = 2;
+        private static final AtomicIntegerFieldUpdater<OperationExecutableNode> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(OperationExecutableNode.class, "state");
+
+        private final Operator operator;
+        /**
+         * Null if the operator can not be specialized
+         */
+        private final LangExecutableNode leftSideOperand;
+        /**
+         * Null if the operator is not binary or can not be specialized
+         */
+        private final LangExecutableNode rightSideOperand;
+        /**
+         * If true, the right side operand is an int value node which does not need to be executed in the int specialization
+         */
+        private final boolean rightSideOperandIntValue;
+        private final int rightSideOperandInt;
+
+        /**
+         * Nodes might be shared between interpreters of different threads (AST cache), therefore the state only changes
+         * monotonically: From STATE_UNINITIALIZED to STATE_INT and from STATE_UNINITIALIZED or STATE_INT to
+         * STATE_GENERIC (The INT specialization checks the types of the operands on every execution anyway)
+         */
+        private volatile int state;
+
+        private OperationExecutableNode(OperationNode node) {
+            super(node);
+
+            this.operator = node.getOperator();
+
+            if(isSpecializable(operator)) {
+                leftSideOperand = ofOperand(node.getLeftSideOperand());
+                rightSideOperand = operator.isBinary()?ofOperand(node.getRightSideOperand()):null;
+            }else {
+                leftSideOperand = null;
+                rightSideOperand = null;
+
+                state = STATE_GENERIC;
+            }
+
+            rightSideOperandIntValue = rightSideOperand instanceof IntValueExecutableNode;
+            rightSideOperandInt = rightSideOperandIntValue?((IntValueExecutableNode)rightSideOperand).value:0;
+        }
+
+        private static boolean isSpecializable(Operator operator) {
+            switch(operator) {
+                case NON:
+                case MATH_NON:
+                case CONDITIONAL_NON:
+                case NOT:
+                case INV:
+                case INC:
+                case DEC:
+                case MUL:
+                case TRUNC_DIV:
+                case FLOOR_DIV:
+                case MOD:
+                case ADD:
+                case SUB:
+                case LSHIFT:
+                case RSHIFT:
+                case RZSHIFT:
+                case BITWISE_AND:
+                case BITWISE_XOR:
+                case BITWISE_OR:
+                case EQUALS:
+                case NOT_EQUALS:
+                case STRICT_EQUALS:
+                case STRICT_NOT_EQUALS:
+                case LESS_THAN:
+                case GREATER_THAN:
+                case LESS_THAN_OR_EQUALS:
+                case GREATER_THAN_OR_EQUALS:
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        DataObject execute(LangInterpreter interpreter) {
+            long ret = executeInt(interpreter);
+
+            return ret == NO_INT_RESULT?interpreter.takeExecutableNodeResult():new DataObject().setInt((int)ret);
+        }
+
+        @Override
+        long executeInt(LangInterpreter interpreter) {
+            OperationNode operationNode = (OperationNode)node;
+
+            if(leftSideOperand == null)
+                return noIntResult(interpreter, interpreter.interpretOperationNodeWithoutSpecialization(operationNode));
+
+            long leftSideOperandInt = interpreter.interpretExecutableNodeInt(leftSideOperand);
+            DataObject leftSideOperandObject = leftSideOperandInt == NO_INT_RESULT?interpreter.takeExecutableNodeResult():null;
+
+            //Java null values are forwarded and non-null values are returned as is
+            if(operator == Operator.NON || operator == Operator.MATH_NON)
+                return leftSideOperandObject == null?leftSideOperandInt:noIntResult(interpreter, leftSideOperandObject);
+
+            if(rightSideOperand == null) {
+                if(state != STATE_GENERIC && (leftSideOperandInt != NO_INT_RESULT || isInt(leftSideOperandObject))) {
+                    setStateInt();
+
+                    return executeInt(leftSideOperandObject == null?(int)leftSideOperandInt:leftSideOperandObject.getInt());
+                }
+
+                setStateGeneric();
+
+                return noIntResult(interpreter, interpreter.interpretOperationNode(operationNode,
+                        toDataObject(leftSideOperandObject, leftSideOperandInt), null, null));
+            }
+
+            if(state != STATE_GENERIC && rightSideOperandIntValue && (leftSideOperandInt != NO_INT_RESULT || isInt(leftSideOperandObject))) {
+                long ret = executeInt(leftSideOperandObject == null?(int)leftSideOperandInt:leftSideOperandObject.getInt(), rightSideOperandInt);
+                if(ret != NO_INT_RESULT) {
+                    setStateInt();
+
+                    return ret;
+                }
+            }
+
+            long rightSideOperandInt = interpreter.interpretExecutableNodeInt(rightSideOperand);
+            DataObject rightSideOperandObject = rightSideOperandInt == NO_INT_RESULT?interpreter.takeExecutableNodeResult():null;
+
+            //The value of the left side operand object must be read after the execution of the right side operand (It might be modified)
+            if(state != STATE_GENERIC && (leftSideOperandInt != NO_INT_RESULT || isInt(leftSideOperandObject)) &&
+                    (rightSideOperandInt != NO_INT_RESULT || isInt(rightSideOperandObject))) {
+                long ret = executeInt(leftSideOperandObject == null?(int)leftSideOperandInt:leftSideOperandObject.getInt(),
+                        rightSideOperandObject == null?(int)rightSideOperandInt:rightSideOperandObject.getInt());
+                if(ret != NO_INT_RESULT) {
+                    setStateInt();
+
+                    return ret;
+                }
+            }
+
+            setStateGeneric();
+
+            return noIntResult(interpreter, interpreter.interpretOperationNode(operationNode,
+                    toDataObject(leftSideOperandObject, leftSideOperandInt), null,
+                    toDataObject(rightSideOperandObject, rightSideOperandInt)));
+        }
+
+        private void setStateInt() {
+            if(state == STATE_UNINITIALIZED)
+                STATE_UPDATER.compareAndSet(this, STATE_UNINITIALIZED, STATE_INT);
+        }
+
+        private void setStateGeneric() {
+            if(state != STATE_GENERIC)
+                state = STATE_GENERIC;
+        }
+
+        private static boolean isInt(DataObject dataObject) {
+            return dataObject != null && dataObject.getType() == DataType.INT;
+        }
+
+        /**
+         * @return The DataObject or a new DataObject for the INT value if the DataObject is null
+         */
+        private static DataObject toDataObject(DataObject dataObject, long intValue) {
+            if(dataObject != null || intValue == NO_INT_RESULT)
+                return dataObject;
+
+            return new DataObject().setInt((int)intValue);
+        }
+
+        private static long noIntResult(LangInterpreter interpreter, DataObject result) {
+            interpreter.setExecutableNodeResult(result);
+
+            return NO_INT_RESULT;
+        }
+
+        /**
+         * Same result as the generic implementation of the unary operator for an INT operand
+         */
+        private long executeInt(int operand) {
+            switch(operator) {
+                case CONDITIONAL_NON:
+                    return operand != 0?1:0;
+                case NOT:
+                    return operand == 0?1:0;
+                case INV:
+                    return -operand;
+                case INC:
+                    return operand + 1;
+                case DEC:
+                    return operand - 1;
+
+                default:
+                    throw new IllegalStateException("Invalid unary operator: " + operator);
+            }
+        }
+
+        /**
+         * Same result as the generic implementation of the binary operator for INT operands
+         *
+         * @return The result or NO_INT_RESULT if the generic implementation must be used (e.g. for error handling)
+         */
+        private long executeInt(int leftSideOperand, int rightSideOperand) {
+            switch(operator) {
+                case MUL:
+                    return leftSideOperand * rightSideOperand;
+                case TRUNC_DIV:
+                    return rightSideOperand == 0?NO_INT_RESULT:leftSideOperand / rightSideOperand;
+                case FLOOR_DIV:
+                    return rightSideOperand == 0?NO_INT_RESULT:Math.floorDiv(leftSideOperand, rightSideOperand);
+                case MOD:
+                    return rightSideOperand == 0?NO_INT_RESULT:leftSideOperand % rightSideOperand;
+                case ADD:
+                    return leftSideOperand + rightSideOperand;
+                case SUB:
+                    return leftSideOperand - rightSideOperand;
+                case LSHIFT:
+                    return leftSideOperand << rightSideOperand;
+                case RSHIFT:
+                    return leftSideOperand >> rightSideOperand;
+                case RZSHIFT:
+                    return leftSideOperand >>> rightSideOperand;
+                case BITWISE_AND:
+                    return leftSideOperand & rightSideOperand;
+                case BITWISE_XOR:
+                    return leftSideOperand ^ rightSideOperand;
+                case BITWISE_OR:
+                    return leftSideOperand | rightSideOperand;
+
+                case EQUALS:
+                case STRICT_EQUALS:
+                    return leftSideOperand == rightSideOperand?1:0;
+                case NOT_EQUALS:
+                case STRICT_NOT_EQUALS:
+                    return leftSideOperand != rightSideOperand?1:0;
+                case LESS_THAN:
+                    return leftSideOperand < rightSideOperand?1:0;
+                case GREATER_THAN:
+                    return leftSideOperand > rightSideOperand?1:0;
+                case LESS_THAN_OR_EQUALS:
+                    return leftSideOperand <= rightSideOperand?1:0;
+                case GREATER_THAN_OR_EQUALS:
+                    return leftSideOperand >= rightSideOperand?1:0;
+
+                default:
+                    throw new IllegalStateException("Invalid binary operator: " + operator);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package at.jddev0.lang;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import at.jddev0.lang.AbstractSyntaxTree.*;
+
+/**
+ * Lang-Module<br>
+ * Frame slots of a function body which were assigned by a resolver pass before the first execution<br>
+ * Every variable name which is not dynamic (Parameters and local variables without pointer dereferencing,
+ * pointer referencing, or module prefix) is assigned to a slot of an array-backed frame. The variable map of the
+ * scope is still the source of truth, a frame slot only stores the result of a variable lookup as long as the
+ * variable map was not modified.
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+final class LangFrameLayout {
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    /**
+     * Runs the resolver pass for the function body if it was not yet resolved
+     *
+     * @return The frame layout which is shared by all functions with the same function body
+     */
+    static LangFrameLayout of(AbstractSyntaxTree functionBody, List<DataObject> parameterList) {
+        LangFrameLayout frameLayout = functionBody.getFrameLayout();
+        if(frameLayout != null)
+            return frameLayout;
+
+        synchronized(functionBody) {
+            frameLayout = functionBody.getFrameLayout();
+            if(frameLayout != null)
+                return frameLayout;
+
+            frameLayout = new LangFrameLayout();
+            for(DataObject parameter:parameterList)
+                frameLayout.getSlot(parameter.getVariableName());
+
+            frameLayout.resolveNodes(functionBody.getChildren());
+
+            //The frame layout must be published after all nodes were resolved
+            functionBody.setFrameLayout(frameLayout);
+
+            return frameLayout;
+        }
+    }
+
+    private LangFrameLayout() {}
+
+    /**
+     * @return The count of slots of a frame for this layout
+     */
+    int getSlotCount() {
+        return slots.size();
+    }
+
+    /**
+     * Variables which are used with the same name share one slot
+     *
+     * @return The slot or null if the variable name is dynamic
+     */
+    private Slot getSlot(String variableName) {
+        if(!isStaticVariableName(variableName))
+            return null;
+
+        return slots.computeIfAbsent(variableName, key -> new Slot(this, slots.size()));
+    }
+
+    /**
+     * LangPatterns: ((\$|&|fp\.)\w+)
+     */
+    private static boolean isStaticVariableName(String variableName) {
+        if(variableName == null)
+            return false;
+
+        int i;
+        if(variableName.startsWith("fp."))
+            i = 3;
+        else if(variableName.startsWith("$") || variableName.startsWith("&"))
+            i = 1;
+        else
+            return false;
+
+        if(i == variableName.length())
+            return false;
+
+        for(;i < variableName.length();i++) {
+            char c = variableName.charAt(i);
+            if(!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_'))
+                return false;
+        }
+
+        return true;
+    }
+
+    private void resolveNodes(List<Node> nodes) {
+        if(nodes == null)
+            return;
+
+        for(Node node:nodes)
+            resolveNode(node);
+    }
+
+    private void resolveNode(Node node) {
+        if(node == null)
+            return;
+
+        switch(node.getNodeType()) {
+            case UNPROCESSED_VARIABLE_NAME:
+                UnprocessedVariableNameNode variableNameNode = (UnprocessedVariableNameNode)node;
+                Slot slot = getSlot(variableNameNode.getVariableName());
+                if(slot != null)
+                    variableNameNode.setFrameSlot(slot);
+
+                break;
+
+            case FUNCTION_DEFINITION:
+            case STRUCT_DEFINITION:
+            case CLASS_DEFINITION:
+                //Function bodies, methods, and member values are not executed in the frame of this function body
+                break;
+
+            case IF_STATEMENT_PART_IF:
+                resolveNode(((IfStatementPartIfNode)node).getCondition());
+                resolveNodes(((IfStatementPartNode)node).getIfBody().getChildren());
+                break;
+
+            case IF_STATEMENT_PART_ELSE:
+                resolveNodes(((IfStatementPartNode)node).getIfBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_PART_WHILE:
+                resolveNode(((LoopStatementPartWhileNode)node).getCondition());
+                resolveNodes(((LoopStatementPartNode)node).getLoopBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_PART_UNTIL:
+                resolveNode(((LoopStatementPartUntilNode)node).getCondition());
+                resolveNodes(((LoopStatementPartNode)node).getLoopBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_PART_REPEAT:
+                resolveNode(((LoopStatementPartRepeatNode)node).getVarPointerNode());
+                resolveNode(((LoopStatementPartRepeatNode)node).getRepeatCountNode());
+                resolveNodes(((LoopStatementPartNode)node).getLoopBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_PART_FOR_EACH:
+                resolveNode(((LoopStatementPartForEachNode)node).getVarPointerNode());
+                resolveNode(((LoopStatementPartForEachNode)node).getCompositeOrTextNode());
+                resolveNodes(((LoopStatementPartNode)node).getLoopBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_PART_LOOP:
+            case LOOP_STATEMENT_PART_ELSE:
+                resolveNodes(((LoopStatementPartNode)node).getLoopBody().getChildren());
+                break;
+
+            case LOOP_STATEMENT_CONTINUE_BREAK:
+                resolveNode(((LoopStatementContinueBreakStatement)node).getNumberNode());
+                break;
+
+            case TRY_STATEMENT_PART_CATCH:
+                resolveNodes(((TryStatementPartCatchNode)node).getExceptions());
+                resolveNodes(((TryStatementPartNode)node).getTryBody().getChildren());
+                break;
+
+            case TRY_STATEMENT_PART_TRY:
+            case TRY_STATEMENT_PART_SOFT_TRY:
+            case TRY_STATEMENT_PART_NON_TRY:
+            case TRY_STATEMENT_PART_ELSE:
+            case TRY_STATEMENT_PART_FINALLY:
+                resolveNodes(((TryStatementPartNode)node).getTryBody().getChildren());
+                break;
+
+            default:
+                resolveNodes(node.getChildren());
+                break;
+        }
+    }
+
+    /**
+     * Immutable in order to be safely shared between threads
+     */
+    static final class Slot {
+        private final LangFrameLayout frameLayout;
+        private final int index;
+
+        private Slot(LangFrameLayout frameLayout, int index) {
+            this.frameLayout = frameLayout;
+            this.index = index;
+        }
+
+        LangFrameLayout getFrameLayout() {
+            return frameLayout;
+        }
+
+        int getIndex() {
+            return index;
+        }
+    }
+}
@@ -3,8 +3,8 @@ package at.jddev0.lang;
 import java.io.*;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import at.jddev0.io.TerminalIO;
 import at.jddev0.io.TerminalIO.Level;
@@ -63,15 +63,25 @@ public final class LangInterpreter {
     //DATA
     private final List<Data> data = new ArrayList<>();
 
+    //Result of an executable node which was executed without an INT result
+    private DataObject executableNodeResult;
+
+    //Return value of the last callFunctionPointer() call if it was newly created and is not referenced anywhere else
+    private DataObject freshCallReturnValue;
+    //Return value of the last function call node of the current statement if it is not referenced anywhere else,
+    //it can be returned or bound to a parameter without another copy
+    private DataObject unsharedReturnValue;
+
+
+    //Statistics of the resolution cache of UnprocessedVariableNameNodes
+    private long variableNameResolutionCacheHitCount;
+    private long variableNameResolutionCacheMissCount;
+
     //Lang Standard implementation data
-    final Map<String, DataObject> standardTypes = new HashMap<>();
+    final Map<String, DataObject> standardTypes;
 
     //Predefined functions & linker functions (= Predefined functions)
-    Map<String, FunctionPointerObject> funcs = new HashMap<>();
-    {
-        LangPredefinedFunctions.addPredefinedFunctions(funcs);
-        LangPredefinedFunctions.addLinkerFunctions(funcs);
-    }
+    Map<String, FunctionPointerObject> funcs;
     public final LangOperators operators = new LangOperators(this);
     public final LangConversions conversions = new LangConversions(this);
     public final LangVars langVars = new LangVars(this);
@@ -102,12 +112,39 @@ public final class LangInterpreter {
      * @param langArgs can be null
      */
     public LangInterpreter(String langPath, String langFile, TerminalIO term, ILangPlatformAPI langPlatformAPI, String[] langArgs) {
+        this(LangRuntimeImage.getDefault(), langPath, langFile, term, langPlatformAPI, langArgs);
+    }
+    /**
+     * @param runtimeImage The Lang standard implementation will be interpreted if runtimeImage is null
+     * @param langFile can be null
+     * @param term can be null
+     * @param langArgs can be null
+     */
+    LangInterpreter(LangRuntimeImage runtimeImage, String langPath, String langFile, TerminalIO term, ILangPlatformAPI langPlatformAPI, String[] langArgs) {
         callStack = new LinkedList<>();
         currentCallStackElement = new StackElement(langPath, langFile, null, null, null, null);
         this.term = term;
         this.langPlatformAPI = langPlatformAPI;
 
-        initLangStandard();
+        if(runtimeImage == null) {
+            standardTypes = new HashMap<>();
+
+            funcs = new HashMap<>();
+            LangPredefinedFunctions.addPredefinedFunctions(funcs);
+            LangPredefinedFunctions.addLinkerFunctions(funcs);
+
+            initLangStandard();
+        }else {
+            //Standard types are never modified after the initialization and can therefore be shared
+            standardTypes = runtimeImage.getStandardTypes();
+            //Lang vars of the standard types were already finalized by the bootstrap interpreter of the runtime image
+            langVars.setConstantLangVars(runtimeImage.createConstantLangVars());
+
+            funcs = new HashMap<>(runtimeImage.getFuncs());
+
+            isInitializingLangStandardImplementation = false;
+        }
+
         enterScope(langArgs);
     }
 
@@ -115,6 +152,48 @@ public final class LangInterpreter {
         return parser.parseLines(lines);
     }
 
+    /**
+     * Same as {@link #parseLines(BufferedReader) parseLines()}, but the AST will be taken from the AST cache which is
+     * shared by all LangInterpreter instances of the JVM if the astCache flag is set<br>
+     * The parser position vars must be reset before the lines are parsed
+     *
+     * @param langFile The absolute path of the file from which the lines are read or null (The source code is used
+     *                 as cache key if langFile is null or if the modification time of the file is unknown)
+     */
+    AbstractSyntaxTree parseLinesCached(BufferedReader lines, String langFile) throws IOException {
+        if(!executionFlags.astCache)
+            return parseLines(lines);
+
+        LangASTCache astCache = LangASTCache.getSharedCache();
+
+        long lastModified = langFile == null?0:langPlatformAPI.getLangFileLastModified(langFile);
+
+        Object key;
+        AbstractSyntaxTree ast;
+        if(lastModified > 0) {
+            key = LangASTCache.createFileKey(langFile, lastModified);
+            ast = astCache.get(key);
+            if(ast != null)
+                return ast;
+
+            ast = parseLines(lines);
+        }else {
+            String sourceCode = LangASTCache.readSourceCode(lines);
+
+            key = LangASTCache.createSourceCodeKey(sourceCode);
+            ast = astCache.get(key);
+            if(ast != null)
+                return ast;
+
+            ast = parseLines(new BufferedReader(new StringReader(sourceCode)));
+        }
+
+        if(ast != null)
+            astCache.put(key, ast);
+
+        return ast;
+    }
+
     public DataObject interpretAST(AbstractSyntaxTree ast) {
         if(ast == null)
             return null;
@@ -127,6 +206,9 @@ public final class LangInterpreter {
             if(executionState.stopExecutionFlag)
                 return null;
 
+            //Return values of function calls of the previous statement might be referenced by variables
+            unsharedReturnValue = null;
+
             ret = interpretNode(null, node);
         }
 
@@ -197,10 +279,63 @@ public final class LangInterpreter {
         parser.resetPositionVars();
     }
 
+    /**
+     * Same error handling as {@link #interpretNode(DataObject, Node) interpretNode()}
+     *
+     * @return Might return null
+     */
+    DataObject interpretExecutableNode(LangExecutableNode executableNode) {
+        if(executionState.forceStopExecutionFlag)
+            throw new StoppedException();
+
+        try {
+            return executableNode.execute(this);
+        }catch(ClassCastException e) {
+            setErrno(InterpretingError.INVALID_AST_NODE, executableNode.getNode().getPos());
+        }
+
+        return null;
+    }
+
+    /**
+     * Same error handling as {@link #interpretNode(DataObject, Node) interpretNode()}
+     *
+     * @return The INT value or {@link LangExecutableNode#NO_INT_RESULT} if the result must be taken with
+     * {@link #takeExecutableNodeResult()}
+     */
+    long interpretExecutableNodeInt(LangExecutableNode executableNode) {
+        if(executionState.forceStopExecutionFlag)
+            throw new StoppedException();
+
+        try {
+            return executableNode.executeInt(this);
+        }catch(ClassCastException e) {
+            setErrno(InterpretingError.INVALID_AST_NODE, executableNode.getNode().getPos());
+        }
+
+        executableNodeResult = null;
+
+        return LangExecutableNode.NO_INT_RESULT;
+    }
+
+    void setExecutableNodeResult(DataObject executableNodeResult) {
+        this.executableNodeResult = executableNodeResult;
+    }
+
+    /**
+     * @return The result of the last executable node which was executed without an INT result (Might return null)
+     */
+    DataObject takeExecutableNodeResult() {
+        DataObject ret = executableNodeResult;
+        executableNodeResult = null;
+
+        return ret;
+    }
+
     /**
      * @return Might return null
      */
-    private DataObject interpretNode(DataObject compositeType, Node node) {
+    DataObject interpretNode(DataObject compositeType, Node node) {
         if(executionState.forceStopExecutionFlag)
             throw new StoppedException();
 
@@ -215,6 +350,12 @@ public final class LangInterpreter {
 
                 switch(node.getNodeType()) {
                     case UNPROCESSED_VARIABLE_NAME:
+                        if(compositeType == null) {
+                            DataObject frameSlotVariable = getFrameSlotVariable((UnprocessedVariableNameNode)node);
+                            if(frameSlotVariable != null)
+                                return frameSlotVariable;
+                        }
+
                         node = processUnprocessedVariableNameNode(compositeType, (UnprocessedVariableNameNode)node);
                         continue loop;
 
@@ -341,9 +482,9 @@ public final class LangInterpreter {
             final boolean supportsPointerDereferencingAndReferencing,
             CodePosition pos
     ) {
-        Stream<String> variableNameStream;
+        Set<String> variableNameSet;
         if(moduleName == null) {
-            variableNameStream = variableNames.stream();
+            variableNameSet = variableNames;
         }else {
             LangModule module = modules.get(moduleName);
             if(module == null) {
@@ -352,12 +493,19 @@ public final class LangInterpreter {
                 return new TextValueNode(pos, "[[" + moduleName + "]]::" + variablePrefixAppendAfterSearch + variableName);
             }
 
-            variableNameStream = module.getExportedVariables().keySet().stream();
+            variableNameSet = module.getExportedVariables().keySet();
         }
 
-        //Sort keySet from large to small length (e.g.: $abcd and $abc and $ab)
-        Optional<String> optionalReturnedVariableName = variableNameStream.filter(variableName::startsWith).min((s0, s1) ->
-            Integer.compare(s1.length(), s0.length()));
+        Optional<String> optionalReturnedVariableName;
+        if(variableNameSet instanceof LangScopeVariableMap.VariableNameSet) {
+            //Prefix search with a runtime which does not depend on the number of variables
+            optionalReturnedVariableName = Optional.ofNullable(((LangScopeVariableMap.VariableNameSet)variableNameSet).
+                    findLongestVariableNamePrefixOf(variableName));
+        }else {
+            //Sort keySet from large to small length (e.g.: $abcd and $abc and $ab)
+            optionalReturnedVariableName = variableNameSet.stream().filter(variableName::startsWith).min((s0, s1) ->
+                    Integer.compare(s1.length(), s0.length()));
+        }
 
         if(!optionalReturnedVariableName.isPresent()) {
             if(supportsPointerDereferencingAndReferencing) {
@@ -449,6 +597,39 @@ public final class LangInterpreter {
         nodes.add(new TextValueNode(pos, variableName.substring(returnedVariableName.length())));
         return new ListNode(nodes);
     }
+    /**
+     * Returns the same variable as processing the node and interpreting the resulting VariableNameNode if the variable exists
+     *
+     * @return The variable or null if the node has no frame slot in the current scope, the variable does not exist, or if the variable is not accessible
+     */
+    /**
+     * Same result as interpretNode() for a variable name which is not resolved to a pointer dereference or to a
+     * composition of variables and text if the variable exists
+     *
+     * @return The variable or null if the variable does not exist or is not accessible
+     */
+    DataObject getAccessibleVariable(UnprocessedVariableNameNode node) {
+        DataObject dataObject = getFrameSlotVariable(node);
+        if(dataObject != null)
+            return dataObject;
+
+        dataObject = getData().var.get(node.getVariableName());
+        if(dataObject == null || !dataObject.isAccessible(currentCallStackElement.getLangClass()))
+            return null;
+
+        return dataObject;
+    }
+    private DataObject getFrameSlotVariable(UnprocessedVariableNameNode node) {
+        LangFrameLayout.Slot frameSlot = node.getFrameSlot();
+        if(frameSlot == null)
+            return null;
+
+        DataObject dataObject = getData().getFrameSlotVariable(frameSlot, node.getVariableName());
+        if(dataObject == null || !dataObject.isAccessible(currentCallStackElement.getLangClass()))
+            return null;
+
+        return dataObject;
+    }
     private Node processUnprocessedVariableNameNode(DataObject compositeType, UnprocessedVariableNameNode node) {
         String variableName = node.getVariableName();
 
@@ -524,6 +705,23 @@ public final class LangInterpreter {
 
                     return new TextValueNode(node.getPos(), variableName);
                 }
+            }else if(!isModuleVariable) {
+                //The resolution only depends on the variable names of the current scope
+                long variableShapeVersion = getData().getVariableShapeVersion();
+                Node resolvedNode = node.getResolvedVariableName(variableShapeVersion);
+                if(resolvedNode != null) {
+                    variableNameResolutionCacheHitCount++;
+
+                    return resolvedNode;
+                }
+
+                variableNameResolutionCacheMissCount++;
+
+                resolvedNode = convertVariableNameToVariableNameNodeOrComposition(null, variableName,
+                        getData().var.keySet(), "", variableName.startsWith("$"), node.getPos());
+                node.setResolvedVariableName(variableShapeVersion, resolvedNode);
+
+                return resolvedNode;
             }else {
                 variableNames = getData().var.keySet();
             }
@@ -581,7 +779,7 @@ public final class LangInterpreter {
                 return node;
 
             if(previousValue.getType() == DataType.OBJECT && (previousValue.getObject().isClass() ||
-                    previousValue.getObject().getMethods().containsKey("op:call")))
+                    previousValue.getObject().hasOperatorMethod("call")))
                 return node;
         }
 
@@ -723,8 +921,7 @@ public final class LangInterpreter {
         try {
             switch(node.getNodeType()) {
                 case IF_STATEMENT_PART_IF:
-                    if(!conversions.toBool(interpretOperationNode(((IfStatementPartIfNode)node).getCondition()),
-                            node.getPos()))
+                    if(!interpretConditionNode(((IfStatementPartIfNode)node).getCondition(), node.getPos()))
                         return false;
 
                     //Fall-through
@@ -797,8 +994,7 @@ public final class LangInterpreter {
                             return true;
                     }
                 case LOOP_STATEMENT_PART_WHILE:
-                    while(conversions.toBool(interpretOperationNode(((LoopStatementPartWhileNode)node).getCondition()),
-                            node.getPos())) {
+                    while(interpretConditionNode(((LoopStatementPartWhileNode)node).getCondition(), node.getPos())) {
                         flag = true;
 
                         interpretAST(node.getLoopBody());
@@ -808,8 +1004,7 @@ public final class LangInterpreter {
 
                     break;
                 case LOOP_STATEMENT_PART_UNTIL:
-                    while(!conversions.toBool(interpretOperationNode(((LoopStatementPartUntilNode)node).getCondition()),
-                            node.getPos())) {
+                    while(!interpretConditionNode(((LoopStatementPartUntilNode)node).getCondition(), node.getPos())) {
                         flag = true;
 
                         interpretAST(node.getLoopBody());
@@ -826,7 +1021,7 @@ public final class LangInterpreter {
                                 node.getPos());
                         return false;
                     }
-                    DataObject var = varPointer.getType() == DataType.NULL?null:varPointer.getVarPointer().getVar();
+                    DataObject var = varPointer.getType() == DataType.NULL?null:unshareVarPointerTarget(varPointer.getVarPointer().getVar());
 
                     DataObject numberObject = interpretNode(null, repeatNode.getRepeatCountNode());
                     Number number = numberObject == null?null:conversions.toNumber(numberObject, repeatNode.getRepeatCountNode().getPos());
@@ -871,7 +1066,7 @@ public final class LangInterpreter {
                         return false;
                     }
 
-                    var = varPointer.getVarPointer().getVar();
+                    var = unshareVarPointerTarget(varPointer.getVarPointer().getVar());
 
                     CodePosition pos = forEachNode.getCompositeOrTextNode().getPos();
 
@@ -964,12 +1159,14 @@ public final class LangInterpreter {
     private void saveExecutionStopStateToVarAndReset(ExecutionState savedExecutionState) {
         savedExecutionState.stopExecutionFlag = executionState.stopExecutionFlag;
         savedExecutionState.returnedOrThrownValue = executionState.returnedOrThrownValue;
+        savedExecutionState.isReturnedValueUnshared = executionState.isReturnedValueUnshared;
         savedExecutionState.isThrownValue = executionState.isThrownValue;
         savedExecutionState.returnOrThrowStatementPos = executionState.returnOrThrowStatementPos;
         savedExecutionState.breakContinueCount = executionState.breakContinueCount;
         savedExecutionState.isContinueStatement = executionState.isContinueStatement;
         executionState.stopExecutionFlag = false;
         executionState.returnedOrThrownValue = null;
+        executionState.isReturnedValueUnshared = false;
         executionState.isThrownValue = false;
         executionState.returnOrThrowStatementPos = CodePosition.EMPTY;
         executionState.breakContinueCount = 0;
@@ -1060,6 +1257,7 @@ public final class LangInterpreter {
         if(!executionState.stopExecutionFlag) {
             executionState.stopExecutionFlag = savedExecutionState.stopExecutionFlag;
             executionState.returnedOrThrownValue = savedExecutionState.returnedOrThrownValue;
+            executionState.isReturnedValueUnshared = savedExecutionState.isReturnedValueUnshared;
             executionState.isThrownValue = savedExecutionState.isThrownValue;
             executionState.returnOrThrowStatementPos = savedExecutionState.returnOrThrowStatementPos;
             executionState.breakContinueCount = savedExecutionState.breakContinueCount;
@@ -1198,10 +1396,34 @@ public final class LangInterpreter {
     }
 
     private DataObject interpretOperationNode(OperationNode node) {
+        if(executionFlags.specializingExecutionEngine)
+            return LangExecutableNode.of(node).execute(this);
+
+        return interpretOperationNodeWithoutSpecialization(node);
+    }
+    /**
+     * Condition of if statements and of loops
+     */
+    private boolean interpretConditionNode(OperationNode node, CodePosition pos) {
+        if(executionFlags.specializingExecutionEngine)
+            return LangExecutableNode.of(node).executeBool(this, pos);
+
+        return conversions.toBool(interpretOperationNodeWithoutSpecialization(node), pos);
+    }
+    DataObject interpretOperationNodeWithoutSpecialization(OperationNode node) {
         DataObject leftSideOperand = (node.getOperator().isUnary() && node.getOperator().isLazyEvaluation())?null:interpretNode(null, node.getLeftSideOperand());
         DataObject middleOperand = (!node.getOperator().isTernary() || node.getOperator().isLazyEvaluation())?null:interpretNode(null, node.getMiddleOperand());
         DataObject rightSideOperand = (node.getOperator().isUnary() || node.getOperator().isLazyEvaluation())?null:interpretNode(null, node.getRightSideOperand());
 
+        return interpretOperationNode(node, leftSideOperand, middleOperand, rightSideOperand);
+    }
+    /**
+     * @param leftSideOperand The interpreted left side operand or null if it was not interpreted (Lazy evaluation)
+     * @param middleOperand The interpreted middle operand or null if it was not interpreted (Lazy evaluation)
+     * @param rightSideOperand The interpreted right side operand or null if it was not interpreted (Lazy evaluation)
+     */
+    DataObject interpretOperationNode(OperationNode node, DataObject leftSideOperand, DataObject middleOperand,
+                                      DataObject rightSideOperand) {
         //Forward Java null values for NON operators
         if(leftSideOperand == null && (node.getOperator() == Operator.NON || node.getOperator() == Operator.CONDITIONAL_NON || node.getOperator() == Operator.MATH_NON)) {
             return null;
@@ -1561,7 +1783,12 @@ public final class LangInterpreter {
     private void interpretReturnNode(ReturnNode node) {
         Node returnValueNode = node.getReturnValue();
 
-        executionState.returnedOrThrownValue = returnValueNode == null?null:interpretNode(null, returnValueNode);
+        DataObject returnValue = returnValueNode == null?null:interpretNode(null, returnValueNode);
+
+        executionState.returnedOrThrownValue = returnValue;
+        //The return value of a nested function call (e.g. "return fp.func()") does not need to be copied again
+        executionState.isReturnedValueUnshared = returnValue != null && returnValue == unsharedReturnValue;
+        unsharedReturnValue = null;
         executionState.returnOrThrowStatementPos = node.getPos();
         executionState.stopExecutionFlag = true;
     }
@@ -1581,6 +1808,7 @@ public final class LangInterpreter {
                         conversions.toText(messageObject, node.getMessage().getPos()).toString()));
             executionState.returnedOrThrownValue = errorObject;
         }
+        executionState.isReturnedValueUnshared = false;
         executionState.isThrownValue = executionState.returnedOrThrownValue.getError().getErrno() > 0;
         executionState.returnOrThrowStatementPos = node.getPos();
         executionState.stopExecutionFlag = true;
@@ -1677,6 +1905,33 @@ public final class LangInterpreter {
                 }
                 executionFlags.nativeStackTraces = number.intValue() != 0;
                 break;
+            case "lang.frameSlotResolution":
+                number = conversions.toNumber(value, pos);
+                if(number == null) {
+                    setErrno(InterpretingError.INVALID_ARGUMENTS, "Invalid Data Type for the lang.frameSlotResolution flag!", pos);
+
+                    return;
+                }
+                executionFlags.frameSlotResolution = number.intValue() != 0;
+                break;
+            case "lang.specializingExecutionEngine":
+                number = conversions.toNumber(value, pos);
+                if(number == null) {
+                    setErrno(InterpretingError.INVALID_ARGUMENTS, "Invalid Data Type for the lang.specializingExecutionEngine flag!", pos);
+
+                    return;
+                }
+                executionFlags.specializingExecutionEngine = number.intValue() != 0;
+                break;
+            case "lang.astCache":
+                number = conversions.toNumber(value, pos);
+                if(number == null) {
+                    setErrno(InterpretingError.INVALID_ARGUMENTS, "Invalid Data Type for the lang.astCache flag!", pos);
+
+                    return;
+                }
+                executionFlags.astCache = number.intValue() != 0;
+                break;
             default:
                 setErrno(InterpretingError.INVALID_EXEC_FLAG_DATA, "\"" + langDataExecutionFlag + "\" is neither Lang data nor an execution flag", pos);
         }
@@ -1770,11 +2025,15 @@ public final class LangInterpreter {
 
                 if(isVarNameFullWithoutPrefix(variableName)) {
                     boolean[] flags = new boolean[] {false, false};
-                    DataObject lvalue = getOrCreateDataObjectFromVariableName(null, moduleName, variableName,
-                            false, true, true, flags, node.getPos());
+                    DataObject lvalue = getFrameSlotVariable(variableNameNode);
+                    if(lvalue == null)
+                        lvalue = getOrCreateDataObjectFromVariableName(null, moduleName, variableName,
+                                false, true, true, flags, node.getPos());
                     if(flags[0])
                         return lvalue; //Forward error from getOrCreateDataObjectFromVariableName()
 
+                    lvalue = getData().getVariableForWrite(lvalue);
+
                     variableName = lvalue.getVariableName();
                     if(variableName == null) {
                         return setErrnoErrorObject(InterpretingError.INVALID_ASSIGNMENT, "Anonymous values can not be changed", node.getPos());
@@ -1831,6 +2090,31 @@ public final class LangInterpreter {
         return rvalue;
     }
 
+    /**
+     * Must be called before a variable is accessed through a var pointer: The scopes of called functions which still
+     * share the variable with the scope of the caller get a copy of the current value, because changes which are made
+     * through the var pointer must not be visible in the variables of those scopes
+     *
+     * @return The variable
+     */
+    DataObject unshareVarPointerTarget(DataObject variable) {
+        String variableName = variable.getVariableName();
+
+        //Static variables are always shared and non-static Lang vars are never shared
+        if(variableName == null || variable.isStaticData() || variable.isLangVar())
+            return variable;
+
+        for(int i = scopeId;i >= 0;i--) {
+            LangScopeVariableMap variableMap = (LangScopeVariableMap)data.get(i).var;
+            if(variableMap.isSharedCallerVariable(variableName, variable))
+                variableMap.copySharedCallerVariable(variableName);
+            else if(variableMap.get(variableName) == variable)
+                break; //Scope of the variable
+        }
+
+        return variable;
+    }
+
     /**
      * Will create a variable if doesn't exist or returns an error object, or returns null if shouldCreateDataObject is set to false and variable doesn't exist
      * @param supportsPointerReferencing If true, this node will return pointer reference as DataObject<br>
@@ -1846,6 +2130,24 @@ public final class LangInterpreter {
             boolean shouldCreateDataObject,
             final boolean[] flags,
             CodePosition pos
+    ) {
+        return getOrCreateDataObjectFromVariableName(compositeType, moduleName, variableName, supportsPointerReferencing,
+                supportsPointerDereferencing, shouldCreateDataObject, flags, null, pos);
+    }
+    /**
+     * @param memberAccessNode The node of variableName which caches the resolved member index of composite type members
+     *                         (Null if variableName is not the variable name of a node)
+     */
+    private DataObject getOrCreateDataObjectFromVariableName(
+            DataObject compositeType,
+            String moduleName,
+            String variableName,
+            boolean supportsPointerReferencing,
+            boolean supportsPointerDereferencing,
+            boolean shouldCreateDataObject,
+            final boolean[] flags,
+            VariableNameNode memberAccessNode,
+            CodePosition pos
     ) {
         DataObject ret = null;
         if(compositeType != null) {
@@ -1871,12 +2173,10 @@ public final class LangInterpreter {
                 }
             }else if(compositeType.getType() == DataType.STRUCT) {
                 try {
-                    for(String memberName:compositeType.getStruct().getMemberNames()) {
-                        if(memberName.equals(variableName)) {
-                            ret = compositeType.getStruct().getMember(memberName);
-                            break;
-                        }
-                    }
+                    StructObject struct = compositeType.getStruct();
+                    int index = getIndexOfMember(struct.getShape(), variableName, memberAccessNode);
+                    if(index != -1)
+                        ret = struct.getMember(index);
                 }catch(DataTypeConstraintException e) {
                     if(flags != null && flags.length == 2)
                         flags[0] = true;
@@ -1886,35 +2186,20 @@ public final class LangInterpreter {
             }else if(compositeType.getType() == DataType.OBJECT) {
                 try {
                     if(variableName.startsWith("mp.") || variableName.startsWith("op:") || variableName.startsWith("to:")) {
-                        ret = compositeType.getObject().getMethods().entrySet().stream().
-                                filter(entry -> entry.getKey().equals(variableName)).
-                                findFirst().
-                                map(entry -> {
-                                    String functionName = entry.getKey();
-                                    FunctionPointerObject functions = entry.getValue();
-
-                                    return new DataObject().setFunctionPointer(functions.withFunctionName(functionName)).
-                                            setVariableName(functionName).setFinalData(true);
-                                }).orElse(null);
+                        FunctionPointerObject functions = compositeType.getObject().getMethods().get(variableName);
+                        if(functions != null)
+                            ret = new DataObject().setFunctionPointer(functions.withFunctionName(variableName)).
+                                    setVariableName(variableName).setFinalData(true);
                     }else {
-                        boolean hasValue = false;
-
-                        for(DataObject staticMember:compositeType.getObject().getStaticMembers()) {
-                            if(staticMember.getVariableName().equals(variableName)) {
-                                ret = staticMember;
-                                hasValue = true;
-                                break;
-                            }
-                        }
-
-                        if(!hasValue && !compositeType.getObject().isClass()) {
+                        LangObject langObject = compositeType.getObject();
+                        int index = getIndexOfMember(langObject.getStaticMemberShape(), variableName, memberAccessNode);
+                        if(index != -1) {
+                            ret = langObject.getStaticMember(index);
+                        }else if(!langObject.isClass()) {
                             //If a static member and a member have the same variable name, the static member will be shadowed
-                            for(String memberName:compositeType.getObject().getMemberNames()) {
-                                if(memberName.equals(variableName)) {
-                                    ret = compositeType.getObject().getMember(memberName);
-                                    break;
-                                }
-                            }
+                            index = getIndexOfMember(langObject.getMemberShape(), variableName, memberAccessNode);
+                            if(index != -1)
+                                ret = langObject.getMember(index);
                         }
                     }
                 }catch(DataTypeConstraintException e) {
@@ -1966,7 +2251,7 @@ public final class LangInterpreter {
             }
 
             if(referencedVariable.getType() == DataType.VAR_POINTER)
-                return referencedVariable.getVarPointer().getVar();
+                return unshareVarPointerTarget(referencedVariable.getVarPointer().getVar());
 
             return new DataObject(); //If no var pointer was dereferenced, return null data object
         }
@@ -1984,7 +2269,8 @@ public final class LangInterpreter {
             DataObject dereferencedVariable = getOrCreateDataObjectFromVariableName(compositeType, moduleName, dereferencedVariableName,
                     true, false, false, flags, pos);
             if(dereferencedVariable != null)
-                return new DataObject().setVarPointer(new VarPointerObject(dereferencedVariable));
+                return new DataObject().setVarPointer(new VarPointerObject(compositeType == null && moduleName == null?
+                        getData().getVariableForWrite(dereferencedVariable):dereferencedVariable));
 
             if(shouldCreateDataObject) {
                 if(flags != null && flags.length == 2)
@@ -2017,6 +2303,23 @@ public final class LangInterpreter {
         getData().var.put(variableName, dataObject);
         return dataObject;
     }
+    /**
+     * @return Will return -1, if the member was not found
+     */
+    private int getIndexOfMember(DataObject.MemberShape shape, String memberName, VariableNameNode memberAccessNode) {
+        if(memberAccessNode == null)
+            return shape.getIndexOfMember(memberName);
+
+        int index = memberAccessNode.getCachedMemberIndex(shape);
+        if(index != -1)
+            return index;
+
+        index = shape.getIndexOfMember(memberName);
+        if(index != -1)
+            memberAccessNode.setCachedMemberIndex(shape, index);
+
+        return index;
+    }
     /**
      * Will create a variable if it doesn't exist or returns an error object
      */
@@ -2051,7 +2354,7 @@ public final class LangInterpreter {
 
         if(variableName.startsWith("$") || variableName.startsWith("&") || variableName.startsWith("fp."))
             return getOrCreateDataObjectFromVariableName(compositeType, moduleName, variableName, variableName.startsWith("$"),
-                    variableName.startsWith("$"), true, null, node.getPos());
+                    variableName.startsWith("$"), true, null, node, node.getPos());
 
         if(compositeType != null)
             return setErrnoErrorObject(InterpretingError.INVALID_AST_NODE, "Invalid composite type member name: \"" + variableName + "\"", node.getPos());
@@ -2170,7 +2473,9 @@ public final class LangInterpreter {
 
     DataObject getAndResetReturnValue() {
         DataObject retTmp = executionState.returnedOrThrownValue;
+        boolean isReturnedValueUnshared = executionState.isReturnedValueUnshared;
         executionState.returnedOrThrownValue = null;
+        executionState.isReturnedValueUnshared = false;
 
         if(executionFlags.langTest && scopeId == langTestExpectedReturnValueScopeID) {
             if(langTestExpectedThrowValue != null) {
@@ -2209,7 +2514,7 @@ public final class LangInterpreter {
                 executionState.tryBodyScopeID != scopeId))
             executionState.stopExecutionFlag = false;
 
-        return retTmp == null?null:new DataObject(retTmp);
+        return retTmp == null?null:(isReturnedValueUnshared?retTmp:new DataObject(retTmp));
     }
     boolean isThrownValue() {
         return executionState.isThrownValue ||
@@ -2218,8 +2523,19 @@ public final class LangInterpreter {
     }
 
     DataObject callFunctionPointer(FunctionPointerObject fp, String functionName, List<DataObject> argumentList, CodePosition parentPos) {
+        return callFunctionPointer(fp, functionName, argumentList, parentPos, null);
+    }
+    /**
+     * @param unsharedArgument An argument which is not referenced anywhere else and which can therefore be bound to
+     *                         its parameter without a copy (Or null)
+     */
+    private DataObject callFunctionPointer(FunctionPointerObject fp, String functionName, List<DataObject> argumentList,
+                                           CodePosition parentPos, DataObject unsharedArgument) {
         argumentList = new ArrayList<>(argumentList);
 
+        freshCallReturnValue = null;
+        unsharedReturnValue = null;
+
         LangObject thisObject = fp.getThisObject();
         int originalSuperLevel = -1;
 
@@ -2299,13 +2615,11 @@ public final class LangInterpreter {
 
                         enterScope();
 
-                        //Copies must not be final
-                        callerData.var.forEach((key, val) -> {
-                            if(val.isStaticData()) //Static Lang vars should also be copied
-                                getData().var.put(key, val);
-                            else if(!val.isLangVar()) //Copy non static and non lang vars
-                                getData().var.put(key, new DataObject(val).setVariableName(val.getVariableName()));
-                        });
+                        if(executionFlags.frameSlotResolution)
+                            getData().setFrameLayout(LangFrameLayout.of(functionBody, parameterList));
+
+                        //Static vars (Including static Lang vars) are shared, non static and non lang vars are copied before they are written
+                        getData().inheritCallerVariables(callerData);
 
                         //Set this-object and This-class
                         if(thisObject != null) {
@@ -2389,8 +2703,7 @@ public final class LangInterpreter {
                                     }
                                 }else {
                                     //Array varargs
-                                    List<DataObject> varArgsArgumentList = combinedArgumentList.subList(i, combinedArgumentList.size() - argCount + i + 1).stream().
-                                            map(DataObject::new).collect(Collectors.toList());
+                                    List<DataObject> varArgsArgumentList = combinedArgumentList.subList(i, combinedArgumentList.size() - argCount + i + 1);
 
                                     for(int j = 0;j < varArgsArgumentList.size();j++) {
                                         DataObject varArgsArgument = varArgsArgumentList.get(j);
@@ -2402,8 +2715,9 @@ public final class LangInterpreter {
                                     }
 
                                     try {
+                                        //The arguments are only copied if they can not be stored in a primitive array
                                         DataObject newDataObject = new DataObject().
-                                                setArray(varArgsArgumentList.toArray(new DataObject[0])).
+                                                setArrayOfElementCopies(varArgsArgumentList).
                                                 setVariableName(variableName);
 
                                         DataObject old = getData().var.put(variableName, newDataObject);
@@ -2422,7 +2736,8 @@ public final class LangInterpreter {
                             }else if(parameterAnnotation == LangBaseFunction.ParameterAnnotation.CALL_BY_POINTER) {
                                 try {
                                     DataObject newDataObject = new DataObject().
-                                            setVarPointer(new VarPointerObject(combinedArgumentList.get(argumentIndex))).
+                                            setVarPointer(new VarPointerObject(callerData.getVariableForWrite(
+                                                    combinedArgumentList.get(argumentIndex)))).
                                             setVariableName(variableName);
                                     newDataObject.setTypeConstraint(typeConstraint);
 
@@ -2457,8 +2772,13 @@ public final class LangInterpreter {
                                                 argumentPos);
                                 }
 
-                                DataObject newDataObject = new DataObject(value).
-                                        setVariableName(variableName);
+                                DataObject newDataObject;
+                                if(value == unsharedArgument && !value.isFinalData() && !value.isStaticData()) {
+                                    newDataObject = value.setVariableName(variableName);
+                                    unsharedArgument = null;
+                                }else {
+                                    newDataObject = new DataObject(value).setVariableName(variableName);
+                                }
                                 if(typeConstraint != null)
                                     newDataObject.setTypeConstraint(typeConstraint);
 
@@ -2485,7 +2805,7 @@ public final class LangInterpreter {
                         exitScope();
 
                         //Add translations after call
-                        getData().lang.putAll(scopeData.lang);
+                        scopeData.forEachModifiedTranslation(getData().lang::put);
                     }
 
                     if(fp.isDeprecated()) {
@@ -2504,6 +2824,7 @@ public final class LangInterpreter {
                     boolean thrownValue = isThrownValue();
                     DataObject retTmp = combinatorFunctionCallRet == null?LangUtils.nullToLangVoid(getAndResetReturnValue()):
                             combinatorFunctionCallRet;
+                    freshCallReturnValue = combinatorFunctionCallRet == null?retTmp:null;
 
                     if(returnValueTypeConstraint != null && !thrownValue) {
                         //Thrown values are always allowed
@@ -2520,6 +2841,11 @@ public final class LangInterpreter {
                     if(nativeFunction == null)
                         return setErrnoErrorObject(InterpretingError.INVALID_FUNC_PTR, "Function call of invalid FP", parentPos);
 
+                    //Native functions might modify variables through var pointers
+                    for(DataObject argument:combinedArgumentList)
+                        if(argument.getType() == DataType.VAR_POINTER)
+                            unshareVarPointerTarget(argument.getVarPointer().getVar());
+
                     DataObject ret = nativeFunction.callFunc(this, thisObject, internalFunction.getSuperLevel(), argumentList, combinedArgumentList);
                     if(fp.isDeprecated()) {
                         String message = String.format("Use of deprecated function \"%s\". This function will no longer be supported in \"%s\"!%s", functionName,
@@ -2529,7 +2855,12 @@ public final class LangInterpreter {
                     }
 
                     //Return non copy if copyStaticAndFinalModifiers flag is set for "func.asStatic()" and "func.asFinal()"
-                    return ret == null?new DataObject().setVoid():(ret.isCopyStaticAndFinalModifiers()?ret:new DataObject(ret));
+                    //The result is copied even if it is the unshared result of a nested function call (e.g. of
+                    //"func.call()"), because the native function might still reference it
+                    ret = ret == null?new DataObject().setVoid():(ret.isCopyStaticAndFinalModifiers()?ret:new DataObject(ret));
+                    freshCallReturnValue = ret.isCopyStaticAndFinalModifiers()?null:ret;
+
+                    return ret;
 
                 default:
                     return setErrnoErrorObject(InterpretingError.INVALID_FUNC_PTR, "Function call of invalid FP type", parentPos);
@@ -2805,7 +3136,14 @@ public final class LangInterpreter {
         }
 
         List<DataObject> argumentList = interpretFunctionPointerArguments(node.getChildren());
-        return callFunctionPointer(fp, functionName, argumentList, node.getPos());
+
+        //The return value of a function call which is directly used as the last argument (e.g. "fp.func(fp.func2())")
+        //does not need to be copied for the parameter
+        DataObject ret = callFunctionPointer(fp, functionName, argumentList, node.getPos(), unsharedReturnValue);
+        unsharedReturnValue = ret == freshCallReturnValue?ret:null;
+        freshCallReturnValue = null;
+
+        return ret;
     }
 
     private DataObject interpretFunctionCallPreviousNodeValueNode(FunctionCallPreviousNodeValueNode node, DataObject previousValue) {
@@ -2845,6 +3183,8 @@ public final class LangInterpreter {
                         "\" because the variable does not exist or is not of type function pointer", node.getPos());
             }
 
+            functionPointerDataObject = getData().getVariableForWrite(functionPointerDataObject);
+
             if(!overloaded && functionPointerDataObject.getType() != DataType.NULL) {
                 return setErrnoErrorObject(InterpretingError.INVALID_ASSIGNMENT, "Can not set \"" + functionName +
                                 "\" to function because the variable already exists (You should use \"function overload\" instead of \"function\" to overload a function)",
@@ -2931,11 +3271,14 @@ public final class LangInterpreter {
                     parameterTypeConstraint = null;
                     parameterAnnotation = LangBaseFunction.ParameterAnnotation.CALLABLE;
                 }else {
-                    DataObject errorOut = new DataObject().setVoid();
-                    parameterTypeConstraint = interpretTypeConstraint(rawParameterTypeConstraint, errorOut, parameter.getPos());
+                    parameterTypeConstraint = parameter.getEvaluatedTypeConstraint();
+                    if(parameterTypeConstraint == null) {
+                        DataObject errorOut = new DataObject().setVoid();
+                        parameterTypeConstraint = interpretTypeConstraint(rawParameterTypeConstraint, errorOut, parameter.getPos());
 
-                    if(errorOut.getType() == DataType.ERROR)
-                        return errorOut;
+                        if(errorOut.getType() == DataType.ERROR)
+                            return errorOut;
+                    }
 
                     parameterAnnotation = LangBaseFunction.ParameterAnnotation.NORMAL;
                 }
@@ -2994,6 +3337,8 @@ public final class LangInterpreter {
         DataTypeConstraint returnValueTypeConstraint;
         if(rawReturnTypeConstraint == null) {
             returnValueTypeConstraint = DataObject.CONSTRAINT_NORMAL;
+        }else if(node.getEvaluatedReturnValueTypeConstraint() != null) {
+            returnValueTypeConstraint = node.getEvaluatedReturnValueTypeConstraint();
         }else {
             DataObject errorOut = new DataObject().setVoid();
             returnValueTypeConstraint = interpretTypeConstraint(rawReturnTypeConstraint, errorOut, node.getPos());
@@ -3075,6 +3420,8 @@ public final class LangInterpreter {
                 return setErrnoErrorObject(InterpretingError.INVALID_ASSIGNMENT, "Anonymous values can not be changed", node.getPos());
             }
 
+            structDataObject = getData().getVariableForWrite(structDataObject);
+
             if(structDataObject.isFinalData() || structDataObject.isLangVar()) {
                 if(flags[1])
                     getData().var.remove(structDataObject.getVariableName());
@@ -3104,6 +3451,10 @@ public final class LangInterpreter {
             if(typeConstraint == null)
                 continue;
 
+            typeConstraintsArray[i] = node.getEvaluatedTypeConstraint(i);
+            if(typeConstraintsArray[i] != null)
+                continue;
+
             DataObject errorOut = new DataObject().setVoid();
             typeConstraintsArray[i] = interpretTypeConstraint(typeConstraint, errorOut, node.getPos());
 
@@ -3156,6 +3507,8 @@ public final class LangInterpreter {
                     return setErrnoErrorObject(InterpretingError.INVALID_ASSIGNMENT, "Anonymous values can not be changed", node.getPos());
                 }
 
+                classDataObject = getData().getVariableForWrite(classDataObject);
+
                 if(classDataObject.isFinalData() || classDataObject.isLangVar()) {
                     if(flags[1])
                         getData().var.remove(classDataObject.getVariableName());
@@ -3206,6 +3559,10 @@ public final class LangInterpreter {
                 if(typeConstraint == null)
                     continue;
 
+                staticMemberTypeConstraintsArray[i] = node.getEvaluatedStaticMemberTypeConstraint(i);
+                if(staticMemberTypeConstraintsArray[i] != null)
+                    continue;
+
                 DataObject errorOut = new DataObject().setVoid();
                 staticMemberTypeConstraintsArray[i] = interpretTypeConstraint(typeConstraint, errorOut, node.getPos());
 
@@ -3266,6 +3623,10 @@ public final class LangInterpreter {
                 if(typeConstraint == null)
                     continue;
 
+                memberTypeConstraintsArray[i] = node.getEvaluatedMemberTypeConstraint(i);
+                if(memberTypeConstraintsArray[i] != null)
+                    continue;
+
                 DataObject errorOut = new DataObject().setVoid();
                 memberTypeConstraintsArray[i] = interpretTypeConstraint(typeConstraint, errorOut, node.getPos());
 
@@ -4197,7 +4558,7 @@ public final class LangInterpreter {
         return hasVarName;
     }
 
-    private static final String[] OPERATOR_METHOD_NAMES = new String[] {
+    static final String[] OPERATOR_METHOD_NAMES = new String[] {
             "op:len",
             "op:deepCopy",
             "op:inc",
@@ -4250,7 +4611,7 @@ public final class LangInterpreter {
         return false;
     }
 
-    private static final String[] CONVERSION_METHOD_NAMES = new String[] {
+    static final String[] CONVERSION_METHOD_NAMES = new String[] {
             "to:text",
             "to:char",
             "to:int",
@@ -4496,12 +4857,8 @@ public final class LangInterpreter {
         resetVarsAndFuncPtrs();
 
         if(scopeId > 0) {
-            //Copy translation map (except "lang.* = *") to the new scope's translation map
-            data.get(scopeId - 1).lang.forEach((k, v) -> {
-                if(!k.startsWith("lang.")) {
-                    getData().lang.put(k, v);
-                }
-            });
+            //Share translation map (except "lang.* = *") with the new scope's translation map
+            getData().inheritTranslations(data.get(scopeId - 1));
         }
     }
     private void resetVarsAndFuncPtrs() {
@@ -4615,8 +4972,90 @@ public final class LangInterpreter {
     }
 
     public static final class Data {
-        public final Map<String, String> lang = new HashMap<>();
-        public final Map<String, DataObject> var = new HashMap<>();
+        public final Map<String, String> lang = new LangScopeTranslationMap();
+        public final Map<String, DataObject> var = new LangScopeVariableMap();
+
+        /**
+         * Frame of a function call if the function body was resolved to frame slots
+         */
+        private LangFrameLayout frameLayout;
+        private DataObject[] frameSlots;
+        private long[] frameSlotModificationCounts;
+
+        void setConstantLangVars(LangPersistentHashTrie<DataObject> constantLangVars) {
+            ((LangScopeVariableMap)var).setConstantLangVars(constantLangVars);
+        }
+
+        /**
+         * @return A version which will only be changed if variables are added or removed
+         */
+        long getVariableShapeVersion() {
+            return ((LangScopeVariableMap)var).getShapeVersion();
+        }
+
+        void inheritCallerVariables(Data callerData) {
+            ((LangScopeVariableMap)var).inheritCallerVariables((LangScopeVariableMap)callerData.var);
+        }
+
+        /**
+         * Must be called before a variable of this scope is modified by its variable name or before a var pointer to
+         * it is created
+         *
+         * @return A copy which was stored in this scope if the variable is a variable of the caller scope which was not
+         * yet copied or the variable itself
+         */
+        DataObject getVariableForWrite(DataObject variable) {
+            String variableName = variable.getVariableName();
+            LangScopeVariableMap variableMap = (LangScopeVariableMap)var;
+            if(variableName == null || !variableMap.isSharedCallerVariable(variableName, variable))
+                return variable;
+
+            return variableMap.copySharedCallerVariable(variableName);
+        }
+
+        void setFrameLayout(LangFrameLayout frameLayout) {
+            this.frameLayout = frameLayout;
+
+            frameSlots = new DataObject[frameLayout.getSlotCount()];
+            frameSlotModificationCounts = new long[frameLayout.getSlotCount()];
+        }
+
+        /**
+         * The variable map is not accessed if the variable map was not modified since the last lookup for the slot
+         *
+         * @return The variable or null if the slot does not belong to the frame of this scope or if the variable does not exist
+         */
+        DataObject getFrameSlotVariable(LangFrameLayout.Slot slot, String variableName) {
+            if(slot.getFrameLayout() != frameLayout)
+                return null;
+
+            LangScopeVariableMap variableMap = (LangScopeVariableMap)var;
+            int index = slot.getIndex();
+
+            DataObject dataObject = frameSlots[index];
+            if(dataObject != null && frameSlotModificationCounts[index] == variableMap.getModificationCount())
+                return dataObject;
+
+            dataObject = variableMap.get(variableName);
+            if(dataObject != null) {
+                frameSlots[index] = dataObject;
+                frameSlotModificationCounts[index] = variableMap.getModificationCount();
+            }
+
+            return dataObject;
+        }
+
+        void inheritTranslations(Data parentData) {
+            ((LangScopeTranslationMap)lang).inheritTranslations((LangScopeTranslationMap)parentData.lang);
+        }
+
+        /**
+         * Calls the action for all translations which were set in this scope (Including translations which were
+         * set in called functions)
+         */
+        void forEachModifiedTranslation(BiConsumer<String, String> action) {
+            ((LangScopeTranslationMap)lang).forEachModifiedTranslation(action);
+        }
     }
 
     //Classes for call stack
@@ -4705,6 +5144,18 @@ public final class LangInterpreter {
          * Will enable printing of native stack traces
          */
         boolean nativeStackTraces = false;
+        /**
+         * Will resolve parameters and local variables of function bodies to frame slots which makes variable lookups faster
+         */
+        boolean frameSlotResolution = false;
+        /**
+         * Will execute operations with self-specializing executable nodes which makes arithmetic faster
+         */
+        boolean specializingExecutionEngine = false;
+        /**
+         * Will cache the ASTs of linked and included Lang files, of module files, and of exec code in the AST cache of the JVM
+         */
+        boolean astCache = false;
 
         public static enum ErrorOutputFlag {
             NOTHING, ALL, ERROR_ONLY;
@@ -4733,6 +5184,10 @@ public final class LangInterpreter {
 
         //Fields for return statements
         private DataObject returnedOrThrownValue;
+        /**
+         * True if returnedOrThrownValue is not referenced anywhere else and does not need to be copied
+         */
+        private boolean isReturnedValueUnshared;
         private boolean isThrownValue;
         private CodePosition returnOrThrowStatementPos = CodePosition.EMPTY;
 
@@ -4890,13 +5345,16 @@ public final class LangInterpreter {
             setVar(varName, data, false);
         }
         public void setVar(String varName, DataObject data, boolean ignoreFinal) {
-            Map<String, DataObject> vars = getVarMap();
-            if(vars != null) {
-                DataObject oldData = vars.get(varName);
-                if(oldData == null)
-                    vars.put(varName, data.setVariableName(varName));
-                else if(ignoreFinal || !oldData.isFinalData())
-                    oldData.setData(data);
+            Data scopeData = interpreter.getData();
+            if(scopeData != null) {
+                DataObject oldData = scopeData.var.get(varName);
+                if(oldData == null) {
+                    scopeData.var.put(varName, data.setVariableName(varName));
+                }else {
+                    oldData = scopeData.getVariableForWrite(oldData);
+                    if(ignoreFinal || !oldData.isFinalData())
+                        oldData.setData(data);
+                }
             }
         }
         public void setVar(String varName, String text) {
@@ -5014,6 +5472,23 @@ public final class LangInterpreter {
             return interpreter.getCurrentCallStackElement();
         }
 
+        /**
+         * @return The count of variable name resolutions which were reused from a previous execution of the same variable name node
+         */
+        public long getVariableNameResolutionCacheHitCount() {
+            return interpreter.variableNameResolutionCacheHitCount;
+        }
+        /**
+         * @return The count of variable name resolutions which had to be computed
+         */
+        public long getVariableNameResolutionCacheMissCount() {
+            return interpreter.variableNameResolutionCacheMissCount;
+        }
+        public void resetVariableNameResolutionCacheCounts() {
+            interpreter.variableNameResolutionCacheHitCount = 0;
+            interpreter.variableNameResolutionCacheMissCount = 0;
+        }
+
         /**
          * Must be called before {@link LangInterpreter.LangInterpreterInterface#getAndResetReturnValue() getAndResetReturnValue()} method
          */
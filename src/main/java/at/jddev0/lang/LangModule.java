@@ -24,7 +24,7 @@ public final class LangModule {
     private final LangModuleConfiguration lmc;
 
     private final List<String> exportedFunctions = new LinkedList<>();
-    private final Map<String, DataObject> exportedVariables = new HashMap<>();
+    private final Map<String, DataObject> exportedVariables = new LangScopeVariableMap();
 
     private final Map<String, LangNativeModule> loadedNativeModules = new HashMap<>();
 
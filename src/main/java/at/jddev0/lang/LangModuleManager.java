@@ -142,7 +142,7 @@ final class LangModuleManager {
                 int originalLineNumber = interpreter.getParserLineNumber();
                 try(BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(moduleLangBytes), StandardCharsets.UTF_8))) {
                     interpreter.resetParserPositionVars();
-                    interpreter.interpretLines(br);
+                    interpreter.interpretAST(interpreter.parseLinesCached(br, null));
                 }catch(IOException e) {
                     return interpreter.setErrnoErrorObject(InterpretingError.FILE_NOT_FOUND, e.getMessage());
                 }finally {
@@ -171,7 +171,7 @@ final class LangModuleManager {
                     int originalLineNumber = interpreter.getParserLineNumber();
                     try(BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(moduleLangBytes), StandardCharsets.UTF_8))) {
                         interpreter.resetParserPositionVars();
-                        interpreter.interpretLines(br);
+                        interpreter.interpretAST(interpreter.parseLinesCached(br, null));
                     }catch(IOException e) {
                         return interpreter.setErrnoErrorObject(InterpretingError.FILE_NOT_FOUND, e.getMessage());
                     }finally {
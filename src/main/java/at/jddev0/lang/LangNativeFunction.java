@@ -477,7 +477,8 @@ public class LangNativeFunction extends LangBaseFunction {
                 }else if(methodParameterType.isAssignableFrom(DataObject.class)) {
                     if(parameterAnnotationList.get(i) == ParameterAnnotation.CALL_BY_POINTER) {
                         argument = new DataObject().setVariableName(variableName).
-                                setVarPointer(new VarPointerObject(combinedArgumentList.get(argumentIndex))).
+                                setVarPointer(new VarPointerObject(interpreter.getData().getVariableForWrite(
+                                        combinedArgumentList.get(argumentIndex)))).
                                 setTypeConstraint(parameterDataTypeConstraintList.get(i));
                     }else {
                         argument = new DataObject(combinedArgumentList.get(argumentIndex)).setVariableName(variableName).
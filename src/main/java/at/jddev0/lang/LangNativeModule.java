@@ -1,6 +1,6 @@
 package at.jddev0.lang;
 
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -33,12 +33,19 @@ public abstract class LangNativeModule {
         return new DataObject().setByteBuffer(byteBuf);
     }
 
+    /**
+     * The bytes between the position and the limit of the buffer are used without a copy
+     */
+    protected final DataObject createDataObject(ByteBuffer byteBuf) {
+        return new DataObject().setByteBuffer(byteBuf);
+    }
+
     protected final DataObject createDataObject(DataObject[] arrayValue) {
         return new DataObject().setArray(arrayValue);
     }
 
     protected final DataObject createDataObject(List<DataObject> listValue) {
-        return new DataObject().setList(new LinkedList<>(listValue));
+        return new DataObject().setList(new LangArrayDeque<>(listValue));
     }
 
     protected final DataObject createDataObject(DataObject.VarPointerObject varPointerValue) {
@@ -103,6 +110,10 @@ public abstract class LangNativeModule {
         }else if(objectValue instanceof byte[]) {
             byte[] byteBuf = (byte[])objectValue;
 
+            return new DataObject().setByteBuffer(byteBuf);
+        }else if(objectValue instanceof ByteBuffer) {
+            ByteBuffer byteBuf = (ByteBuffer)objectValue;
+
             return new DataObject().setByteBuffer(byteBuf);
         }else if(objectValue instanceof Object[]) {
             Object[] arrayValue = (Object[])objectValue;
@@ -113,7 +124,7 @@ public abstract class LangNativeModule {
             return new DataObject().setArray(dataObjectArray);
         }else if(objectValue instanceof List<?>) {
             List<?> listValue = (List<?>)objectValue;
-            LinkedList<DataObject> dataObjectList = new LinkedList<>();
+            LangArrayDeque<DataObject> dataObjectList = new LangArrayDeque<>();
             for(Object ele:listValue)
                 dataObjectList.add(convertToDataObject(ele));
 
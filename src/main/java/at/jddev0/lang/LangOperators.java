@@ -2,7 +2,9 @@ package at.jddev0.lang;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import at.jddev0.lang.AbstractSyntaxTree.OperationNode.Operator;
 import at.jddev0.lang.DataObject.DataType;
 import at.jddev0.lang.DataObject.DataTypeConstraintException;
 import at.jddev0.lang.DataObject.FunctionPointerObject;
@@ -12,6 +14,7 @@ import at.jddev0.lang.LangFunction.LangParameter;
 import at.jddev0.lang.LangFunction.LangParameter.RawVarArgs;
 import at.jddev0.lang.LangFunction.LangParameter.VarArgs;
 import at.jddev0.lang.LangInterpreter.InterpretingError;
+import at.jddev0.lang.data.ArrayValue;
 
 /**
  * Lang-Module<br>
@@ -23,30 +26,1072 @@ import at.jddev0.lang.LangInterpreter.InterpretingError;
 public final class LangOperators {
     private final LangInterpreter interpreter;
 
+    /**
+     * Implementation of a binary operator for a single pair of operand types
+     */
+    @FunctionalInterface
+    private interface BinaryOperation {
+        DataObject apply(LangInterpreter interpreter, DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos);
+    }
+    /**
+     * Binary operations indexed by the data types of the left side operand and of the right side operand
+     */
+    private static final class BinaryOperationTable {
+        private final BinaryOperation[][] operations = new BinaryOperation[DataType.values().length][DataType.values().length];
+
+        private void put(DataType leftSideType, DataType rightSideType, BinaryOperation operation) {
+            operations[leftSideType.ordinal()][rightSideType.ordinal()] = operation;
+        }
+
+        /**
+         * @return The operation for the data types of the operands or null if the operator must be
+         * evaluated by the generic implementation
+         */
+        private BinaryOperation get(DataObject leftSideOperand, DataObject rightSideOperand) {
+            return operations[leftSideOperand.getType().ordinal()][rightSideOperand.getType().ordinal()];
+        }
+    }
+    /**
+     * Element by element comparison of two composite values (ARRAY, LIST, or STRUCT) on the work stack of isDeepEquals<br>
+     * Frames are reused for the next pair of composite values at the same depth after their comparison has finished
+     */
+    private static final class ElementComparisonFrame {
+        /**
+         * The arrays (Are null for lists and structs) and their elements (Are also null for primitive arrays, which are
+         * read with getElement() instead of being converted)
+         */
+        private ArrayValue leftArray;
+        private ArrayValue rightArray;
+        private DataObject[] leftArrayElements;
+        private DataObject[] rightArrayElements;
+        /**
+         * The elements of lists (Are null for arrays and structs)
+         */
+        private List<DataObject> leftList;
+        private List<DataObject> rightList;
+        /**
+         * The structs and their member names (Are null for arrays and lists)
+         */
+        private StructObject leftStruct;
+        private StructObject rightStruct;
+        private String[] leftMemberNames;
+        private String[] rightMemberNames;
+        private int length;
+        private CompositeValuePair visitedPair;
+        private int index;
+
+        private void init(DataObject leftSideOperand, DataObject rightSideOperand, CompositeValuePair visitedPair) {
+            this.visitedPair = visitedPair;
+            index = 0;
+
+            if(leftSideOperand.getType() == DataType.STRUCT) {
+                leftStruct = leftSideOperand.getStruct();
+                rightStruct = rightSideOperand.getStruct();
+                leftMemberNames = leftStruct.getMemberNames();
+                rightMemberNames = rightStruct.getMemberNames();
+                length = leftMemberNames.length;
+            }else {
+                leftArray = leftSideOperand.getType() == DataType.ARRAY?leftSideOperand.getArrayValue():null;
+                rightArray = rightSideOperand.getType() == DataType.ARRAY?rightSideOperand.getArrayValue():null;
+                leftArrayElements = leftArray == null || leftArray.isPrimitiveStorage()?null:leftArray.getArray();
+                rightArrayElements = rightArray == null || rightArray.isPrimitiveStorage()?null:rightArray.getArray();
+                leftList = leftArray == null?leftSideOperand.getList():null;
+                rightList = rightArray == null?rightSideOperand.getList():null;
+                length = leftArray == null?leftList.size():leftArray.getLength();
+            }
+        }
+
+        private DataObject getLeftElement(int index) {
+            if(leftArrayElements != null)
+                return leftArrayElements[index];
+
+            return leftArray == null?leftList.get(index):leftArray.getElement(index);
+        }
+
+        private DataObject getRightElement(int index) {
+            if(rightArrayElements != null)
+                return rightArrayElements[index];
+
+            return rightArray == null?rightList.get(index):rightArray.getElement(index);
+        }
+
+        /**
+         * @return True if both values have the same count of elements (And are both struct definitions or both struct instances)
+         */
+        private boolean isElementCountEqual() {
+            if(leftStruct != null)
+                return leftStruct.isDefinition() == rightStruct.isDefinition() && length == rightMemberNames.length;
+
+            return length == (rightArray == null?rightList.size():rightArray.getLength());
+        }
+
+        /**
+         * Removes the references to the compared values
+         */
+        private void clear() {
+            leftArray = rightArray = null;
+            leftArrayElements = rightArrayElements = null;
+            leftList = rightList = null;
+            leftStruct = rightStruct = null;
+            leftMemberNames = rightMemberNames = null;
+            visitedPair = null;
+        }
+    }
+    /**
+     * Identity of the underlying arrays, lists, or structs of two compared composite values
+     */
+    private static final class CompositeValuePair {
+        private final Object left;
+        private final Object right;
+
+        private CompositeValuePair(DataObject leftSideOperand, DataObject rightSideOperand) {
+            left = getCompositeValue(leftSideOperand);
+            right = getCompositeValue(rightSideOperand);
+        }
+
+        private static Object getCompositeValue(DataObject operand) {
+            switch(operand.getType()) {
+                case ARRAY:
+                    return operand.getArrayValue();
+                case LIST:
+                    return operand.getList();
+                default:
+                    return operand.getStruct();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o)
+                return true;
+
+            if(!(o instanceof CompositeValuePair))
+                return false;
+
+            CompositeValuePair that = (CompositeValuePair)o;
+            return left == that.left && right == that.right;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(left) + System.identityHashCode(right);
+        }
+    }
+
+    /**
+     * Nested composite values are only checked for cycles if the work stack of isDeepEquals is at least this deep
+     */
+    private static final int MIN_CYCLE_CHECK_COMPARISON_DEPTH = 32;
+
+    //Numeric operand type pairs of binary operators are dispatched with these tables
+    //(Operator methods can not be called for these pairs, because neither operand is an OBJECT)
+    private static final BinaryOperationTable ADD_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable SUB_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable MUL_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable POW_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable DIV_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable TRUNC_DIV_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable FLOOR_DIV_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable CEIL_DIV_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable MOD_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable AND_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable OR_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable XOR_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable LSHIFT_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable RSHIFT_OPERATIONS = new BinaryOperationTable();
+    private static final BinaryOperationTable RZSHIFT_OPERATIONS = new BinaryOperationTable();
+    static {
+        ADD_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() + rightSideOperand.getInt()));
+        ADD_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() + rightSideOperand.getLong()));
+        ADD_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getInt() + rightSideOperand.getFloat()));
+        ADD_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getInt() + rightSideOperand.getDouble()));
+        ADD_OPERATIONS.put(DataType.INT, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() + rightSideOperand.getChar()));
+        ADD_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getInt()));
+        ADD_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getLong()));
+        ADD_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getLong() + rightSideOperand.getFloat()));
+        ADD_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getLong() + rightSideOperand.getDouble()));
+        ADD_OPERATIONS.put(DataType.LONG, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getChar()));
+        ADD_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getInt()));
+        ADD_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getLong()));
+        ADD_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getFloat()));
+        ADD_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getFloat() + rightSideOperand.getDouble()));
+        ADD_OPERATIONS.put(DataType.FLOAT, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getChar()));
+        ADD_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getInt()));
+        ADD_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getLong()));
+        ADD_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getFloat()));
+        ADD_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getDouble()));
+        ADD_OPERATIONS.put(DataType.DOUBLE, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getChar()));
+        ADD_OPERATIONS.put(DataType.CHAR, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getChar() + rightSideOperand.getInt()));
+        ADD_OPERATIONS.put(DataType.CHAR, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getChar() + rightSideOperand.getLong()));
+        ADD_OPERATIONS.put(DataType.CHAR, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getChar() + rightSideOperand.getFloat()));
+        ADD_OPERATIONS.put(DataType.CHAR, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getChar() + rightSideOperand.getDouble()));
+        ADD_OPERATIONS.put(DataType.CHAR, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getChar() + rightSideOperand.getChar()));
+
+        SUB_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() - rightSideOperand.getInt()));
+        SUB_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() - rightSideOperand.getLong()));
+        SUB_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getInt() - rightSideOperand.getFloat()));
+        SUB_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getInt() - rightSideOperand.getDouble()));
+        SUB_OPERATIONS.put(DataType.INT, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() - rightSideOperand.getChar()));
+        SUB_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getInt()));
+        SUB_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getLong()));
+        SUB_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getLong() - rightSideOperand.getFloat()));
+        SUB_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getLong() - rightSideOperand.getDouble()));
+        SUB_OPERATIONS.put(DataType.LONG, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getChar()));
+        SUB_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getInt()));
+        SUB_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getLong()));
+        SUB_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getFloat()));
+        SUB_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getFloat() - rightSideOperand.getDouble()));
+        SUB_OPERATIONS.put(DataType.FLOAT, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getChar()));
+        SUB_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getInt()));
+        SUB_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getLong()));
+        SUB_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getFloat()));
+        SUB_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getDouble()));
+        SUB_OPERATIONS.put(DataType.DOUBLE, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getChar()));
+        SUB_OPERATIONS.put(DataType.CHAR, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getChar() - rightSideOperand.getInt()));
+        SUB_OPERATIONS.put(DataType.CHAR, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getChar() - rightSideOperand.getLong()));
+        SUB_OPERATIONS.put(DataType.CHAR, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getChar() - rightSideOperand.getFloat()));
+        SUB_OPERATIONS.put(DataType.CHAR, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getChar() - rightSideOperand.getDouble()));
+        SUB_OPERATIONS.put(DataType.CHAR, DataType.CHAR, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getChar() - rightSideOperand.getChar()));
+
+        MUL_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() * rightSideOperand.getInt()));
+        MUL_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() * rightSideOperand.getLong()));
+        MUL_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getInt() * rightSideOperand.getFloat()));
+        MUL_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getInt() * rightSideOperand.getDouble()));
+        MUL_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() * rightSideOperand.getInt()));
+        MUL_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() * rightSideOperand.getLong()));
+        MUL_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getLong() * rightSideOperand.getFloat()));
+        MUL_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getLong() * rightSideOperand.getDouble()));
+        MUL_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getInt()));
+        MUL_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getLong()));
+        MUL_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getFloat()));
+        MUL_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getFloat() * rightSideOperand.getDouble()));
+        MUL_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getInt()));
+        MUL_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getLong()));
+        MUL_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getFloat()));
+        MUL_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getDouble()));
+
+        POW_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            double d = Math.pow(leftSideOperand.getInt(), rightSideOperand.getInt());
+            if(Math.abs(d) > Integer.MAX_VALUE || rightSideOperand.getInt() < 0)
+                return new DataObject().setDouble(d);
+            return new DataObject().setInt((int)d);
+        });
+        POW_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getLong())));
+        POW_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getFloat())));
+        POW_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getDouble())));
+        POW_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getInt())));
+        POW_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getLong())));
+        POW_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getFloat())));
+        POW_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getDouble())));
+        POW_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getInt())));
+        POW_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getLong())));
+        POW_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getFloat())));
+        POW_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getDouble())));
+        POW_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getInt())));
+        POW_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getLong())));
+        POW_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getFloat())));
+        POW_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getDouble())));
+
+        DIV_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return new DataObject().setDouble(leftSideOperand.getInt() / 0.);
+
+            if(leftSideOperand.getInt() % rightSideOperand.getInt() != 0)
+                return new DataObject().setDouble(leftSideOperand.getInt() / (double)rightSideOperand.getInt());
+
+            return new DataObject().setInt(leftSideOperand.getInt() / rightSideOperand.getInt());
+        });
+        DIV_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return new DataObject().setDouble(leftSideOperand.getInt() / 0.);
+
+            if(leftSideOperand.getInt() % rightSideOperand.getLong() != 0)
+                return new DataObject().setDouble(leftSideOperand.getInt() / (double)rightSideOperand.getLong());
+
+            return new DataObject().setLong(leftSideOperand.getInt() / rightSideOperand.getLong());
+        });
+        DIV_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getInt() / rightSideOperand.getFloat()));
+        DIV_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getInt() / rightSideOperand.getDouble()));
+        DIV_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return new DataObject().setDouble(leftSideOperand.getLong() / 0.);
+
+            if(leftSideOperand.getLong() % rightSideOperand.getInt() != 0)
+                return new DataObject().setDouble(leftSideOperand.getLong() / (double)rightSideOperand.getInt());
+
+            return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getInt());
+        });
+        DIV_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return new DataObject().setDouble(leftSideOperand.getLong() / 0.);
+
+            if(leftSideOperand.getLong() % rightSideOperand.getLong() != 0)
+                return new DataObject().setDouble(leftSideOperand.getLong() / (double)rightSideOperand.getLong());
+
+            return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getLong());
+        });
+        DIV_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getLong() / rightSideOperand.getFloat()));
+        DIV_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getLong() / rightSideOperand.getDouble()));
+        DIV_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getInt()));
+        DIV_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getLong()));
+        DIV_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getFloat()));
+        DIV_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getFloat() / rightSideOperand.getDouble()));
+        DIV_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getInt()));
+        DIV_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getLong()));
+        DIV_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getFloat()));
+        DIV_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getDouble()));
+
+        TRUNC_DIV_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setInt(leftSideOperand.getInt() / rightSideOperand.getInt());
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getInt() / rightSideOperand.getLong());
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            float tmpF = leftSideOperand.getInt() / rightSideOperand.getFloat();
+            if(tmpF > 0)
+                tmpF = (float)Math.floor(tmpF);
+            else
+                tmpF = (float)Math.ceil(tmpF);
+            return new DataObject().setFloat(tmpF);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getInt() / rightSideOperand.getDouble();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getInt());
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getLong());
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            float tmpF = leftSideOperand.getLong() / rightSideOperand.getFloat();
+            if(tmpF > 0)
+                tmpF = (float)Math.floor(tmpF);
+            else
+                tmpF = (float)Math.ceil(tmpF);
+            return new DataObject().setFloat(tmpF);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getLong() / rightSideOperand.getDouble();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            float tmpF = leftSideOperand.getFloat() / rightSideOperand.getInt();
+            if(tmpF > 0)
+                tmpF = (float)Math.floor(tmpF);
+            else
+                tmpF = (float)Math.ceil(tmpF);
+            return new DataObject().setFloat(tmpF);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            float tmpF = leftSideOperand.getFloat() / rightSideOperand.getLong();
+            if(tmpF > 0)
+                tmpF = (float)Math.floor(tmpF);
+            else
+                tmpF = (float)Math.ceil(tmpF);
+            return new DataObject().setFloat(tmpF);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            float tmpF = leftSideOperand.getFloat() / rightSideOperand.getFloat();
+            if(tmpF > 0)
+                tmpF = (float)Math.floor(tmpF);
+            else
+                tmpF = (float)Math.ceil(tmpF);
+            return new DataObject().setFloat(tmpF);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getFloat() / rightSideOperand.getDouble();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getDouble() / rightSideOperand.getInt();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getDouble() / rightSideOperand.getLong();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getDouble() / rightSideOperand.getFloat();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+        TRUNC_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            double tmpD = leftSideOperand.getDouble() / rightSideOperand.getDouble();
+            if(tmpD > 0)
+                tmpD = Math.floor(tmpD);
+            else
+                tmpD = Math.ceil(tmpD);
+            return new DataObject().setDouble(tmpD);
+        });
+
+        FLOOR_DIV_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setInt(Math.floorDiv(leftSideOperand.getInt(), rightSideOperand.getInt()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(Math.floorDiv(leftSideOperand.getInt(), rightSideOperand.getLong()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.floor(leftSideOperand.getInt() / rightSideOperand.getFloat()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getInt() / rightSideOperand.getDouble()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(Math.floorDiv(leftSideOperand.getLong(), (long)rightSideOperand.getInt()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(Math.floorDiv(leftSideOperand.getLong(), rightSideOperand.getLong()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.floor(leftSideOperand.getLong() / rightSideOperand.getFloat()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getLong() / rightSideOperand.getDouble()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getInt()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getLong()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getFloat()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getFloat() / rightSideOperand.getDouble()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getInt()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getLong()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getFloat()));
+        });
+        FLOOR_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getDouble()));
+        });
+
+        CEIL_DIV_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setInt(LangUtils.ceilDiv(leftSideOperand.getInt(), rightSideOperand.getInt()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getInt(), rightSideOperand.getLong()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getInt() / rightSideOperand.getFloat()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getInt() / rightSideOperand.getDouble()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getLong(), (long)rightSideOperand.getInt()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getLong(), rightSideOperand.getLong()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getLong() / rightSideOperand.getFloat()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getLong() / rightSideOperand.getDouble()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getInt()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getLong()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getFloat()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getDouble()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getInt()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getLong()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getFloat() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getFloat()));
+        });
+        CEIL_DIV_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getDouble() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getDouble()));
+        });
+
+        MOD_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setInt(leftSideOperand.getInt() % rightSideOperand.getInt());
+        });
+        MOD_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getInt() % rightSideOperand.getLong());
+        });
+        MOD_OPERATIONS.put(DataType.INT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getInt() % rightSideOperand.getFloat()));
+        MOD_OPERATIONS.put(DataType.INT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getInt() % rightSideOperand.getDouble()));
+        MOD_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getInt() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getLong() % rightSideOperand.getInt());
+        });
+        MOD_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) -> {
+            if(rightSideOperand.getLong() == 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
+
+            return new DataObject().setLong(leftSideOperand.getLong() % rightSideOperand.getLong());
+        });
+        MOD_OPERATIONS.put(DataType.LONG, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getLong() % rightSideOperand.getFloat()));
+        MOD_OPERATIONS.put(DataType.LONG, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getLong() % rightSideOperand.getDouble()));
+        MOD_OPERATIONS.put(DataType.FLOAT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getInt()));
+        MOD_OPERATIONS.put(DataType.FLOAT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getLong()));
+        MOD_OPERATIONS.put(DataType.FLOAT, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getFloat()));
+        MOD_OPERATIONS.put(DataType.FLOAT, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getFloat() % rightSideOperand.getDouble()));
+        MOD_OPERATIONS.put(DataType.DOUBLE, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getInt()));
+        MOD_OPERATIONS.put(DataType.DOUBLE, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getLong()));
+        MOD_OPERATIONS.put(DataType.DOUBLE, DataType.FLOAT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getFloat()));
+        MOD_OPERATIONS.put(DataType.DOUBLE, DataType.DOUBLE, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getDouble()));
+
+        AND_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() & rightSideOperand.getInt()));
+        AND_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() & rightSideOperand.getLong()));
+        AND_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() & rightSideOperand.getInt()));
+        AND_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() & rightSideOperand.getLong()));
+
+        OR_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() | rightSideOperand.getInt()));
+        OR_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() | rightSideOperand.getLong()));
+        OR_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() | rightSideOperand.getInt()));
+        OR_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() | rightSideOperand.getLong()));
+
+        XOR_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() ^ rightSideOperand.getInt()));
+        XOR_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getInt() ^ rightSideOperand.getLong()));
+        XOR_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() ^ rightSideOperand.getInt()));
+        XOR_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() ^ rightSideOperand.getLong()));
+
+        LSHIFT_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() << rightSideOperand.getInt()));
+        LSHIFT_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong((long)leftSideOperand.getInt() << rightSideOperand.getLong()));
+        LSHIFT_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() << rightSideOperand.getInt()));
+        LSHIFT_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() << rightSideOperand.getLong()));
+
+        RSHIFT_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() >> rightSideOperand.getInt()));
+        RSHIFT_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong((long)leftSideOperand.getInt() >> rightSideOperand.getLong()));
+        RSHIFT_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() >> rightSideOperand.getInt()));
+        RSHIFT_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() >> rightSideOperand.getLong()));
+
+        RZSHIFT_OPERATIONS.put(DataType.INT, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setInt(leftSideOperand.getInt() >>> rightSideOperand.getInt()));
+        RZSHIFT_OPERATIONS.put(DataType.INT, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong((long)leftSideOperand.getInt() >>> rightSideOperand.getLong()));
+        RZSHIFT_OPERATIONS.put(DataType.LONG, DataType.INT, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() >>> rightSideOperand.getInt()));
+        RZSHIFT_OPERATIONS.put(DataType.LONG, DataType.LONG, (interpreter, leftSideOperand, rightSideOperand, pos) ->
+                new DataObject().setLong(leftSideOperand.getLong() >>> rightSideOperand.getLong()));
+    }
+
+    /**
+     * Evaluates an unary math operator for a constant number without an interpreter (Used for constant folding)
+     *
+     * @return Will return null, if the operator can not be evaluated for the operand without an interpreter
+     */
+    static DataObject evaluateConstantOperation(Operator operator, DataObject operand) {
+        if(!isConstantNumber(operand))
+            return null;
+
+        switch(operator) {
+            case POS:
+                return new DataObject(operand);
+            case INV:
+                switch(operand.getType()) {
+                    case INT:
+                        return new DataObject().setInt(-operand.getInt());
+                    case LONG:
+                        return new DataObject().setLong(-operand.getLong());
+                    case FLOAT:
+                        return new DataObject().setFloat(-operand.getFloat());
+                    case DOUBLE:
+                        return new DataObject().setDouble(-operand.getDouble());
+
+                    default:
+                        return null;
+                }
+            case BITWISE_NOT:
+                switch(operand.getType()) {
+                    case INT:
+                        return new DataObject().setInt(~operand.getInt());
+                    case LONG:
+                        return new DataObject().setLong(~operand.getLong());
+
+                    default:
+                        return null;
+                }
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Evaluates a binary math operator for constant numbers without an interpreter (Used for constant folding)
+     *
+     * @return Will return null, if the operator can not be evaluated for the operands without an interpreter or if the
+     * evaluation would set the errno of the interpreter (e.g. integer division by zero)
+     */
+    static DataObject evaluateConstantOperation(Operator operator, DataObject leftSideOperand, DataObject rightSideOperand) {
+        if(!isConstantNumber(leftSideOperand) || !isConstantNumber(rightSideOperand))
+            return null;
+
+        BinaryOperationTable operations;
+        switch(operator) {
+            case ADD:
+                operations = ADD_OPERATIONS;
+                break;
+            case SUB:
+                operations = SUB_OPERATIONS;
+                break;
+            case MUL:
+                operations = MUL_OPERATIONS;
+                break;
+            case POW:
+                operations = POW_OPERATIONS;
+                break;
+            case DIV:
+                operations = DIV_OPERATIONS;
+                break;
+            case BITWISE_AND:
+                operations = AND_OPERATIONS;
+                break;
+            case BITWISE_OR:
+                operations = OR_OPERATIONS;
+                break;
+            case BITWISE_XOR:
+                operations = XOR_OPERATIONS;
+                break;
+            case LSHIFT:
+                operations = LSHIFT_OPERATIONS;
+                break;
+            case RSHIFT:
+                operations = RSHIFT_OPERATIONS;
+                break;
+            case RZSHIFT:
+                operations = RZSHIFT_OPERATIONS;
+                break;
+
+            //The interpreter is only used by these operators to set the DIV_BY_ZERO error
+            case TRUNC_DIV:
+                operations = TRUNC_DIV_OPERATIONS;
+                break;
+            case FLOOR_DIV:
+                operations = FLOOR_DIV_OPERATIONS;
+                break;
+            case CEIL_DIV:
+                operations = CEIL_DIV_OPERATIONS;
+                break;
+            case MOD:
+                operations = MOD_OPERATIONS;
+                break;
+
+            default:
+                return null;
+        }
+
+        if((operator == Operator.TRUNC_DIV || operator == Operator.FLOOR_DIV || operator == Operator.CEIL_DIV ||
+                operator == Operator.MOD) && isConstantZero(rightSideOperand))
+            return null;
+
+        BinaryOperation operation = operations.get(leftSideOperand, rightSideOperand);
+        if(operation == null)
+            return null;
+
+        return operation.apply(null, leftSideOperand, rightSideOperand, CodePosition.EMPTY);
+    }
+
+    private static boolean isConstantNumber(DataObject operand) {
+        DataType type = operand.getType();
+        return type == DataType.INT || type == DataType.LONG || type == DataType.FLOAT || type == DataType.DOUBLE;
+    }
+
+    private static boolean isConstantZero(DataObject operand) {
+        switch(operand.getType()) {
+            case INT:
+                return operand.getInt() == 0;
+            case LONG:
+                return operand.getLong() == 0;
+            case FLOAT:
+                return operand.getFloat() == 0;
+            case DOUBLE:
+                return operand.getDouble() == 0;
+
+            default:
+                return false;
+        }
+    }
+
     public LangOperators(LangInterpreter interpreter) {
         this.interpreter = interpreter;
     }
 
     private DataObject callOperatorMethod(String operatorName, DataObject operand, CodePosition pos) {
+        if(!hasOperatorMethod(operand, operatorName))
+            return null;
+
         return callOperatorMethod(operand, "op:" + operatorName, new ArrayList<>(0),
                 pos);
     }
 
     private DataObject callOperatorMethod(String operatorName, boolean hasReverse, DataObject leftSideOperand,
                                           DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod(leftSideOperand, "op:" + operatorName, Arrays.asList(rightSideOperand), pos);
-        if(ret != null || !hasReverse)
-            return ret;
+        if(hasOperatorMethod(leftSideOperand, operatorName)) {
+            DataObject ret = callOperatorMethod(leftSideOperand, "op:" + operatorName, Arrays.asList(rightSideOperand), pos);
+            if(ret != null)
+                return ret;
+        }
+
+        if(!hasReverse || rightSideOperand.getType() != DataType.OBJECT ||
+                !rightSideOperand.getObject().hasReverseOperatorMethod(operatorName))
+            return null;
 
         return callOperatorMethod(rightSideOperand, "op:r-" + operatorName, Arrays.asList(leftSideOperand), pos);
     }
 
     private DataObject callOperatorMethod(String operatorName, DataObject leftSideOperand, DataObject middleOperand,
                                           DataObject rightSideOperand, CodePosition pos) {
+        if(!hasOperatorMethod(leftSideOperand, operatorName))
+            return null;
+
         return callOperatorMethod(leftSideOperand, "op:" + operatorName,
                 LangUtils.asListWithArgumentSeparators(middleOperand, rightSideOperand), pos);
     }
 
+    /**
+     * @return True if the operand is an object whose class defines (or inherits) the "op:" method of the operator
+     */
+    private static boolean hasOperatorMethod(DataObject operand, String operatorName) {
+        return operand.getType() == DataType.OBJECT && operand.getObject().hasOperatorMethod(operatorName);
+    }
+
+    /**
+     * Copies the elements of the array to dest starting at destIndex (Elements of a primitive array are created with
+     * getArrayElement() instead of inflating the array, other elements are copied as is)
+     */
+    private static void copyArrayElements(DataObject arrayObject, DataObject[] dest, int destIndex) {
+        if(arrayObject.isArrayOfPrimitiveElements()) {
+            for(int i = 0;i < arrayObject.getArrayLength();i++)
+                dest[destIndex + i] = arrayObject.getArrayElement(i);
+        }else {
+            System.arraycopy(arrayObject.getArray(), 0, dest, destIndex, arrayObject.getArrayLength());
+        }
+    }
+
+    /**
+     * @return The elements of the array without inflating a primitive array (See copyArrayElements())
+     */
+    private static List<DataObject> getArrayElements(DataObject arrayObject) {
+        DataObject[] elements = new DataObject[arrayObject.getArrayLength()];
+        copyArrayElements(arrayObject, elements, 0);
+        return Arrays.asList(elements);
+    }
+
     private DataObject callOperatorMethod(DataObject langObject, String methodName, List<DataObject> argumentList,
                                           CodePosition pos) {
         if(langObject.getType() != DataType.OBJECT || langObject.getObject().isClass())
@@ -74,9 +1119,9 @@ public final class LangOperators {
 
         switch(operand.getType()) {
             case BYTE_BUFFER:
-                return new DataObject().setInt(operand.getByteBuffer().length);
+                return new DataObject().setInt(operand.getByteBufferLength());
             case ARRAY:
-                return new DataObject().setInt(operand.getArray().length);
+                return new DataObject().setInt(operand.getArrayLength());
             case LIST:
                 return new DataObject().setInt(operand.getList().size());
             case TEXT:
@@ -113,18 +1158,26 @@ public final class LangOperators {
 
         switch(operand.getType()) {
             case BYTE_BUFFER:
-                return new DataObject().setByteBuffer(Arrays.copyOf(operand.getByteBuffer(), operand.getByteBuffer().length));
+                byte[] byteBufCopy = new byte[operand.getByteBufferLength()];
+                operand.getByteBufferView().get(byteBufCopy);
+
+                return new DataObject().setByteBuffer(byteBufCopy);
             case ARRAY:
-                DataObject[] arrCopy = new DataObject[operand.getArray().length];
-                for(int i = 0;i < operand.getArray().length;i++) {
-                    arrCopy[i] = opDeepCopy(operand.getArray()[i], pos);
+                //Elements of a primitive array are plain values which do not have to be copied one by one
+                if(operand.isArrayOfPrimitiveElements())
+                    return new DataObject().setArrayCopyOfRange(operand, 0, operand.getArrayLength());
+
+                DataObject[] arr = operand.getArray();
+                DataObject[] arrCopy = new DataObject[arr.length];
+                for(int i = 0;i < arr.length;i++) {
+                    arrCopy[i] = opDeepCopy(arr[i], pos);
                     if(arrCopy[i] == null)
                         return null;
                 }
 
-                return new DataObject().setArray(arrCopy);
+                return new DataObject().setArrayOfElements(arrCopy);
             case LIST:
-                LinkedList<DataObject> listCopy = new LinkedList<>();
+                LangArrayDeque<DataObject> listCopy = new LangArrayDeque<>();
                 for(int i = 0;i < operand.getList().size();i++) {
                     listCopy.add(opDeepCopy(operand.getList().get(i), pos));
                     if(listCopy.get(i) == null)
@@ -190,46 +1243,43 @@ public final class LangOperators {
             case CHAR:
                 return new DataObject(new String(Character.toChars(leftSideOperand.getChar())) + interpreter.conversions.toText(rightSideOperand, pos).toString());
             case TEXT:
-                return new DataObject(leftSideOperand.getText() + interpreter.conversions.toText(rightSideOperand, pos).toString());
+                return new DataObject(leftSideOperand.getText().concat(interpreter.conversions.toText(rightSideOperand, pos)));
             case BYTE_BUFFER:
                 if(rightSideOperand.getType() != DataType.BYTE_BUFFER)
                     return null;
 
-                byte[] newByteBuf = new byte[leftSideOperand.getByteBuffer().length + rightSideOperand.getByteBuffer().length];
+                byte[] newByteBuf = new byte[leftSideOperand.getByteBufferLength() + rightSideOperand.getByteBufferLength()];
 
-                System.arraycopy(leftSideOperand.getByteBuffer(), 0, newByteBuf, 0, leftSideOperand.getByteBuffer().length);
-                System.arraycopy(rightSideOperand.getByteBuffer(), 0, newByteBuf, leftSideOperand.getByteBuffer().length,
-                        rightSideOperand.getByteBuffer().length);
+                leftSideOperand.getByteBufferView().get(newByteBuf, 0, leftSideOperand.getByteBufferLength());
+                rightSideOperand.getByteBufferView().get(newByteBuf, leftSideOperand.getByteBufferLength(),
+                        rightSideOperand.getByteBufferLength());
 
                 return new DataObject().setByteBuffer(newByteBuf);
             case ARRAY:
                 if(rightSideOperand.getType() == DataType.ARRAY) {
-                    DataObject[] arrNew = new DataObject[leftSideOperand.getArray().length + rightSideOperand.getArray().length];
-                    for(int i = 0;i < leftSideOperand.getArray().length;i++)
-                        arrNew[i] = leftSideOperand.getArray()[i];
-                    for(int i = 0;i < rightSideOperand.getArray().length;i++)
-                        arrNew[leftSideOperand.getArray().length + i] = rightSideOperand.getArray()[i];
+                    DataObject[] arrNew = new DataObject[leftSideOperand.getArrayLength() + rightSideOperand.getArrayLength()];
+                    copyArrayElements(leftSideOperand, arrNew, 0);
+                    copyArrayElements(rightSideOperand, arrNew, leftSideOperand.getArrayLength());
 
-                    return new DataObject().setArray(arrNew);
+                    return new DataObject().setArrayOfElements(arrNew);
                 }else if(rightSideOperand.getType() == DataType.LIST) {
-                    DataObject[] arrNew = new DataObject[leftSideOperand.getArray().length + rightSideOperand.getList().size()];
-                    for(int i = 0;i < leftSideOperand.getArray().length;i++)
-                        arrNew[i] = leftSideOperand.getArray()[i];
+                    DataObject[] arrNew = new DataObject[leftSideOperand.getArrayLength() + rightSideOperand.getList().size()];
+                    copyArrayElements(leftSideOperand, arrNew, 0);
                     for(int i = 0;i < rightSideOperand.getList().size();i++)
-                        arrNew[leftSideOperand.getArray().length + i] = rightSideOperand.getList().get(i);
+                        arrNew[leftSideOperand.getArrayLength() + i] = rightSideOperand.getList().get(i);
 
-                    return new DataObject().setArray(arrNew);
+                    return new DataObject().setArrayOfElements(arrNew);
                 }
 
                 return null;
             case LIST:
                 if(rightSideOperand.getType() == DataType.ARRAY) {
-                    LinkedList<DataObject> listNew = new LinkedList<>(leftSideOperand.getList());
-                    listNew.addAll(Arrays.asList(rightSideOperand.getArray()));
+                    LangArrayDeque<DataObject> listNew = new LangArrayDeque<>(leftSideOperand.getList());
+                    listNew.addAll(getArrayElements(rightSideOperand));
 
                     return new DataObject().setList(listNew);
                 }else if(rightSideOperand.getType() == DataType.LIST) {
-                    LinkedList<DataObject> listNew = new LinkedList<>(leftSideOperand.getList());
+                    LangArrayDeque<DataObject> listNew = new LangArrayDeque<>(leftSideOperand.getList());
                     listNew.addAll(rightSideOperand.getList());
 
                     return new DataObject().setList(listNew);
@@ -316,7 +1366,7 @@ public final class LangOperators {
                             @LangParameter("&array") @AllowedTypes(DataObject.DataType.ARRAY) DataObject arrayObject
                     ) {
                         return interpreter.callFunctionPointer(func, operand.getVariableName(), LangUtils.separateArgumentsWithArgumentSeparators(
-                                Arrays.stream(arrayObject.getArray()).map(DataObject::new).collect(Collectors.toList())
+                                IntStream.range(0, arrayObject.getArrayLength()).mapToObj(arrayObject::getArrayElement).collect(Collectors.toList())
                         ));
                     }
                 }, operand).withFunctionName("<auto-unpack-func(" + func + ")>"));
@@ -422,20 +1472,19 @@ public final class LangOperators {
             case TEXT:
                 return new DataObject(new StringBuilder(operand.getText().toString()).reverse().toString());
             case BYTE_BUFFER:
-                byte[] revByteBuf = new byte[operand.getByteBuffer().length];
+                byte[] revByteBuf = new byte[operand.getByteBufferLength()];
                 for(int i = 0;i < revByteBuf.length;i++)
-                    revByteBuf[i] = operand.getByteBuffer()[revByteBuf.length - 1 - i];
+                    revByteBuf[i] = operand.getByteBufferByte(revByteBuf.length - 1 - i);
 
                 return new DataObject().setByteBuffer(revByteBuf);
             case ARRAY:
-                DataObject[] arrInv = new DataObject[operand.getArray().length];
-                int index = arrInv.length - 1;
-                for(DataObject dataObject:operand.getArray())
-                    arrInv[index--] = dataObject;
+                DataObject[] arrInv = new DataObject[operand.getArrayLength()];
+                copyArrayElements(operand, arrInv, 0);
+                Collections.reverse(Arrays.asList(arrInv));
 
-                return new DataObject().setArray(arrInv);
+                return new DataObject().setArrayOfElements(arrInv);
             case LIST:
-                LinkedList<DataObject> listInv = new LinkedList<>(operand.getList());
+                LangArrayDeque<DataObject> listInv = new LangArrayDeque<>(operand.getList());
                 Collections.reverse(listInv);
 
                 return new DataObject().setList(listInv);
@@ -458,54 +1507,119 @@ public final class LangOperators {
      * For "+"
      */
     public DataObject opAdd(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = ADD_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("add", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() + rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() + rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getInt() + rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getInt() + rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setInt(leftSideOperand.getInt() + rightSideOperand.getChar());
+            case TEXT:
+                return new DataObject(leftSideOperand.getText().concat(interpreter.conversions.toText(rightSideOperand, pos)));
+            case ARRAY:
+                DataObject[] arrNew = new DataObject[leftSideOperand.getArrayLength() + 1];
+                copyArrayElements(leftSideOperand, arrNew, 0);
+                arrNew[leftSideOperand.getArrayLength()] = new DataObject(rightSideOperand);
+                return new DataObject().setArrayOfElements(arrNew);
+            case LIST:
+                LangArrayDeque<DataObject> listNew = new LangArrayDeque<>(leftSideOperand.getList());
+                listNew.add(new DataObject(rightSideOperand));
+                return new DataObject().setList(listNew);
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
+            case FUNCTION_POINTER:
+                if(rightSideOperand.getType() != DataType.FUNCTION_POINTER)
+                    return null;
+
+                return new DataObject().setFunctionPointer(leftSideOperand.getFunctionPointer().
+                        withAddedFunctions(rightSideOperand.getFunctionPointer()));
+
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case BYTE_BUFFER:
+            case ERROR:
+            case VAR_POINTER:
+            case STRUCT:
+            case OBJECT:
+            case NULL:
+            case VOID:
+            case ARGUMENT_SEPARATOR:
+            case TYPE:
                 return null;
+        }
+
+        return null;
+    }
+    /**
+     * For "-"
+     */
+    public DataObject opSub(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = SUB_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("sub", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
+
+        switch(leftSideOperand.getType()) {
+            case INT:
             case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case TEXT:
+            case BYTE_BUFFER:
+            case ARRAY:
+            case LIST:
+            case ERROR:
+            case VAR_POINTER:
+            case FUNCTION_POINTER:
+            case STRUCT:
+            case OBJECT:
+            case NULL:
+            case VOID:
+            case ARGUMENT_SEPARATOR:
+            case TYPE:
+                return null;
+        }
+
+        return null;
+    }
+    /**
+     * For "*"
+     */
+    public DataObject opMul(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = MUL_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("mul", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
+
+        switch(leftSideOperand.getType()) {
+            case TEXT:
                 switch(rightSideOperand.getType()) {
                     case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getInt());
+                        if(rightSideOperand.getInt() < 0)
+                            return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "Integer value must be larger than or equals to 0", pos);
+
+                        StringBuilder builder = new StringBuilder();
+                        for(int i = 0;i < rightSideOperand.getInt();i++)
+                            builder.append(leftSideOperand.getText());
+
+                        return new DataObject(builder.toString());
+
                     case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getLong());
                     case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getLong() + rightSideOperand.getFloat());
                     case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getLong() + rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setLong(leftSideOperand.getLong() + rightSideOperand.getChar());
-
                     case TEXT:
+                    case CHAR:
                     case BYTE_BUFFER:
                     case ARRAY:
                     case LIST:
@@ -521,115 +1635,18 @@ public final class LangOperators {
                         return null;
                 }
                 return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getFloat() + rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() + rightSideOperand.getChar());
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
+            case INT:
+            case LONG:
+            case FLOAT:
             case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() + rightSideOperand.getChar());
-
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case CHAR:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getChar() + rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getChar() + rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getChar() + rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getChar() + rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setInt(leftSideOperand.getChar() + rightSideOperand.getChar());
-
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case TEXT:
-                return new DataObject(leftSideOperand.getText() + interpreter.conversions.toText(rightSideOperand, pos).toString());
             case ARRAY:
-                DataObject[] arrNew = new DataObject[leftSideOperand.getArray().length + 1];
-                System.arraycopy(leftSideOperand.getArray(), 0, arrNew, 0, leftSideOperand.getArray().length);
-                arrNew[leftSideOperand.getArray().length] = new DataObject(rightSideOperand);
-                return new DataObject().setArray(arrNew);
-            case LIST:
-                LinkedList<DataObject> listNew = new LinkedList<>(leftSideOperand.getList());
-                listNew.add(new DataObject(rightSideOperand));
-                return new DataObject().setList(listNew);
-
-            case FUNCTION_POINTER:
-                if(rightSideOperand.getType() != DataType.FUNCTION_POINTER)
-                    return null;
-
-                return new DataObject().setFunctionPointer(leftSideOperand.getFunctionPointer().
-                        withAddedFunctions(rightSideOperand.getFunctionPointer()));
-
             case BYTE_BUFFER:
+            case LIST:
             case ERROR:
             case VAR_POINTER:
+            case FUNCTION_POINTER:
             case STRUCT:
             case OBJECT:
             case NULL:
@@ -642,167 +1659,74 @@ public final class LangOperators {
         return null;
     }
     /**
-     * For "-"
+     * For "**"
      */
-    public DataObject opSub(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("sub", true, leftSideOperand, rightSideOperand, pos);
+    public DataObject opPow(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = POW_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("pow", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() - rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() - rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getInt() - rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getInt() - rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setInt(leftSideOperand.getInt() - rightSideOperand.getChar());
+            case FUNCTION_POINTER:
+                if(rightSideOperand.getType() != DataType.INT)
+                    return null;
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getLong() - rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getLong() - rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setLong(leftSideOperand.getLong() - rightSideOperand.getChar());
+                final int count = rightSideOperand.getInt();
+                if(count < 0)
+                    return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "Number must not be less than 0!", pos);
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getFloat() - rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() - rightSideOperand.getChar());
+                final FunctionPointerObject func = leftSideOperand.getFunctionPointer();
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() - rightSideOperand.getChar());
+                if(count == 0)
+                    return new DataObject().setFunctionPointer(LangNativeFunction.getSingleLangFunctionFromObject(new Object() {
+                        @LangFunction("pow-func")
+                        @SuppressWarnings("unused")
+                        public DataObject powFuncFunction(
+                                LangInterpreter interpreter,
+                                @LangParameter("&args") @RawVarArgs List<DataObject> args
+                        ) {
+                            return new DataObject().setVoid();
+                        }
+                    }).withFunctionName("<" + func + " ** " + count + ">"));
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case CHAR:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getChar() - rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getChar() - rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getChar() - rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getChar() - rightSideOperand.getDouble());
-                    case CHAR:
-                        return new DataObject().setInt(leftSideOperand.getChar() - rightSideOperand.getChar());
+                return new DataObject().setFunctionPointer(LangNativeFunction.getSingleLangFunctionFromObject(new Object() {
+                    @LangFunction("pow-func")
+                    @SuppressWarnings("unused")
+                    public DataObject powFuncFunction(
+                            LangInterpreter interpreter,
+                            @LangParameter("&args") @RawVarArgs List<DataObject> args
+                    ) {
+                        DataObject ret = LangUtils.nullToLangVoid(
+                                interpreter.callFunctionPointer(func, leftSideOperand.getVariableName(), args)
+                        );
 
-                    case TEXT:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
+                        for(int i = 1;i < count;i++) {
+                            ret = LangUtils.nullToLangVoid(
+                                    interpreter.callFunctionPointer(func, leftSideOperand.getVariableName(), Arrays.asList(
+                                            ret
+                                    ))
+                            );
+                        }
+
+                        return ret;
+                    }
+                }, count, leftSideOperand).withFunctionName("<" + func + " ** " + count + ">"));
 
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
             case TEXT:
+            case CHAR:
             case BYTE_BUFFER:
             case ARRAY:
             case LIST:
             case ERROR:
             case VAR_POINTER:
-            case FUNCTION_POINTER:
             case STRUCT:
             case OBJECT:
             case NULL:
@@ -815,952 +1739,22 @@ public final class LangOperators {
         return null;
     }
     /**
-     * For "*"
+     * For "/"
      */
-    public DataObject opMul(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("mul", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() * rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() * rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getInt() * rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getInt() * rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() * rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() * rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getLong() * rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getLong() * rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() * rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getFloat() * rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() * rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
-            case TEXT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() < 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "Integer value must be larger than or equals to 0", pos);
-
-                        StringBuilder builder = new StringBuilder();
-                        for(int i = 0;i < rightSideOperand.getInt();i++)
-                            builder.append(leftSideOperand.getText());
-
-                        return new DataObject(builder.toString());
-
-                    case LONG:
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
-            case CHAR:
-            case ARRAY:
-            case BYTE_BUFFER:
-            case LIST:
-            case ERROR:
-            case VAR_POINTER:
-            case FUNCTION_POINTER:
-            case STRUCT:
-            case OBJECT:
-            case NULL:
-            case VOID:
-            case ARGUMENT_SEPARATOR:
-            case TYPE:
-                return null;
-        }
-
-        return null;
-    }
-    /**
-     * For "**"
-     */
-    public DataObject opPow(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("pow", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        double d = Math.pow(leftSideOperand.getInt(), rightSideOperand.getInt());
-                        if(Math.abs(d) > Integer.MAX_VALUE || rightSideOperand.getInt() < 0)
-                            return new DataObject().setDouble(d);
-                        return new DataObject().setInt((int)d);
-                    case LONG:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getInt(), rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getInt()));
-                    case LONG:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getLong(), rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getInt()));
-                    case LONG:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getFloat(), rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getInt()));
-                    case LONG:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        return new DataObject().setDouble(Math.pow(leftSideOperand.getDouble(), rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
-            case FUNCTION_POINTER:
-                if(rightSideOperand.getType() != DataType.INT)
-                    return null;
-
-                final int count = rightSideOperand.getInt();
-                if(count < 0)
-                    return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "Number must not be less than 0!", pos);
-
-                final FunctionPointerObject func = leftSideOperand.getFunctionPointer();
-
-                if(count == 0)
-                    return new DataObject().setFunctionPointer(LangNativeFunction.getSingleLangFunctionFromObject(new Object() {
-                        @LangFunction("pow-func")
-                        @SuppressWarnings("unused")
-                        public DataObject powFuncFunction(
-                                LangInterpreter interpreter,
-                                @LangParameter("&args") @RawVarArgs List<DataObject> args
-                        ) {
-                            return new DataObject().setVoid();
-                        }
-                    }).withFunctionName("<" + func + " ** " + count + ">"));
-
-                return new DataObject().setFunctionPointer(LangNativeFunction.getSingleLangFunctionFromObject(new Object() {
-                    @LangFunction("pow-func")
-                    @SuppressWarnings("unused")
-                    public DataObject powFuncFunction(
-                            LangInterpreter interpreter,
-                            @LangParameter("&args") @RawVarArgs List<DataObject> args
-                    ) {
-                        DataObject ret = LangUtils.nullToLangVoid(
-                                interpreter.callFunctionPointer(func, leftSideOperand.getVariableName(), args)
-                        );
-
-                        for(int i = 1;i < count;i++) {
-                            ret = LangUtils.nullToLangVoid(
-                                    interpreter.callFunctionPointer(func, leftSideOperand.getVariableName(), Arrays.asList(
-                                            ret
-                                    ))
-                            );
-                        }
-
-                        return ret;
-                    }
-                }, count, leftSideOperand).withFunctionName("<" + func + " ** " + count + ">"));
-
-            case TEXT:
-            case CHAR:
-            case BYTE_BUFFER:
-            case ARRAY:
-            case LIST:
-            case ERROR:
-            case VAR_POINTER:
-            case STRUCT:
-            case OBJECT:
-            case NULL:
-            case VOID:
-            case ARGUMENT_SEPARATOR:
-            case TYPE:
-                return null;
-        }
-
-        return null;
-    }
-    /**
-     * For "/"
-     */
-    public DataObject opDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("div", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return new DataObject().setDouble(leftSideOperand.getInt() / 0.);
-
-                        if(leftSideOperand.getInt() % rightSideOperand.getInt() != 0)
-                            return new DataObject().setDouble(leftSideOperand.getInt() / (double)rightSideOperand.getInt());
-
-                        return new DataObject().setInt(leftSideOperand.getInt() / rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return new DataObject().setDouble(leftSideOperand.getInt() / 0.);
-
-                        if(leftSideOperand.getInt() % rightSideOperand.getLong() != 0)
-                            return new DataObject().setDouble(leftSideOperand.getInt() / (double)rightSideOperand.getLong());
-
-                        return new DataObject().setLong(leftSideOperand.getInt() / rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getInt() / rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getInt() / rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return new DataObject().setDouble(leftSideOperand.getLong() / 0.);
-
-                        if(leftSideOperand.getLong() % rightSideOperand.getInt() != 0)
-                            return new DataObject().setDouble(leftSideOperand.getLong() / (double)rightSideOperand.getInt());
-
-                        return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return new DataObject().setDouble(leftSideOperand.getLong() / 0.);
-
-                        if(leftSideOperand.getLong() % rightSideOperand.getLong() != 0)
-                            return new DataObject().setDouble(leftSideOperand.getLong() / (double)rightSideOperand.getLong());
-
-                        return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getLong() / rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getLong() / rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() / rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getFloat() / rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() / rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
-            case TEXT:
-            case CHAR:
-            case BYTE_BUFFER:
-            case ARRAY:
-            case LIST:
-            case ERROR:
-            case VAR_POINTER:
-            case FUNCTION_POINTER:
-            case STRUCT:
-            case OBJECT:
-            case NULL:
-            case VOID:
-            case ARGUMENT_SEPARATOR:
-            case TYPE:
-                return null;
-        }
-
-        return null;
-    }
-    /**
-     * For "~/"
-     */
-    public DataObject opTruncDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("truncDiv", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setInt(leftSideOperand.getInt() / rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getInt() / rightSideOperand.getLong());
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        float tmpF = leftSideOperand.getInt() / rightSideOperand.getFloat();
-                        if(tmpF > 0)
-                            tmpF = (float)Math.floor(tmpF);
-                        else
-                            tmpF = (float)Math.ceil(tmpF);
-                        return new DataObject().setFloat(tmpF);
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        double tmpD = leftSideOperand.getInt() / rightSideOperand.getDouble();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getLong() / rightSideOperand.getLong());
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        float tmpF = leftSideOperand.getLong() / rightSideOperand.getFloat();
-                        if(tmpF > 0)
-                            tmpF = (float)Math.floor(tmpF);
-                        else
-                            tmpF = (float)Math.ceil(tmpF);
-                        return new DataObject().setFloat(tmpF);
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        double tmpD = leftSideOperand.getLong() / rightSideOperand.getDouble();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        float tmpF = leftSideOperand.getFloat() / rightSideOperand.getInt();
-                        if(tmpF > 0)
-                            tmpF = (float)Math.floor(tmpF);
-                        else
-                            tmpF = (float)Math.ceil(tmpF);
-                        return new DataObject().setFloat(tmpF);
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        tmpF = leftSideOperand.getFloat() / rightSideOperand.getLong();
-                        if(tmpF > 0)
-                            tmpF = (float)Math.floor(tmpF);
-                        else
-                            tmpF = (float)Math.ceil(tmpF);
-                        return new DataObject().setFloat(tmpF);
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        tmpF = leftSideOperand.getFloat() / rightSideOperand.getFloat();
-                        if(tmpF > 0)
-                            tmpF = (float)Math.floor(tmpF);
-                        else
-                            tmpF = (float)Math.ceil(tmpF);
-                        return new DataObject().setFloat(tmpF);
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        double tmpD = leftSideOperand.getFloat() / rightSideOperand.getDouble();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        double tmpD = leftSideOperand.getDouble() / rightSideOperand.getInt();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        tmpD = leftSideOperand.getDouble() / rightSideOperand.getLong();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        tmpD = leftSideOperand.getDouble() / rightSideOperand.getFloat();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        tmpD = leftSideOperand.getDouble() / rightSideOperand.getDouble();
-                        if(tmpD > 0)
-                            tmpD = Math.floor(tmpD);
-                        else
-                            tmpD = Math.ceil(tmpD);
-                        return new DataObject().setDouble(tmpD);
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
-            case TEXT:
-            case CHAR:
-            case BYTE_BUFFER:
-            case ARRAY:
-            case LIST:
-            case ERROR:
-            case VAR_POINTER:
-            case FUNCTION_POINTER:
-            case STRUCT:
-            case OBJECT:
-            case NULL:
-            case VOID:
-            case ARGUMENT_SEPARATOR:
-            case TYPE:
-                return null;
-        }
-
-        return null;
-    }
-    /**
-     * For "//"
-     */
-    public DataObject opFloorDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("floorDiv", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setInt(Math.floorDiv(leftSideOperand.getInt(), rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(Math.floorDiv(leftSideOperand.getInt(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.floor(leftSideOperand.getInt() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getInt() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(Math.floorDiv(leftSideOperand.getLong(), (long)rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(Math.floorDiv(leftSideOperand.getLong(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.floor(leftSideOperand.getLong() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getLong() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.floor(leftSideOperand.getFloat() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getFloat() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-
-                return null;
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.floor(leftSideOperand.getDouble() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
+    public DataObject opDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = DIV_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("div", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
 
+        switch(leftSideOperand.getType()) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
             case TEXT:
             case CHAR:
             case BYTE_BUFFER:
@@ -1781,176 +1775,22 @@ public final class LangOperators {
         return null;
     }
     /**
-     * For "^/"
+     * For "~/"
      */
-    public DataObject opCeilDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("ceilDiv", true, leftSideOperand, rightSideOperand, pos);
+    public DataObject opTruncDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = TRUNC_DIV_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("truncDiv", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setInt(LangUtils.ceilDiv(leftSideOperand.getInt(), rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getInt(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getInt() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getInt() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getLong(), (long)rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(LangUtils.ceilDiv(leftSideOperand.getLong(), rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getLong() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getLong() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setFloat((float)Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getFloat() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-
-                return null;
             case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getInt()));
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getLong()));
-                    case FLOAT:
-                        if(rightSideOperand.getFloat() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getFloat()));
-                    case DOUBLE:
-                        if(rightSideOperand.getDouble() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setDouble(Math.ceil(leftSideOperand.getDouble() / rightSideOperand.getDouble()));
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case TEXT:
             case CHAR:
             case BYTE_BUFFER:
@@ -1971,147 +1811,100 @@ public final class LangOperators {
         return null;
     }
     /**
-     * For "%"
+     * For "//"
      */
-    public DataObject opMod(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("mod", true, leftSideOperand, rightSideOperand, pos);
+    public DataObject opFloorDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = FLOOR_DIV_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("floorDiv", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setInt(leftSideOperand.getInt() % rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getInt() % rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getInt() % rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getInt() % rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        if(rightSideOperand.getInt() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getLong() % rightSideOperand.getInt());
-                    case LONG:
-                        if(rightSideOperand.getLong() == 0)
-                            return interpreter.setErrnoErrorObject(InterpretingError.DIV_BY_ZERO, pos);
-
-                        return new DataObject().setLong(leftSideOperand.getLong() % rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getLong() % rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getLong() % rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setFloat(leftSideOperand.getFloat() % rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getFloat() % rightSideOperand.getDouble());
-
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
+            case DOUBLE:
+            case TEXT:
+            case CHAR:
+            case BYTE_BUFFER:
+            case ARRAY:
+            case LIST:
+            case ERROR:
+            case VAR_POINTER:
+            case FUNCTION_POINTER:
+            case STRUCT:
+            case OBJECT:
+            case NULL:
+            case VOID:
+            case ARGUMENT_SEPARATOR:
+            case TYPE:
                 return null;
+        }
 
-            case DOUBLE:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getLong());
-                    case FLOAT:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getFloat());
-                    case DOUBLE:
-                        return new DataObject().setDouble(leftSideOperand.getDouble() % rightSideOperand.getDouble());
+        return null;
+    }
+    /**
+     * For "^/"
+     */
+    public DataObject opCeilDiv(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = CEIL_DIV_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
 
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
+        DataObject ret = callOperatorMethod("ceilDiv", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
+
+        switch(leftSideOperand.getType()) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case TEXT:
+            case CHAR:
+            case BYTE_BUFFER:
+            case ARRAY:
+            case LIST:
+            case ERROR:
+            case VAR_POINTER:
+            case FUNCTION_POINTER:
+            case STRUCT:
+            case OBJECT:
+            case NULL:
+            case VOID:
+            case ARGUMENT_SEPARATOR:
+            case TYPE:
                 return null;
+        }
+
+        return null;
+    }
+    /**
+     * For "%"
+     */
+    public DataObject opMod(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = MOD_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
+        DataObject ret = callOperatorMethod("mod", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
 
+        switch(leftSideOperand.getType()) {
             case TEXT:
                 if(rightSideOperand.getType() == DataType.ARRAY)
-                    return interpreter.formatText(leftSideOperand.getText().toString(), new LinkedList<>(Arrays.asList(rightSideOperand.getArray())));
+                    return interpreter.formatText(leftSideOperand.getText().toString(), new LinkedList<>(getArrayElements(rightSideOperand)));
 
                 return null;
 
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
             case CHAR:
             case BYTE_BUFFER:
             case ARRAY:
@@ -2134,64 +1927,17 @@ public final class LangOperators {
      * For "&amp;"
      */
     public DataObject opAnd(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = AND_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("and", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() & rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() & rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() & rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() & rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2217,6 +1963,10 @@ public final class LangOperators {
      * For "|"
      */
     public DataObject opOr(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = OR_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("or", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
@@ -2231,58 +1981,7 @@ public final class LangOperators {
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() | rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() | rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() | rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() | rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2308,64 +2007,17 @@ public final class LangOperators {
      * For "^"
      */
     public DataObject opXor(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = XOR_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("xor", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() ^ rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getInt() ^ rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() ^ rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() ^ rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2400,89 +2052,42 @@ public final class LangOperators {
                 return new DataObject().setInt(~operand.getInt());
             case LONG:
                 return new DataObject().setLong(~operand.getLong());
-            case FLOAT:
-            case DOUBLE:
-            case TEXT:
-            case CHAR:
-            case BYTE_BUFFER:
-            case ARRAY:
-            case LIST:
-            case ERROR:
-            case VAR_POINTER:
-            case FUNCTION_POINTER:
-            case STRUCT:
-            case OBJECT:
-            case NULL:
-            case VOID:
-            case ARGUMENT_SEPARATOR:
-            case TYPE:
-                return null;
-        }
-
-        return null;
-    }
-    /**
-     * For "&lt;&lt;"
-     */
-    public DataObject opLshift(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
-        DataObject ret = callOperatorMethod("lshift", true, leftSideOperand, rightSideOperand, pos);
-        if(ret != null)
-            return ret;
-
-        switch(leftSideOperand.getType()) {
-            case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() << rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong((long)leftSideOperand.getInt() << rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-            case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() << rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() << rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
+            case FLOAT:
+            case DOUBLE:
+            case TEXT:
+            case CHAR:
+            case BYTE_BUFFER:
+            case ARRAY:
+            case LIST:
+            case ERROR:
+            case VAR_POINTER:
+            case FUNCTION_POINTER:
+            case STRUCT:
+            case OBJECT:
+            case NULL:
+            case VOID:
+            case ARGUMENT_SEPARATOR:
+            case TYPE:
                 return null;
+        }
+
+        return null;
+    }
+    /**
+     * For "&lt;&lt;"
+     */
+    public DataObject opLshift(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = LSHIFT_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
 
+        DataObject ret = callOperatorMethod("lshift", true, leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
+
+        switch(leftSideOperand.getType()) {
+            case INT:
+            case LONG:
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2508,6 +2113,10 @@ public final class LangOperators {
      * For "&gt;&gt;"
      */
     public DataObject opRshift(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = RSHIFT_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("rshift", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
@@ -2522,58 +2131,7 @@ public final class LangOperators {
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() >> rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong((long)leftSideOperand.getInt() >> rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() >> rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() >> rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2599,6 +2157,10 @@ public final class LangOperators {
      * For "&gt;&gt;&gt;"
      */
     public DataObject opRzshift(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        BinaryOperation operation = RZSHIFT_OPERATIONS.get(leftSideOperand, rightSideOperand);
+        if(operation != null)
+            return operation.apply(interpreter, leftSideOperand, rightSideOperand, pos);
+
         DataObject ret = callOperatorMethod("rzshift", true, leftSideOperand, rightSideOperand, pos);
         if(ret != null)
             return ret;
@@ -2606,65 +2168,14 @@ public final class LangOperators {
         if(rightSideOperand.getType() == DataType.FUNCTION_POINTER && leftSideOperand.getType() == DataType.ARRAY) {
             FunctionPointerObject func = rightSideOperand.getFunctionPointer();
 
-            return interpreter.callFunctionPointer(func, rightSideOperand.getVariableName(), LangUtils.asListWithArgumentSeparators(
-                    leftSideOperand.getArray()
+            return interpreter.callFunctionPointer(func, rightSideOperand.getVariableName(), LangUtils.separateArgumentsWithArgumentSeparators(
+                    getArrayElements(leftSideOperand)
             ), pos);
         }
 
         switch(leftSideOperand.getType()) {
             case INT:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setInt(leftSideOperand.getInt() >>> rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong((long)leftSideOperand.getInt() >>> rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
             case LONG:
-                switch(rightSideOperand.getType()) {
-                    case INT:
-                        return new DataObject().setLong(leftSideOperand.getLong() >>> rightSideOperand.getInt());
-                    case LONG:
-                        return new DataObject().setLong(leftSideOperand.getLong() >>> rightSideOperand.getLong());
-
-                    case FLOAT:
-                    case DOUBLE:
-                    case TEXT:
-                    case CHAR:
-                    case BYTE_BUFFER:
-                    case ARRAY:
-                    case LIST:
-                    case ERROR:
-                    case VAR_POINTER:
-                    case FUNCTION_POINTER:
-                    case STRUCT:
-                    case OBJECT:
-                    case NULL:
-                    case VOID:
-                    case ARGUMENT_SEPARATOR:
-                    case TYPE:
-                        return null;
-                }
-                return null;
-
             case FLOAT:
             case DOUBLE:
             case TEXT:
@@ -2730,11 +2241,12 @@ public final class LangOperators {
 
                 return new DataObject().setDouble(d);
             case BYTE_BUFFER:
-                byte[] byteBuffer = interpreter.conversions.toByteBuffer(rightSideOperand, pos);
+                DataObject byteBuffer = interpreter.conversions.toByteBufferValue(rightSideOperand, pos);
                 if(byteBuffer == null)
                     return null;
 
-                return new DataObject().setByteBuffer(byteBuffer);
+                //The bytes are shared with the operand (As for a BYTE_BUFFER value which is stored in a byte[])
+                return new DataObject(byteBuffer);
             case ARRAY:
                 DataObject[] arr = interpreter.conversions.toArray(rightSideOperand, pos);
                 if(arr == null)
@@ -2742,7 +2254,7 @@ public final class LangOperators {
 
                 return new DataObject().setArray(arr);
             case LIST:
-                LinkedList<DataObject> list = interpreter.conversions.toList(rightSideOperand, pos);
+                LangArrayDeque<DataObject> list = interpreter.conversions.toList(rightSideOperand, pos);
                 if(list == null)
                     return null;
 
@@ -2773,7 +2285,7 @@ public final class LangOperators {
         switch(leftSideOperand.getType()) {
             case BYTE_BUFFER:
                 if(rightSideOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getByteBuffer().length;
+                    int len = leftSideOperand.getByteBufferLength();
                     int index = rightSideOperand.getInt();
                     if(index < 0)
                         index += len;
@@ -2781,13 +2293,13 @@ public final class LangOperators {
                     if(index < 0 || index >= len)
                         return interpreter.setErrnoErrorObject(InterpretingError.INDEX_OUT_OF_BOUNDS, pos);
 
-                    return new DataObject().setInt(leftSideOperand.getByteBuffer()[index]);
+                    return new DataObject().setInt(leftSideOperand.getByteBufferByte(index));
                 }
 
                 return null;
             case ARRAY:
                 if(rightSideOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getArray().length;
+                    int len = leftSideOperand.getArrayLength();
                     int index = rightSideOperand.getInt();
                     if(index < 0)
                         index += len;
@@ -2795,7 +2307,7 @@ public final class LangOperators {
                     if(index < 0 || index >= len)
                         return interpreter.setErrnoErrorObject(InterpretingError.INDEX_OUT_OF_BOUNDS, pos);
 
-                    return new DataObject(leftSideOperand.getArray()[index]);
+                    return leftSideOperand.getArrayElement(index);
                 }
 
                 return null;
@@ -2891,10 +2403,10 @@ public final class LangOperators {
                     middleOperand = new DataObject().setInt(0);
 
                 if(rightSideOperand.getType() == DataType.VOID)
-                    rightSideOperand = new DataObject().setInt(leftSideOperand.getByteBuffer().length);
+                    rightSideOperand = new DataObject().setInt(leftSideOperand.getByteBufferLength());
 
                 if(middleOperand.getType() == DataType.INT && rightSideOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getByteBuffer().length;
+                    int len = leftSideOperand.getByteBufferLength();
                     int fromIndex = middleOperand.getInt();
                     int toIndex = rightSideOperand.getInt();
                     if(fromIndex < 0)
@@ -2912,7 +2424,7 @@ public final class LangOperators {
                     if(toIndex < fromIndex)
                         return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "to index is less than from index", pos);
 
-                    return new DataObject().setByteBuffer(Arrays.copyOfRange(leftSideOperand.getByteBuffer(), fromIndex, toIndex));
+                    return new DataObject().setByteBufferSlice(leftSideOperand, fromIndex, toIndex);
                 }
 
                 return null;
@@ -2921,10 +2433,10 @@ public final class LangOperators {
                     middleOperand = new DataObject().setInt(0);
 
                 if(rightSideOperand.getType() == DataType.VOID)
-                    rightSideOperand = new DataObject().setInt(leftSideOperand.getArray().length);
+                    rightSideOperand = new DataObject().setInt(leftSideOperand.getArrayLength());
 
                 if(middleOperand.getType() == DataType.INT && rightSideOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getArray().length;
+                    int len = leftSideOperand.getArrayLength();
                     int fromIndex = middleOperand.getInt();
                     int toIndex = rightSideOperand.getInt();
                     if(fromIndex < 0)
@@ -2942,7 +2454,7 @@ public final class LangOperators {
                     if(toIndex < fromIndex)
                         return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "to index is less than from index", pos);
 
-                    return new DataObject().setArray(Arrays.copyOfRange(leftSideOperand.getArray(), fromIndex, toIndex));
+                    return new DataObject().setArrayCopyOfRange(leftSideOperand, fromIndex, toIndex);
                 }
 
                 return null;
@@ -2972,7 +2484,7 @@ public final class LangOperators {
                     if(toIndex < fromIndex)
                         return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "to index is less than from index", pos);
 
-                    return new DataObject().setList(new LinkedList<>(leftSideOperand.getList().subList(fromIndex, toIndex)));
+                    return new DataObject().setList(new LangArrayDeque<>(leftSideOperand.getList().subList(fromIndex, toIndex)));
                 }
 
                 return null;
@@ -3070,7 +2582,7 @@ public final class LangOperators {
         switch(leftSideOperand.getType()) {
             case BYTE_BUFFER:
                 if(middleOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getByteBuffer().length;
+                    int len = leftSideOperand.getByteBufferLength();
                     int index = middleOperand.getInt();
                     if(index < 0)
                         index += len;
@@ -3083,7 +2595,10 @@ public final class LangOperators {
                         return interpreter.setErrnoErrorObject(InterpretingError.NO_NUM, pos);
                     byte value = valueNumber.byteValue();
 
-                    leftSideOperand.getByteBuffer()[index] = value;
+                    if(leftSideOperand.isByteBufferReadOnly())
+                        return interpreter.setErrnoErrorObject(InterpretingError.FINAL_VAR_CHANGE, "The byte buffer is read-only", pos);
+
+                    leftSideOperand.setByteBufferByte(index, value);
 
                     return new DataObject().setVoid();
                 }
@@ -3091,7 +2606,7 @@ public final class LangOperators {
                 return null;
             case ARRAY:
                 if(middleOperand.getType() == DataType.INT) {
-                    int len = leftSideOperand.getArray().length;
+                    int len = leftSideOperand.getArrayLength();
                     int index = middleOperand.getInt();
                     if(index < 0)
                         index += len;
@@ -3099,7 +2614,7 @@ public final class LangOperators {
                     if(index < 0 || index >= len)
                         return interpreter.setErrnoErrorObject(InterpretingError.INDEX_OUT_OF_BOUNDS, pos);
 
-                    leftSideOperand.getArray()[index] = new DataObject(rightSideOperand);
+                    leftSideOperand.setArrayElement(index, rightSideOperand);
 
                     return new DataObject().setVoid();
                 }
@@ -3244,7 +2759,7 @@ public final class LangOperators {
      * For "...(...)"
      */
     public DataObject opCall(DataObject callee, List<DataObject> argumentList, CodePosition pos) {
-        DataObject ret = callOperatorMethod(callee, "op:call", argumentList, pos);
+        DataObject ret = hasOperatorMethod(callee, "call")?callOperatorMethod(callee, "op:call", argumentList, pos):null;
         if(ret != null)
             return ret;
 
@@ -3322,6 +2837,14 @@ public final class LangOperators {
      * For "=="
      */
     public boolean isEquals(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        return isDeepEquals(leftSideOperand, rightSideOperand, false, pos);
+    }
+    /**
+     * Compares the operands without comparing the elements of composite values
+     *
+     * @return Will return null, if both operands are composite values with the same length whose elements must be compared
+     */
+    private Boolean isEqualsWithoutElements(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
         if(leftSideOperand == null || rightSideOperand == null)
             return false;
 
@@ -3332,6 +2855,10 @@ public final class LangOperators {
         if(leftSideOperand == rightSideOperand)
             return true;
 
+        //The right side operand does not need to be converted to a number if both operands have the same primitive type
+        if(leftSideOperand.getType() == rightSideOperand.getType() && isPrimitiveComparisonType(leftSideOperand.getType()))
+            return isStrictPrimitiveEquals(leftSideOperand, rightSideOperand);
+
         Number number = interpreter.conversions.toNumber(rightSideOperand, pos);
         switch(leftSideOperand.getType()) {
             case TEXT:
@@ -3363,44 +2890,28 @@ public final class LangOperators {
 
             case BYTE_BUFFER:
                 if(rightSideOperand.getType() == DataType.BYTE_BUFFER)
-                    return Arrays.equals(leftSideOperand.getByteBuffer(), rightSideOperand.getByteBuffer());
+                    return leftSideOperand.getByteBufferView().equals(rightSideOperand.getByteBufferView());
 
-                return number != null && leftSideOperand.getByteBuffer().length == number.intValue();
+                return number != null && leftSideOperand.getByteBufferLength() == number.intValue();
 
             case ARRAY:
                 if(rightSideOperand.getType() == DataType.ARRAY) {
-                    int len = leftSideOperand.getArray().length;
-                    if(len != rightSideOperand.getArray().length)
+                    int len = leftSideOperand.getArrayLength();
+                    if(len != rightSideOperand.getArrayLength())
                         return false;
 
-                    int i = 0;
-                    while(i < len) {
-                        if(!isEquals(leftSideOperand.getArray()[i], rightSideOperand.getArray()[i], pos))
-                            return false;
-
-                        i++;
-                    }
-
-                    return true;
+                    return null;
                 }
 
                 if(rightSideOperand.getType() == DataType.LIST) {
-                    int len = leftSideOperand.getArray().length;
+                    int len = leftSideOperand.getArrayLength();
                     if(len != rightSideOperand.getList().size())
                         return false;
 
-                    int i = 0;
-                    while(i < len) {
-                        if(!isEquals(leftSideOperand.getArray()[i], rightSideOperand.getList().get(i), pos))
-                            return false;
-
-                        i++;
-                    }
-
-                    return true;
+                    return null;
                 }
 
-                return number != null && leftSideOperand.getArray().length == number.intValue();
+                return number != null && leftSideOperand.getArrayLength() == number.intValue();
 
             case LIST:
                 if(rightSideOperand.getType() == DataType.LIST) {
@@ -3408,31 +2919,15 @@ public final class LangOperators {
                     if(len != rightSideOperand.getList().size())
                         return false;
 
-                    int i = 0;
-                    while(i < len) {
-                        if(!isEquals(leftSideOperand.getList().get(i), rightSideOperand.getList().get(i), pos))
-                            return false;
-
-                        i++;
-                    }
-
-                    return true;
+                    return null;
                 }
 
                 if(rightSideOperand.getType() == DataType.ARRAY) {
                     int len = leftSideOperand.getList().size();
-                    if(len != rightSideOperand.getArray().length)
+                    if(len != rightSideOperand.getArrayLength())
                         return false;
 
-                    int i = 0;
-                    while(i < len) {
-                        if(!isEquals(leftSideOperand.getList().get(i), rightSideOperand.getArray()[i], pos))
-                            return false;
-
-                        i++;
-                    }
-
-                    return true;
+                    return null;
                 }
 
                 return number != null && leftSideOperand.getList().size() == number.intValue();
@@ -3448,21 +2943,10 @@ public final class LangOperators {
                     String[] leftMemberNames = leftStruct.getMemberNames();
                     String[] rightMemberNames = rightStruct.getMemberNames();
 
-                    int len = leftMemberNames.length;
-                    if(len != rightMemberNames.length)
+                    if(leftMemberNames.length != rightMemberNames.length)
                         return false;
 
-                    int i = 0;
-                    while(i < len) {
-                        if(!leftMemberNames[i].equals(rightMemberNames[i]) || (!leftStruct.isDefinition() &&
-                                !isEquals(leftStruct.getMember(leftMemberNames[i]), rightStruct.getMember(rightMemberNames[i]),
-                                        pos)))
-                            return false;
-
-                        i++;
-                    }
-
-                    return true;
+                    return null;
                 }
 
                 return number != null && leftSideOperand.getStruct().getMemberNames().length == number.intValue();
@@ -3534,6 +3018,14 @@ public final class LangOperators {
      * For "==="
      */
     public boolean isStrictEquals(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
+        return isDeepEquals(leftSideOperand, rightSideOperand, true, pos);
+    }
+    /**
+     * Compares the operands strictly without comparing the elements of composite values
+     *
+     * @return Will return null, if both operands are composite values with the same length whose elements must be compared
+     */
+    private Boolean isStrictEqualsWithoutElements(DataObject leftSideOperand, DataObject rightSideOperand, CodePosition pos) {
         if(leftSideOperand == null || rightSideOperand == null)
             return false;
 
@@ -3567,23 +3059,15 @@ public final class LangOperators {
                 return leftSideOperand.getDouble() == rightSideOperand.getDouble();
 
             case BYTE_BUFFER:
-                return Arrays.equals(leftSideOperand.getByteBuffer(), rightSideOperand.getByteBuffer());
+                return leftSideOperand.getByteBufferView().equals(rightSideOperand.getByteBufferView());
 
             case ARRAY:
             {
-                int len = leftSideOperand.getArray().length;
-                if(len != rightSideOperand.getArray().length)
+                int len = leftSideOperand.getArrayLength();
+                if(len != rightSideOperand.getArrayLength())
                     return false;
 
-                int i = 0;
-                while(i < len) {
-                    if(!isStrictEquals(leftSideOperand.getArray()[i], rightSideOperand.getArray()[i], pos))
-                        return false;
-
-                    i++;
-                }
-
-                return true;
+                return null;
             }
 
             case LIST:
@@ -3592,15 +3076,7 @@ public final class LangOperators {
                 if(len != rightSideOperand.getList().size())
                     return false;
 
-                int i = 0;
-                while(i < len) {
-                    if(!isStrictEquals(leftSideOperand.getList().get(i), rightSideOperand.getList().get(i), pos))
-                        return false;
-
-                    i++;
-                }
-
-                return true;
+                return null;
             }
 
             case STRUCT:
@@ -3614,21 +3090,10 @@ public final class LangOperators {
                 String[] leftMemberNames = leftStruct.getMemberNames();
                 String[] rightMemberNames = rightStruct.getMemberNames();
 
-                int len = leftMemberNames.length;
-                if(len != rightMemberNames.length)
+                if(leftMemberNames.length != rightMemberNames.length)
                     return false;
 
-                int i = 0;
-                while(i < len) {
-                    if(!leftMemberNames[i].equals(rightMemberNames[i]) || (!leftStruct.isDefinition() &&
-                            !isStrictEquals(leftStruct.getMember(leftMemberNames[i]), rightStruct.getMember(rightMemberNames[i]),
-                                    pos)))
-                        return false;
-
-                    i++;
-                }
-
-                return true;
+                return null;
             }
 
             case OBJECT:
@@ -3660,6 +3125,175 @@ public final class LangOperators {
 
         return false;
     }
+    /**
+     * Compares the operands with an explicit work stack instead of recursion for the elements of composite values<br>
+     * Elements are compared in the same order as a recursive comparison and the comparison stops at the first
+     * unequal element. A pair of composite values which is compared again while its own comparison is still in
+     * progress (A cyclic structure) is treated as equal.
+     */
+    private boolean isDeepEquals(DataObject leftSideOperand, DataObject rightSideOperand, boolean strict, CodePosition pos) {
+        Boolean ret = strict?isStrictEqualsWithoutElements(leftSideOperand, rightSideOperand, pos):
+                isEqualsWithoutElements(leftSideOperand, rightSideOperand, pos);
+        if(ret != null)
+            return ret;
+
+        ret = isPrimitiveArrayEquals(leftSideOperand, rightSideOperand, strict);
+        if(ret != null)
+            return ret;
+
+        //Frames at index depth and above are not in use and can be reused
+        List<ElementComparisonFrame> workStack = new ArrayList<>();
+        workStack.add(new ElementComparisonFrame());
+        workStack.get(0).init(leftSideOperand, rightSideOperand, null);
+        int depth = 1;
+        Set<CompositeValuePair> pairsInProgress = null;
+
+        while(depth > 0) {
+            ElementComparisonFrame frame = workStack.get(depth - 1);
+            boolean pushed = false;
+
+            while(!pushed && frame.index < frame.length) {
+                int i = frame.index++;
+
+                DataObject leftElement;
+                DataObject rightElement;
+                if(frame.leftMemberNames != null) {
+                    if(!frame.leftMemberNames[i].equals(frame.rightMemberNames[i]))
+                        return false;
+
+                    if(frame.leftStruct.isDefinition())
+                        continue;
+
+                    leftElement = frame.leftStruct.getMember(frame.leftMemberNames[i]);
+                    rightElement = frame.rightStruct.getMember(frame.rightMemberNames[i]);
+                }else {
+                    leftElement = frame.getLeftElement(i);
+                    rightElement = frame.getRightElement(i);
+                }
+
+                //Fast path for elements of the same primitive type (e.g. arrays of numbers or texts)
+                if(leftElement != null && rightElement != null && leftElement.getType() == rightElement.getType() &&
+                        isPrimitiveComparisonType(leftElement.getType())) {
+                    if(!isStrictPrimitiveEquals(leftElement, rightElement))
+                        return false;
+
+                    continue;
+                }
+
+                if(leftElement != null && rightElement != null && isElementComparisonPair(leftElement, rightElement, strict)) {
+                    //Operator methods can not be called for composite values, because neither operand is an OBJECT
+                    if(leftElement == rightElement)
+                        continue;
+
+                    ret = null;
+                }else {
+                    ret = strict?isStrictEqualsWithoutElements(leftElement, rightElement, pos):
+                            isEqualsWithoutElements(leftElement, rightElement, pos);
+                }
+
+                if(ret == null)
+                    ret = isPrimitiveArrayEquals(leftElement, rightElement, strict);
+
+                if(ret == null) {
+                    CompositeValuePair visitedPair = null;
+                    if(depth >= MIN_CYCLE_CHECK_COMPARISON_DEPTH) {
+                        if(pairsInProgress == null)
+                            pairsInProgress = new HashSet<>();
+
+                        visitedPair = new CompositeValuePair(leftElement, rightElement);
+                        if(!pairsInProgress.add(visitedPair))
+                            continue;
+                    }
+
+                    if(depth == workStack.size())
+                        workStack.add(new ElementComparisonFrame());
+
+                    ElementComparisonFrame elementFrame = workStack.get(depth++);
+                    elementFrame.init(leftElement, rightElement, visitedPair);
+                    if(!elementFrame.isElementCountEqual())
+                        return false;
+
+                    pushed = true;
+                }else if(!ret) {
+                    return false;
+                }
+            }
+
+            if(!pushed) {
+                depth--;
+                if(frame.visitedPair != null)
+                    pairsInProgress.remove(frame.visitedPair);
+
+                frame.clear();
+            }
+        }
+
+        return true;
+    }
+    /**
+     * Compares arrays which are stored in primitive arrays without an ElementComparisonFrame
+     *
+     * @return Will return null, if the elements must be compared one by one
+     */
+    private static Boolean isPrimitiveArrayEquals(DataObject leftSideOperand, DataObject rightSideOperand, boolean strict) {
+        if(leftSideOperand.getType() != DataType.ARRAY || rightSideOperand.getType() != DataType.ARRAY)
+            return null;
+
+        return leftSideOperand.getArrayValue().isPrimitiveElementsEqual(rightSideOperand.getArrayValue(), strict);
+    }
+    /**
+     * @return True if both operands are composite values whose elements are compared by "===" (strict) or by "=="
+     */
+    private static boolean isElementComparisonPair(DataObject leftSideOperand, DataObject rightSideOperand, boolean strict) {
+        DataType leftSideType = leftSideOperand.getType();
+        DataType rightSideType = rightSideOperand.getType();
+
+        if(leftSideType == DataType.STRUCT)
+            return rightSideType == DataType.STRUCT;
+
+        if(leftSideType != DataType.ARRAY && leftSideType != DataType.LIST)
+            return false;
+
+        return strict?leftSideType == rightSideType:(rightSideType == DataType.ARRAY || rightSideType == DataType.LIST);
+    }
+    private static boolean isPrimitiveComparisonType(DataType type) {
+        switch(type) {
+            case TEXT:
+            case CHAR:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case NULL:
+            case VOID:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+    /**
+     * Both operands must have the same type for which isPrimitiveComparisonType returns true
+     */
+    private static boolean isStrictPrimitiveEquals(DataObject leftSideOperand, DataObject rightSideOperand) {
+        switch(leftSideOperand.getType()) {
+            case TEXT:
+                return leftSideOperand.getText().equals(rightSideOperand.getText());
+            case CHAR:
+                return leftSideOperand.getChar() == rightSideOperand.getChar();
+            case INT:
+                return leftSideOperand.getInt() == rightSideOperand.getInt();
+            case LONG:
+                return leftSideOperand.getLong() == rightSideOperand.getLong();
+            case FLOAT:
+                return leftSideOperand.getFloat() == rightSideOperand.getFloat();
+            case DOUBLE:
+                return leftSideOperand.getDouble() == rightSideOperand.getDouble();
+
+            default:
+                return true;
+        }
+    }
     /**
      * For "&lt;"
      */
@@ -3862,13 +3496,13 @@ public final class LangOperators {
             case BYTE_BUFFER:
                 switch(number.getType()) {
                     case INT:
-                        return leftSideOperand.getByteBuffer().length < number.getInt();
+                        return leftSideOperand.getByteBufferLength() < number.getInt();
                     case LONG:
-                        return leftSideOperand.getByteBuffer().length < number.getLong();
+                        return leftSideOperand.getByteBufferLength() < number.getLong();
                     case FLOAT:
-                        return leftSideOperand.getByteBuffer().length < number.getFloat();
+                        return leftSideOperand.getByteBufferLength() < number.getFloat();
                     case DOUBLE:
-                        return leftSideOperand.getByteBuffer().length < number.getDouble();
+                        return leftSideOperand.getByteBufferLength() < number.getDouble();
 
                     case CHAR:
                     case BYTE_BUFFER:
@@ -3890,13 +3524,13 @@ public final class LangOperators {
             case ARRAY:
                 switch(number.getType()) {
                     case INT:
-                        return leftSideOperand.getArray().length < number.getInt();
+                        return leftSideOperand.getArrayLength() < number.getInt();
                     case LONG:
-                        return leftSideOperand.getArray().length < number.getLong();
+                        return leftSideOperand.getArrayLength() < number.getLong();
                     case FLOAT:
-                        return leftSideOperand.getArray().length < number.getFloat();
+                        return leftSideOperand.getArrayLength() < number.getFloat();
                     case DOUBLE:
-                        return leftSideOperand.getArray().length < number.getDouble();
+                        return leftSideOperand.getArrayLength() < number.getDouble();
 
                     case CHAR:
                     case BYTE_BUFFER:
@@ -4217,13 +3851,13 @@ public final class LangOperators {
             case BYTE_BUFFER:
                 switch(number.getType()) {
                     case INT:
-                        return leftSideOperand.getByteBuffer().length > number.getInt();
+                        return leftSideOperand.getByteBufferLength() > number.getInt();
                     case LONG:
-                        return leftSideOperand.getByteBuffer().length > number.getLong();
+                        return leftSideOperand.getByteBufferLength() > number.getLong();
                     case FLOAT:
-                        return leftSideOperand.getByteBuffer().length > number.getFloat();
+                        return leftSideOperand.getByteBufferLength() > number.getFloat();
                     case DOUBLE:
-                        return leftSideOperand.getByteBuffer().length > number.getDouble();
+                        return leftSideOperand.getByteBufferLength() > number.getDouble();
 
                     case CHAR:
                     case BYTE_BUFFER:
@@ -4245,13 +3879,13 @@ public final class LangOperators {
             case ARRAY:
                 switch(number.getType()) {
                     case INT:
-                        return leftSideOperand.getArray().length > number.getInt();
+                        return leftSideOperand.getArrayLength() > number.getInt();
                     case LONG:
-                        return leftSideOperand.getArray().length > number.getLong();
+                        return leftSideOperand.getArrayLength() > number.getLong();
                     case FLOAT:
-                        return leftSideOperand.getArray().length > number.getFloat();
+                        return leftSideOperand.getArrayLength() > number.getFloat();
                     case DOUBLE:
-                        return leftSideOperand.getArray().length > number.getDouble();
+                        return leftSideOperand.getArrayLength() > number.getDouble();
 
                     case CHAR:
                     case BYTE_BUFFER:
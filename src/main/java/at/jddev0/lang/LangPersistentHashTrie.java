@@ -0,0 +1,346 @@
+package at.jddev0.lang;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Lang-Module<br>
+ * Immutable hash array mapped trie with String keys<br>
+ * Modifications return a new trie which shares all unmodified nodes with the original trie
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+final class LangPersistentHashTrie<V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int MAX_SHIFT = 30;
+
+    private static final LangPersistentHashTrie<?> EMPTY = new LangPersistentHashTrie<>(0, new Object[0], false, 0);
+
+    /**
+     * Bitmap of used slots (Unused for collision nodes)
+     */
+    private final int bitmap;
+    /**
+     * Pairs of [key, value] or [null, sub node]
+     */
+    private final Object[] array;
+    /**
+     * All keys of a collision node have the same hash
+     */
+    private final boolean collisionNode;
+    /**
+     * Count of all keys of this node and of all sub nodes
+     */
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    static <V> LangPersistentHashTrie<V> empty() {
+        return (LangPersistentHashTrie<V>)EMPTY;
+    }
+
+    private LangPersistentHashTrie(int bitmap, Object[] array, boolean collisionNode, int size) {
+        this.bitmap = bitmap;
+        this.array = array;
+        this.collisionNode = collisionNode;
+        this.size = size;
+    }
+
+    public V get(String key) {
+        return get(key, key.hashCode(), 0);
+    }
+
+    public boolean containsKey(String key) {
+        return get(key, key.hashCode(), 0) != null;
+    }
+
+    /**
+     * No substring of str will be created
+     *
+     * @param hash must be the hash of str.substring(0, length)
+     * @return The key which is equal to str.substring(0, length) or null
+     */
+    public String getKeyPrefixOf(String str, int length, int hash) {
+        LangPersistentHashTrie<V> node = this;
+        int shift = 0;
+        while(true) {
+            if(node.collisionNode) {
+                for(int i = 0;i < node.array.length;i += 2)
+                    if(isKeyPrefixOf((String)node.array[i], str, length))
+                        return (String)node.array[i];
+
+                return null;
+            }
+
+            int bit = bit(hash, shift);
+            if((node.bitmap & bit) == 0)
+                return null;
+
+            int index = node.index(bit);
+            Object nodeKey = node.array[index];
+            if(nodeKey == null) {
+                @SuppressWarnings("unchecked")
+                LangPersistentHashTrie<V> subNode = (LangPersistentHashTrie<V>)node.array[index + 1];
+                node = subNode;
+                shift += BITS_PER_LEVEL;
+
+                continue;
+            }
+
+            return isKeyPrefixOf((String)nodeKey, str, length)?(String)nodeKey:null;
+        }
+    }
+
+    private static boolean isKeyPrefixOf(String key, String str, int length) {
+        return key.length() == length && str.startsWith(key);
+    }
+
+    /**
+     * @param value must not be null
+     * @return A new trie or this trie if the value was already set
+     */
+    public LangPersistentHashTrie<V> put(String key, V value) {
+        return put(key, key.hashCode(), 0, value);
+    }
+
+    /**
+     * @return A new trie or this trie if the key was not present
+     */
+    public LangPersistentHashTrie<V> remove(String key) {
+        LangPersistentHashTrie<V> trie = remove(key, key.hashCode(), 0);
+        return trie == null?empty():trie;
+    }
+
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<String, V> action) {
+        for(int i = 0;i < array.length;i += 2) {
+            if(array[i] == null)
+                ((LangPersistentHashTrie<V>)array[i + 1]).forEach(action);
+            else
+                action.accept((String)array[i], (V)array[i + 1]);
+        }
+    }
+
+    public Iterator<String> keyIterator() {
+        return new KeyIterator(this);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private int index(int bit) {
+        return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V get(String key, int hash, int shift) {
+        LangPersistentHashTrie<V> node = this;
+        while(true) {
+            if(node.collisionNode) {
+                for(int i = 0;i < node.array.length;i += 2)
+                    if(key.equals(node.array[i]))
+                        return (V)node.array[i + 1];
+
+                return null;
+            }
+
+            int bit = bit(hash, shift);
+            if((node.bitmap & bit) == 0)
+                return null;
+
+            int index = node.index(bit);
+            Object nodeKey = node.array[index];
+            if(nodeKey == null) {
+                node = (LangPersistentHashTrie<V>)node.array[index + 1];
+                shift += BITS_PER_LEVEL;
+
+                continue;
+            }
+
+            return key.equals(nodeKey)?(V)node.array[index + 1]:null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private LangPersistentHashTrie<V> put(String key, int hash, int shift, V value) {
+        if(collisionNode) {
+            for(int i = 0;i < array.length;i += 2) {
+                if(key.equals(array[i])) {
+                    if(array[i + 1] == value)
+                        return this;
+
+                    Object[] newArray = array.clone();
+                    newArray[i + 1] = value;
+                    return new LangPersistentHashTrie<>(0, newArray, true, size);
+                }
+            }
+
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return new LangPersistentHashTrie<>(0, newArray, true, size + 1);
+        }
+
+        int bit = bit(hash, shift);
+        int index = index(bit);
+        if((bitmap & bit) == 0) {
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = key;
+            newArray[index + 1] = value;
+            System.arraycopy(array, index, newArray, index + 2, array.length - index);
+            return new LangPersistentHashTrie<>(bitmap | bit, newArray, false, size + 1);
+        }
+
+        Object nodeKey = array[index];
+        Object nodeValue = array[index + 1];
+
+        LangPersistentHashTrie<V> newNodeValue;
+        if(nodeKey == null) {
+            LangPersistentHashTrie<V> subNode = (LangPersistentHashTrie<V>)nodeValue;
+            newNodeValue = subNode.put(key, hash, shift + BITS_PER_LEVEL, value);
+        }else if(key.equals(nodeKey)) {
+            if(nodeValue == value)
+                return this;
+
+            Object[] newArray = array.clone();
+            newArray[index + 1] = value;
+            return new LangPersistentHashTrie<>(bitmap, newArray, false, size);
+        }else {
+            newNodeValue = createNode((String)nodeKey, (V)nodeValue, key, hash, value, shift + BITS_PER_LEVEL);
+        }
+
+        if(newNodeValue == nodeValue)
+            return this;
+
+        //The sub node replaces either a sub node or a single key
+        int oldNodeSize = nodeKey == null?((LangPersistentHashTrie<V>)nodeValue).size:1;
+
+        Object[] newArray = array.clone();
+        newArray[index] = null;
+        newArray[index + 1] = newNodeValue;
+        return new LangPersistentHashTrie<>(bitmap, newArray, false, size - oldNodeSize + newNodeValue.size);
+    }
+
+    private static <V> LangPersistentHashTrie<V> createNode(String key0, V value0, String key1, int hash1, V value1, int shift) {
+        int hash0 = key0.hashCode();
+        if(shift > MAX_SHIFT) //All bits of the hash were used: hash0 == hash1
+            return new LangPersistentHashTrie<>(0, new Object[] {key0, value0, key1, value1}, true, 2);
+
+        return LangPersistentHashTrie.<V>empty().put(key0, hash0, shift, value0).put(key1, hash1, shift, value1);
+    }
+
+    /**
+     * @return The new node or null if the node would be empty
+     */
+    @SuppressWarnings("unchecked")
+    private LangPersistentHashTrie<V> remove(String key, int hash, int shift) {
+        if(collisionNode) {
+            for(int i = 0;i < array.length;i += 2) {
+                if(key.equals(array[i])) {
+                    if(array.length == 2)
+                        return null;
+
+                    Object[] newArray = new Object[array.length - 2];
+                    System.arraycopy(array, 0, newArray, 0, i);
+                    System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+                    return new LangPersistentHashTrie<>(0, newArray, true, size - 1);
+                }
+            }
+
+            return this;
+        }
+
+        int bit = bit(hash, shift);
+        if((bitmap & bit) == 0)
+            return this;
+
+        int index = index(bit);
+        Object nodeKey = array[index];
+
+        if(nodeKey == null) {
+            LangPersistentHashTrie<V> subNode = (LangPersistentHashTrie<V>)array[index + 1];
+            LangPersistentHashTrie<V> newSubNode = subNode.remove(key, hash, shift + BITS_PER_LEVEL);
+            if(newSubNode == subNode)
+                return this;
+
+            if(newSubNode != null) {
+                Object[] newArray = array.clone();
+                newArray[index + 1] = newSubNode;
+                return new LangPersistentHashTrie<>(bitmap, newArray, false, size - 1);
+            }
+        }else if(!key.equals(nodeKey)) {
+            return this;
+        }
+
+        if(array.length == 2)
+            return null;
+
+        Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+        return new LangPersistentHashTrie<>(bitmap & ~bit, newArray, false, size - 1);
+    }
+
+    private static final class KeyIterator implements Iterator<String> {
+        private final Deque<LangPersistentHashTrie<?>> nodes = new ArrayDeque<>();
+        private final Deque<Integer> indices = new ArrayDeque<>();
+        private String next;
+
+        private KeyIterator(LangPersistentHashTrie<?> root) {
+            nodes.push(root);
+            indices.push(0);
+            next = findNext();
+        }
+
+        private String findNext() {
+            while(!nodes.isEmpty()) {
+                LangPersistentHashTrie<?> node = nodes.peek();
+                int index = indices.pop();
+                if(index >= node.array.length) {
+                    nodes.pop();
+
+                    continue;
+                }
+
+                indices.push(index + 2);
+
+                Object key = node.array[index];
+                if(key == null) {
+                    nodes.push((LangPersistentHashTrie<?>)node.array[index + 1]);
+                    indices.push(0);
+
+                    continue;
+                }
+
+                return (String)key;
+            }
+
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if(next == null)
+                throw new NoSuchElementException();
+
+            String ret = next;
+            next = findNext();
+            return ret;
+        }
+    }
+}
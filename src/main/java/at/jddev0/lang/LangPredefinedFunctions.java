@@ -1,12 +1,13 @@
 package at.jddev0.lang;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import at.jddev0.io.TerminalIO.Level;
 import at.jddev0.lang.DataObject.DataType;
@@ -57,6 +58,23 @@ final class LangPredefinedFunctions {
         funcs.putAll(LangNativeFunction.getLangFunctionsOfClass(LangPredefinedLinkerFunctions.class));
     }
 
+    /**
+     * Appends the text of all elements to a single builder instead of creating a text for every element
+     */
+    private static String joinToText(LangInterpreter interpreter, Collection<DataObject> elements, String delimiter) {
+        StringBuilder builder = new StringBuilder();
+        boolean first = true;
+        for(DataObject ele:elements) {
+            if(!first)
+                builder.append(delimiter);
+            first = false;
+
+            interpreter.conversions.appendText(builder, ele, CodePosition.EMPTY);
+        }
+
+        return builder.toString();
+    }
+
     @SuppressWarnings("unused")
     public static final class LangPredefinedResetFunctions {
         private LangPredefinedResetFunctions() {}
@@ -389,7 +407,7 @@ final class LangPredefinedFunctions {
             try(BufferedReader lines = new BufferedReader(new StringReader(
                     interpreter.conversions.toText(textObject, CodePosition.EMPTY).toString()))) {
                 interpreter.resetParserPositionVars();
-                interpreter.interpretLines(lines);
+                interpreter.interpretAST(interpreter.parseLinesCached(lines, null));
 
                 return interpreter.getAndResetReturnValue();
             }catch(IOException e) {
@@ -1352,10 +1370,9 @@ final class LangPredefinedFunctions {
                 @LangParameter("&collection") @AllowedTypes({DataObject.DataType.ARRAY, DataObject.DataType.LIST}) DataObject collectionObject
         ) {
             String text = interpreter.conversions.toText(textObject, CodePosition.EMPTY).toString();
-            Stream<DataObject> dataObjectStream = collectionObject.getType() == DataType.ARRAY?Arrays.stream(collectionObject.getArray()):collectionObject.getList().stream();
+            Collection<DataObject> collection = collectionObject.getType() == DataType.ARRAY?Arrays.asList(collectionObject.getArray()):collectionObject.getList();
 
-            return new DataObject(dataObjectStream.map(ele ->
-                    interpreter.conversions.toText(ele, CodePosition.EMPTY).toString()).collect(Collectors.joining(text)));
+            return new DataObject(joinToText(interpreter, collection, text));
         }
 
         @LangFunction(value="split", hasInfo=true)
@@ -2074,7 +2091,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&args") @AllowedTypes(DataObject.DataType.ARRAY) DataObject args
         ) {
             DataObject ret = a;
-            for(int i = 0;i < args.getArray().length;i++) {
+            for(int i = 0;i < args.getArrayLength();i++) {
                 DataObject n = args.getArray()[i];
 
                 if(!LangUtils.isCallable(ret))
@@ -2149,7 +2166,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&args") @AllowedTypes(DataObject.DataType.ARRAY) DataObject args
         ) {
             List<DataObject> argsA = new LinkedList<>();
-            for(int i = 0;i < args.getArray().length;i++) {
+            for(int i = 0;i < args.getArrayLength();i++) {
                 DataObject n = args.getArray()[i];
 
                 if(!LangUtils.isCallable(n))
@@ -2225,7 +2242,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&args") @AllowedTypes(DataObject.DataType.ARRAY) DataObject args
         ) {
             DataObject ret = a;
-            for(int i = 0;i < args.getArray().length;i++) {
+            for(int i = 0;i < args.getArrayLength();i++) {
                 DataObject n = args.getArray()[i];
 
                 if(!LangUtils.isCallable(n))
@@ -2298,7 +2315,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("$z") DataObject z
         ) {
             DataObject ret = z;
-            for(int i = 0;i < args.getArray().length;i++) {
+            for(int i = 0;i < args.getArrayLength();i++) {
                 DataObject n = args.getArray()[i];
 
                 if(!LangUtils.isCallable(n))
@@ -2523,6 +2540,78 @@ final class LangPredefinedFunctions {
 
             return new DataObject().setByteBuffer(new byte[length]);
         }
+
+        @LangFunction("byteBufferCreateDirect")
+        @AllowedTypes(DataObject.DataType.BYTE_BUFFER)
+        public static DataObject byteBufferCreateDirectFunction(
+                LangInterpreter interpreter,
+                @LangParameter("$length") @NumberValue Number lengthNumber
+        ) {
+            int length = lengthNumber.intValue();
+
+            if(length < 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.NEGATIVE_ARRAY_LEN);
+
+            return new DataObject().setByteBuffer(ByteBuffer.allocateDirect(length));
+        }
+
+        @LangFunction("byteBufferMapFile")
+        @AllowedTypes(DataObject.DataType.BYTE_BUFFER)
+        public static DataObject byteBufferMapFileFunction(
+                LangInterpreter interpreter,
+                @LangParameter("$path") DataObject pathObject,
+                @LangParameter("$offset") @NumberValue Number offsetNumber,
+                @LangParameter("$length") @NumberValue Number lengthNumber
+        ) {
+            return mapFile(interpreter, pathObject, offsetNumber.longValue(), lengthNumber.longValue(), FileChannel.MapMode.READ_ONLY);
+        }
+
+        @LangFunction("byteBufferMapFileReadWrite")
+        @AllowedTypes(DataObject.DataType.BYTE_BUFFER)
+        public static DataObject byteBufferMapFileReadWriteFunction(
+                LangInterpreter interpreter,
+                @LangParameter("$path") DataObject pathObject,
+                @LangParameter("$offset") @NumberValue Number offsetNumber,
+                @LangParameter("$length") @NumberValue Number lengthNumber
+        ) {
+            return mapFile(interpreter, pathObject, offsetNumber.longValue(), lengthNumber.longValue(), FileChannel.MapMode.READ_WRITE);
+        }
+
+        /**
+         * The region from offset to offset + length must be inside the file (Changes of READ_WRITE mappings are written to the file)
+         */
+        private static DataObject mapFile(LangInterpreter interpreter, DataObject pathObject, long offset, long length, FileChannel.MapMode mode) {
+            if(offset < 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "The offset must not be negative");
+
+            if(length < 0)
+                return interpreter.setErrnoErrorObject(InterpretingError.NEGATIVE_ARRAY_LEN);
+
+            //Byte buffers are indexed by int values
+            if(length > Integer.MAX_VALUE)
+                return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS, "The length must not be greater than " + Integer.MAX_VALUE);
+
+            String path = interpreter.conversions.toText(pathObject, CodePosition.EMPTY).toString();
+            if(!new File(path).isAbsolute()) {
+                String langPath = interpreter.getCurrentCallStackElement().getLangPath();
+                if(langPath.endsWith("/"))
+                    langPath = langPath.substring(0, langPath.length() - 1);
+
+                path = langPath + "/" + path;
+            }
+
+            try(FileChannel channel = interpreter.langPlatformAPI.getFileChannel(path, mode != FileChannel.MapMode.READ_ONLY)) {
+                if(offset > channel.size() || length > channel.size() - offset)
+                    return interpreter.setErrnoErrorObject(InterpretingError.INDEX_OUT_OF_BOUNDS, "The region is not inside the file");
+
+                //The mapping stays valid after the channel is closed
+                return new DataObject().setByteBuffer(channel.map(mode, offset, length));
+            }catch(FileNotFoundException e) {
+                return interpreter.setErrnoErrorObject(InterpretingError.FILE_NOT_FOUND, e.getMessage());
+            }catch(IOException|SecurityException e) {
+                return interpreter.setErrnoErrorObject(InterpretingError.SYSTEM_ERROR, e.getMessage());
+            }
+        }
     }
 
     @SuppressWarnings("unused")
@@ -2540,11 +2629,7 @@ final class LangPredefinedFunctions {
             if(length < 0)
                 return interpreter.setErrnoErrorObject(InterpretingError.NEGATIVE_ARRAY_LEN);
 
-            DataObject[] arr = new DataObject[length];
-            for(int i = 0;i < arr.length;i++)
-                arr[i] = new DataObject();
-
-            return new DataObject().setArray(arr);
+            return new DataObject().setArrayOfNullElements(length);
         }
 
         @LangFunction("arrayOf")
@@ -2568,7 +2653,7 @@ final class LangPredefinedFunctions {
             if(countNumber.intValue() < 0)
                 return interpreter.setErrnoErrorObject(InterpretingError.NEGATIVE_ARRAY_LEN);
 
-            return new DataObject().setArray(IntStream.range(0, countNumber.intValue()).mapToObj(i -> {
+            return new DataObject().setArrayOfElements(IntStream.range(0, countNumber.intValue()).mapToObj(i -> {
                 return interpreter.callFunctionPointer(funcPointerObject.getFunctionPointer(), funcPointerObject.getVariableName(), Arrays.asList(
                         new DataObject().setInt(i)
                 ));
@@ -2583,7 +2668,7 @@ final class LangPredefinedFunctions {
         ) {
             int len = 0;
             for(int i = 0;i < arrays.size();i++) {
-                int lenTest = arrays.get(i).getArray().length;
+                int lenTest = arrays.get(i).getArrayLength();
                 if(i == 0) {
                     len = lenTest;
 
@@ -2650,8 +2735,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&array") @AllowedTypes(DataObject.DataType.ARRAY) DataObject arrayObject
         ) {
-            return new DataObject(Arrays.stream(arrayObject.getArray()).map(ele ->
-                    interpreter.conversions.toText(ele, CodePosition.EMPTY).toString()).collect(Collectors.joining(", ")));
+            return new DataObject(joinToText(interpreter, Arrays.asList(arrayObject.getArray()), ", "));
         }
 
         @LangFunction("arrayRead")
@@ -2953,12 +3037,13 @@ final class LangPredefinedFunctions {
                 @LangParameter("&array") @AllowedTypes(DataObject.DataType.ARRAY) DataObject arrayObject,
                 @LangParameter("fp.map") @AllowedTypes(DataObject.DataType.FUNCTION_POINTER) DataObject mapFunction
         ) {
-            DataObject[] arr = arrayObject.getArray();
+            //The copy shares the elements with the array even if the variable is changed by the map function
+            DataObject arr = new DataObject(arrayObject);
 
-            for(int i = 0;i < arr.length;i++) {
-                arr[i] = interpreter.callFunctionPointer(mapFunction.getFunctionPointer(), mapFunction.getVariableName(), Arrays.asList(
-                        arr[i]
-                ));
+            for(int i = 0;i < arr.getArrayLength();i++) {
+                arr.replaceArrayElement(i, interpreter.callFunctionPointer(mapFunction.getFunctionPointer(), mapFunction.getVariableName(), Arrays.asList(
+                        arr.getArrayElement(i)
+                )));
             }
 
             return null;
@@ -2980,7 +3065,7 @@ final class LangPredefinedFunctions {
                 ));
             }
 
-            return new DataObject().setArray(newArr);
+            return new DataObject().setArrayOfElements(newArr);
         }
 
         @LangFunction(value="arrayMapToOne", hasInfo=true)
@@ -3017,11 +3102,14 @@ final class LangPredefinedFunctions {
                 @LangParameter("$initialValue") DataObject initialValueObject,
                 @LangParameter("fp.combine") @AllowedTypes(DataObject.DataType.FUNCTION_POINTER) DataObject combineFunction
         ) {
-            DataObject[] arr = arrayObject.getArray();
+            //The copy shares the elements with the array even if the variable is changed by the combine function
+            DataObject arr = new DataObject(arrayObject);
+            int len = arr.getArrayLength();
 
             DataObject currentValueObject = initialValueObject;
 
-            for(DataObject ele:arr) {
+            for(int i = 0;i < len;i++) {
+                DataObject ele = arr.getArrayElement(i);
                 if(currentValueObject == null) {
                     //Set first element as currentValue if no initial value was provided
 
@@ -3069,7 +3157,7 @@ final class LangPredefinedFunctions {
 
                 arrays.add(arg.getArray());
 
-                int lenTest = arg.getArray().length;
+                int lenTest = arg.getArrayLength();
                 if(len == -1) {
                     len = lenTest;
 
@@ -3292,7 +3380,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&array") @AllowedTypes(DataObject.DataType.ARRAY) DataObject arrayObject
         ) {
-            return arrayPermutationsFunction(interpreter, arrayObject, (Integer)arrayObject.getArray().length);
+            return arrayPermutationsFunction(interpreter, arrayObject, (Integer)arrayObject.getArrayLength());
         }
         @LangFunction("arrayPermutations")
         @AllowedTypes(DataObject.DataType.ARRAY)
@@ -3369,7 +3457,7 @@ final class LangPredefinedFunctions {
                 @LangInfo("If the value returned by fp.func evaluates to true, this function will stop the execution early.")
                 @AllowedTypes(DataObject.DataType.FUNCTION_POINTER) DataObject functionObject
         ) {
-            return arrayPermutationsForEachFunction(interpreter, arrayObject, functionObject, (Integer)arrayObject.getArray().length);
+            return arrayPermutationsForEachFunction(interpreter, arrayObject, functionObject, (Integer)arrayObject.getArrayLength());
         }
         @LangFunction("arrayPermutationsForEach")
         @AllowedTypes(DataObject.DataType.VOID)
@@ -3471,7 +3559,7 @@ final class LangPredefinedFunctions {
         public static DataObject listCreateFunction(
                 LangInterpreter interpreter
         ) {
-            return new DataObject().setList(new LinkedList<>());
+            return new DataObject().setList(new LangArrayDeque<>());
         }
 
         @LangFunction("listOf")
@@ -3482,7 +3570,7 @@ final class LangPredefinedFunctions {
         ) {
             elements = elements.stream().map(DataObject::new).collect(Collectors.toList());
 
-            return new DataObject().setList(new LinkedList<>(elements));
+            return new DataObject().setList(new LangArrayDeque<>(elements));
         }
 
         @LangFunction("listGenerateFrom")
@@ -3497,7 +3585,7 @@ final class LangPredefinedFunctions {
                         new DataObject().setInt(i)
                 ));
             }).collect(Collectors.toList());
-            return new DataObject().setList(new LinkedList<>(elements));
+            return new DataObject().setList(new LangArrayDeque<>(elements));
         }
 
         @LangFunction("listZip")
@@ -3523,9 +3611,9 @@ final class LangPredefinedFunctions {
             if(len == -1)
                 len = 0;
 
-            LinkedList<DataObject> zippedList = new LinkedList<>();
+            LangArrayDeque<DataObject> zippedList = new LangArrayDeque<>();
             for(int i = 0;i < len;i++) {
-                LinkedList<DataObject> list = new LinkedList<>();
+                LangArrayDeque<DataObject> list = new LangArrayDeque<>();
                 for(DataObject dataObject:lists)
                     list.add(new DataObject(dataObject.getList().get(i)));
 
@@ -3552,7 +3640,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             if(list.isEmpty())
                 return null;
 
@@ -3566,7 +3654,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject,
                 @LangParameter("$value") DataObject valueObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             list.addFirst(new DataObject(valueObject));
             return null;
         }
@@ -3576,7 +3664,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             if(list.isEmpty())
                 return null;
 
@@ -3588,7 +3676,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             if(list.isEmpty())
                 return null;
 
@@ -3602,7 +3690,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject,
                 @LangParameter("$value") DataObject valueObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             list.addLast(new DataObject(valueObject));
             return null;
         }
@@ -3612,7 +3700,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             if(list.isEmpty())
                 return null;
 
@@ -3625,7 +3713,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject,
                 @LangParameter("$value") DataObject valueObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             for(int i = 0;i < list.size();i++) {
                 DataObject dataObject = list.get(i);
                 if(interpreter.operators.isStrictEquals(dataObject, valueObject, CodePosition.EMPTY)) {
@@ -3644,7 +3732,7 @@ final class LangPredefinedFunctions {
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject,
                 @LangParameter("$value") DataObject valueObject
         ) {
-            LinkedList<DataObject> list = listObject.getList();
+            LangArrayDeque<DataObject> list = listObject.getListDeque();
             for(int i = 0;i < list.size();i++) {
                 DataObject dataObject = list.get(i);
                 if(interpreter.operators.isEquals(dataObject, valueObject, CodePosition.EMPTY)) {
@@ -3683,8 +3771,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            return new DataObject(listObject.getList().stream().map(ele ->
-                    interpreter.conversions.toText(ele, CodePosition.EMPTY).toString()).collect(Collectors.joining(", ")));
+            return new DataObject(joinToText(interpreter, listObject.getList(), ", "));
         }
 
         @LangFunction("listFill")
@@ -3840,7 +3927,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> distinctValues = new LinkedList<>();
+            LangArrayDeque<DataObject> distinctValues = new LangArrayDeque<>();
             for(DataObject ele:listObject.getList()) {
                 boolean flag = true;
                 for(DataObject distinctEle:distinctValues) {
@@ -3863,7 +3950,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&list") @AllowedTypes(DataObject.DataType.LIST) DataObject listObject
         ) {
-            LinkedList<DataObject> distinctValues = new LinkedList<>();
+            LangArrayDeque<DataObject> distinctValues = new LangArrayDeque<>();
             for(DataObject ele:listObject.getList()) {
                 boolean flag = true;
                 for(DataObject distinctEle:distinctValues) {
@@ -3903,7 +3990,7 @@ final class LangPredefinedFunctions {
 
                 return retNumber.intValue();
             }).collect(Collectors.toList());
-            return new DataObject().setList(new LinkedList<>(elements));
+            return new DataObject().setList(new LangArrayDeque<>(elements));
         }
 
         @LangFunction("listFiltered")
@@ -3921,7 +4008,7 @@ final class LangPredefinedFunctions {
                                 dataObject
                         )), CodePosition.EMPTY);
             }).collect(Collectors.toList());
-            return new DataObject().setList(new LinkedList<>(elements));
+            return new DataObject().setList(new LangArrayDeque<>(elements));
         }
 
         @LangFunction("listFilteredCount")
@@ -3967,7 +4054,7 @@ final class LangPredefinedFunctions {
         ) {
             List<DataObject> list = listObject.getList();
 
-            LinkedList<DataObject> newList = new LinkedList<>();
+            LangArrayDeque<DataObject> newList = new LangArrayDeque<>();
             for(DataObject dataObject:list) {
                 newList.add(interpreter.callFunctionPointer(mapFunction.getFunctionPointer(), mapFunction.getVariableName(), Arrays.asList(
                         dataObject
@@ -4032,17 +4119,17 @@ final class LangPredefinedFunctions {
                 @LangParameter("$initialValue") DataObject initialValueObject,
                 @LangParameter("fp.combine") @AllowedTypes(DataObject.DataType.FUNCTION_POINTER) DataObject combineFunction
         ) {
-            LinkedList<DataObject> listOfLists = listObjects.getList();
+            LangArrayDeque<DataObject> listOfLists = listObjects.getListDeque();
 
             int len = -1;
-            List<LinkedList<DataObject>> lists = new LinkedList<>();
+            List<LangArrayDeque<DataObject>> lists = new LinkedList<>();
             for(int i = 0;i < listOfLists.size();i++) {
                 DataObject arg = listOfLists.get(i);
                 if(arg.getType() != DataType.LIST)
                     return interpreter.setErrnoErrorObject(InterpretingError.INVALID_ARGUMENTS,
                             "The element at index " + i + " of argument 1 (\"&lists\") must be of type " + DataObject.DataType.LIST);
 
-                lists.add(arg.getList());
+                lists.add(arg.getListDeque());
 
                 int lenTest = arg.getList().size();
                 if(len == -1) {
@@ -4057,13 +4144,13 @@ final class LangPredefinedFunctions {
             }
 
             if(lists.isEmpty())
-                return new DataObject().setList(new LinkedList<>());
+                return new DataObject().setList(new LangArrayDeque<>());
 
-            LinkedList<DataObject> reduceedLists = new LinkedList<>();
+            LangArrayDeque<DataObject> reduceedLists = new LangArrayDeque<>();
             for(int i = 0;i < len;i++) {
                 DataObject currentValueObject = initialValueObject == null?null:new DataObject(initialValueObject);
 
-                for(LinkedList<DataObject> list:lists) {
+                for(LangArrayDeque<DataObject> list:lists) {
                     DataObject ele = list.get(i);
 
                     if(currentValueObject == null) {
@@ -4252,7 +4339,7 @@ final class LangPredefinedFunctions {
                 LangInterpreter interpreter,
                 @LangParameter("&lists") @AllowedTypes(DataObject.DataType.LIST) @VarArgs List<DataObject> listObjects
         ) {
-            LinkedList<DataObject> combinedLists = new LinkedList<>();
+            LangArrayDeque<DataObject> combinedLists = new LangArrayDeque<>();
 
             for(DataObject listObject:listObjects)
                 for(DataObject ele:listObject.getList())
@@ -5720,7 +5807,7 @@ final class LangPredefinedFunctions {
                     (insideModule?LangModuleManager.readModuleLangFile(module, absolutePath):
                             interpreter.langPlatformAPI.getLangReader(absolutePath))) {
                 interpreter.resetParserPositionVars();
-                interpreter.interpretLines(reader);
+                interpreter.interpretAST(interpreter.parseLinesCached(reader, insideLangStandardImplementation || insideModule?null:absolutePath));
 
                 function.accept(callerData);
             }catch(IOException e) {
@@ -5778,7 +5865,7 @@ final class LangPredefinedFunctions {
             return executeLinkerFunction(interpreter, interpreter.conversions.toText(fileNameObject, CodePosition.EMPTY).toString(),
                     args, callerData -> {
                         //Copy linked translation map (except "lang.* = *") to the "link caller"'s translation map
-                        interpreter.getData().lang.forEach((k, v) -> {
+                        interpreter.getData().forEachModifiedTranslation((k, v) -> {
                             if(!k.startsWith("lang.")) {
                                 callerData.lang.put(k, v);
                             }
@@ -5800,7 +5887,7 @@ final class LangPredefinedFunctions {
             return executeLinkerFunction(interpreter, interpreter.conversions.toText(fileNameObject, CodePosition.EMPTY).toString(),
                     args, callerData -> {
                         //Copy linked translation map (except "lang.* = *") to the "link caller"'s translation map
-                        interpreter.getData().lang.forEach((k, v) -> {
+                        interpreter.getData().forEachModifiedTranslation((k, v) -> {
                             if(!k.startsWith("lang.")) {
                                 callerData.lang.put(k, v);
                             }
@@ -0,0 +1,137 @@
+package at.jddev0.lang;
+
+import java.util.*;
+
+import at.jddev0.lang.DataObject.FunctionPointerObject;
+import at.jddev0.lang.DataObject.LangObject;
+import at.jddev0.lang.DataObject.StructObject;
+
+/**
+ * Lang-Module<br>
+ * Pre-initialized Lang standard implementation which is shared by all LangInterpreter instances of the JVM<br>
+ * The static members of the standard classes are final, objects and struct instances of the constant Lang vars
+ * (e.g. $LANG_MATH_I) are copied for each interpreter
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+public final class LangRuntimeImage {
+    private static LangRuntimeImage defaultImage;
+
+    /**
+     * Predefined functions, linker functions, and functions of the Lang standard implementation in lang code
+     */
+    private final Map<String, FunctionPointerObject> funcs;
+    /**
+     * Structs and classes of the Lang standard implementation in lang code
+     */
+    private final Map<String, DataObject> standardTypes;
+    /**
+     * Lang vars which do not depend on the scope (Includes the finalized structs and classes of standardTypes)
+     */
+    private final LangPersistentHashTrie<DataObject> constantLangVars;
+    /**
+     * Names of the constant Lang vars which contain objects or struct instances, their members could be modified
+     */
+    private final String[] instanceLangVarNames;
+
+    /**
+     * @return The runtime image which is used by all LangInterpreter instances, it will be created on the first call
+     */
+    public static synchronized LangRuntimeImage getDefault() {
+        if(defaultImage == null)
+            defaultImage = create();
+
+        return defaultImage;
+    }
+
+    /**
+     * Interprets the Lang standard implementation in a new bootstrap interpreter
+     * @return A new runtime image which is independent of the default runtime image
+     */
+    public static LangRuntimeImage create() {
+        LangInterpreter bootstrapInterpreter = new LangInterpreter(null, "<standard>", "standard.lang", null,
+                new DefaultLangPlatformAPI(), null);
+
+        //The standard types were finalized during the creation of the Lang vars of the first scope of the bootstrap interpreter
+        return new LangRuntimeImage(bootstrapInterpreter.funcs, bootstrapInterpreter.standardTypes,
+                bootstrapInterpreter.langVars.getConstantLangVars());
+    }
+
+    private LangRuntimeImage(Map<String, FunctionPointerObject> funcs, Map<String, DataObject> standardTypes,
+                             LangPersistentHashTrie<DataObject> constantLangVars) {
+        this.funcs = Collections.unmodifiableMap(new HashMap<>(funcs));
+        this.standardTypes = Collections.unmodifiableMap(new HashMap<>(standardTypes));
+        this.constantLangVars = Objects.requireNonNull(constantLangVars);
+
+        //Static members of the standard classes are shared by all interpreters
+        for(DataObject standardType:standardTypes.values()) {
+            LangObject langObject = standardType.getObject();
+            if(langObject != null && langObject.isClass())
+                for(DataObject staticMember:langObject.getStaticMembers())
+                    staticMember.setFinalData(true);
+        }
+
+        List<String> instanceLangVarNames = new ArrayList<>();
+        constantLangVars.forEach((variableName, langVar) -> {
+            LangObject langObject = langVar.getObject();
+            StructObject struct = langVar.getStruct();
+            if((langObject != null && !langObject.isClass()) || (struct != null && !struct.isDefinition()))
+                instanceLangVarNames.add(variableName);
+        });
+        this.instanceLangVarNames = instanceLangVarNames.toArray(new String[0]);
+    }
+
+    /**
+     * @return A read-only view of all functions, the map of an interpreter must be copied before it is modified
+     */
+    public Map<String, FunctionPointerObject> getFuncs() {
+        return funcs;
+    }
+
+    /**
+     * @return A read-only view of all structs and classes of the Lang standard implementation (The data objects must
+     * not be modified)
+     */
+    public Map<String, DataObject> getStandardTypes() {
+        return standardTypes;
+    }
+
+    /**
+     * @return The constant Lang vars for a new interpreter, objects and struct instances are copied (The values of
+     * their members are shared like the values of copied variables)
+     */
+    LangPersistentHashTrie<DataObject> createConstantLangVars() {
+        LangPersistentHashTrie<DataObject> constantLangVars = this.constantLangVars;
+        for(String variableName:instanceLangVarNames)
+            constantLangVars = constantLangVars.put(variableName, copyInstanceLangVar(constantLangVars.get(variableName)));
+
+        return constantLangVars;
+    }
+
+    private static DataObject copyInstanceLangVar(DataObject langVar) {
+        DataObject langVarCopy = new DataObject();
+
+        LangObject langObject = langVar.getObject();
+        if(langObject != null) {
+            LangObject langObjectCopy = new LangObject(langObject.getClassBaseDefinition());
+            for(int i = 0;i < langObject.getMemberNames().length;i++)
+                langObjectCopy.getMember(i).setData(langObject.getMember(i));
+            langObjectCopy.postConstructor();
+
+            langVarCopy.setObject(langObjectCopy);
+        }else {
+            StructObject struct = langVar.getStruct();
+            DataObject[] memberValues = new DataObject[struct.getMemberNames().length];
+            for(int i = 0;i < memberValues.length;i++)
+                memberValues[i] = struct.getMember(i);
+
+            langVarCopy.setStruct(new StructObject(struct.getStructBaseDefinition(), memberValues));
+        }
+
+        if(langVar.isStaticData())
+            langVarCopy.setStaticData(true);
+
+        return langVarCopy.setFinalData(langVar.isFinalData()).setLangVar().setVariableName(langVar.getVariableName());
+    }
+}
@@ -0,0 +1,176 @@
+package at.jddev0.lang;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Lang-Module<br>
+ * Translation map of a single scope<br>
+ * Translations of the parent scope are shared with the new scope by using a persistent hash trie
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+final class LangScopeTranslationMap extends AbstractMap<String, String> {
+    /**
+     * "lang.*" translations, they are never inherited by a new scope
+     */
+    private final Map<String, String> langTranslations = new HashMap<>();
+    /**
+     * All other translations (Including translations of the parent scope)
+     */
+    private LangPersistentHashTrie<String> translations = LangPersistentHashTrie.empty();
+    /**
+     * Keys of all translations which were set in this scope
+     */
+    private final Set<String> modifiedKeys = new HashSet<>();
+
+    private static boolean isLangTranslationKey(String key) {
+        return key.startsWith("lang.");
+    }
+
+    /**
+     * All translations (Except "lang.* = *") of the parent scope will be visible in this scope
+     */
+    void inheritTranslations(LangScopeTranslationMap parentTranslationMap) {
+        translations = parentTranslationMap.translations;
+    }
+
+    /**
+     * Calls the action for all translations which were set in this scope and which were not removed afterwards
+     */
+    void forEachModifiedTranslation(BiConsumer<String, String> action) {
+        for(String key:modifiedKeys) {
+            String value = get(key);
+            if(value != null)
+                action.accept(key, value);
+        }
+    }
+
+    @Override
+    public String get(Object key) {
+        if(!(key instanceof String))
+            return null;
+
+        String translationKey = (String)key;
+        return isLangTranslationKey(translationKey)?langTranslations.get(translationKey):translations.get(translationKey);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        modifiedKeys.add(key);
+
+        if(isLangTranslationKey(key))
+            return langTranslations.put(key, value);
+
+        String old = translations.get(key);
+        translations = translations.put(key, value);
+        return old;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if(!(key instanceof String))
+            return null;
+
+        String translationKey = (String)key;
+        if(isLangTranslationKey(translationKey))
+            return langTranslations.remove(translationKey);
+
+        String old = translations.get(translationKey);
+        translations = translations.remove(translationKey);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        langTranslations.clear();
+        translations = LangPersistentHashTrie.empty();
+    }
+
+    @Override
+    public int size() {
+        return langTranslations.size() + translations.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new KeyIterator(translations, langTranslations);
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return LangScopeTranslationMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                LangPersistentHashTrie<String> translationsSnapshot = translations;
+                Iterator<String> keyIterator = new KeyIterator(translationsSnapshot, langTranslations);
+
+                return new Iterator<Entry<String, String>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keyIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        String key = keyIterator.next();
+                        return new SimpleImmutableEntry<>(key, isLangTranslationKey(key)?langTranslations.get(key):
+                                translationsSnapshot.get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LangScopeTranslationMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over a snapshot of the trie and over all "lang.*" translations
+     */
+    private static final class KeyIterator implements Iterator<String> {
+        private final Iterator<String> translationKeyIterator;
+        private final Iterator<String> langTranslationKeyIterator;
+
+        private KeyIterator(LangPersistentHashTrie<String> translations, Map<String, String> langTranslations) {
+            this.translationKeyIterator = translations.keyIterator();
+            this.langTranslationKeyIterator = langTranslations.keySet().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return translationKeyIterator.hasNext() || langTranslationKeyIterator.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return translationKeyIterator.hasNext()?translationKeyIterator.next():langTranslationKeyIterator.next();
+        }
+    }
+}
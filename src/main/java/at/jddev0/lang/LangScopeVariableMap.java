@@ -0,0 +1,603 @@
+package at.jddev0.lang;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lang-Module<br>
+ * Variable map of a single scope<br>
+ * The variables of the caller scope are shared with the scope of a called function by using a persistent hash trie,
+ * a copy of a non-static variable of the caller scope is only created before the variable is written in the scope of
+ * the called function or before the variable is modified through a var pointer
+ *
+ * @author JDDev0
+ * @version v1.0.0
+ */
+final class LangScopeVariableMap extends AbstractMap<String, DataObject> {
+    private static final int LAYER_VARIABLES = 1;
+    private static final int LAYER_LANG_VARS = 2;
+    private static final int LAYER_CONSTANT_LANG_VARS = 4;
+
+    /**
+     * Shape of the set of variable names, it will be changed if a variable is added or removed
+     */
+    private Shape shape = Shape.ROOT;
+    /**
+     * Will be incremented if any variable of this map is added, removed, or replaced
+     */
+    private long modificationCount;
+    /**
+     * Count of distinct variable names of all tries
+     */
+    private int size;
+    /**
+     * Count of the constant Lang vars which are shadowed by variables
+     */
+    private int constantLangVarsShadowedByVariablesCount;
+    /**
+     * Count of the constant Lang vars which are shadowed by Lang vars but not by variables
+     */
+    private int constantLangVarsShadowedByLangVarsCount;
+    /**
+     * Shared Lang vars which do not depend on the scope (Lookups fall back to this trie)
+     */
+    private LangPersistentHashTrie<DataObject> constantLangVars = LangPersistentHashTrie.empty();
+    /**
+     * Non-static Lang vars of this scope, they are never inherited by the scope of a called function
+     */
+    private LangPersistentHashTrie<DataObject> langVars = LangPersistentHashTrie.empty();
+    /**
+     * All other variables (Including variables of the caller scope which were not yet copied)
+     */
+    private LangPersistentHashTrie<DataObject> variables = LangPersistentHashTrie.empty();
+    /**
+     * The variables of the caller scope at the time of the function call or null
+     */
+    private LangPersistentHashTrie<DataObject> callerVariables;
+
+    /**
+     * Maps which reached the same set of variable names by the same sequence of changes have the same version
+     * (e.g. the scopes of all calls of a function from the same caller scope)
+     *
+     * @return A version which will only be changed if variables are added or removed
+     */
+    long getShapeVersion() {
+        return shape.version;
+    }
+
+    /**
+     * @return A count which will be changed if any variable of this map is added, removed, or replaced
+     */
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    void setConstantLangVars(LangPersistentHashTrie<DataObject> constantLangVars) {
+        if(this.constantLangVars == constantLangVars)
+            return;
+
+        //Count of distinct names of variables and Lang vars
+        int nonConstantSize = size - this.constantLangVars.size() + constantLangVarsShadowedByVariablesCount +
+                constantLangVarsShadowedByLangVarsCount;
+
+        int shadowedByVariablesCount = 0;
+        int shadowedByLangVarsCount = 0;
+        if(variables.size() + langVars.size() <= constantLangVars.size()) {
+            for(Iterator<String> iterator = variables.keyIterator();iterator.hasNext();)
+                if(constantLangVars.containsKey(iterator.next()))
+                    shadowedByVariablesCount++;
+
+            for(Iterator<String> iterator = langVars.keyIterator();iterator.hasNext();) {
+                String key = iterator.next();
+                if(constantLangVars.containsKey(key) && !variables.containsKey(key))
+                    shadowedByLangVarsCount++;
+            }
+        }else {
+            for(Iterator<String> iterator = constantLangVars.keyIterator();iterator.hasNext();) {
+                String key = iterator.next();
+                if(variables.containsKey(key))
+                    shadowedByVariablesCount++;
+                else if(langVars.containsKey(key))
+                    shadowedByLangVarsCount++;
+            }
+        }
+
+        this.constantLangVars = constantLangVars;
+        constantLangVarsShadowedByVariablesCount = shadowedByVariablesCount;
+        constantLangVarsShadowedByLangVarsCount = shadowedByLangVarsCount;
+        size = nonConstantSize + constantLangVars.size() - shadowedByVariablesCount - shadowedByLangVarsCount;
+
+        shape = shape.withConstantLangVars(constantLangVars);
+        modificationCount++;
+    }
+
+    /**
+     * @return The count of the keys which are present in both tries (The smaller trie is iterated)
+     */
+    private static int countCommonKeys(LangPersistentHashTrie<?> trieA, LangPersistentHashTrie<?> trieB) {
+        if(trieA.size() > trieB.size())
+            return countCommonKeys(trieB, trieA);
+
+        int count = 0;
+        for(Iterator<String> iterator = trieA.keyIterator();iterator.hasNext();)
+            if(trieB.containsKey(iterator.next()))
+                count++;
+
+        return count;
+    }
+
+    /**
+     * @return The bit set of the tries which contain the key
+     */
+    private int getLayers(String key) {
+        return (variables.containsKey(key)?LAYER_VARIABLES:0) | (langVars.containsKey(key)?LAYER_LANG_VARS:0) |
+                (constantLangVars.containsKey(key)?LAYER_CONSTANT_LANG_VARS:0);
+    }
+
+    /**
+     * Updates the counts after the tries which contain a single key were changed
+     */
+    private void updateCounts(int oldLayers, int newLayers) {
+        size += (newLayers == 0?0:1) - (oldLayers == 0?0:1);
+
+        constantLangVarsShadowedByVariablesCount += (isConstantLangVarShadowedByVariable(newLayers)?1:0) -
+                (isConstantLangVarShadowedByVariable(oldLayers)?1:0);
+        constantLangVarsShadowedByLangVarsCount += (isConstantLangVarShadowedByLangVar(newLayers)?1:0) -
+                (isConstantLangVarShadowedByLangVar(oldLayers)?1:0);
+    }
+
+    /**
+     * Updates the counts and the shape after the tries which contain the key were changed
+     */
+    private void updateLayers(String key, int oldLayers) {
+        int newLayers = getLayers(key);
+        if(newLayers == oldLayers)
+            return;
+
+        updateCounts(oldLayers, newLayers);
+        shape = shape.withLayers(key, newLayers);
+    }
+
+    private static boolean isConstantLangVarShadowedByVariable(int layers) {
+        return (layers & (LAYER_VARIABLES | LAYER_CONSTANT_LANG_VARS)) == (LAYER_VARIABLES | LAYER_CONSTANT_LANG_VARS);
+    }
+
+    private static boolean isConstantLangVarShadowedByLangVar(int layers) {
+        return layers == (LAYER_LANG_VARS | LAYER_CONSTANT_LANG_VARS);
+    }
+
+    /**
+     * The constant Lang vars will be copied to this scope if a constant Lang var is overwritten or removed
+     */
+    private void detachConstantLangVars() {
+        constantLangVars.forEach((key, value) -> {
+            if(!langVars.containsKey(key))
+                langVars = langVars.put(key, value);
+        });
+        constantLangVars = LangPersistentHashTrie.empty();
+        constantLangVarsShadowedByVariablesCount = 0;
+        constantLangVarsShadowedByLangVarsCount = 0;
+
+        shape = shape.withDetachedConstantLangVars();
+    }
+
+    /**
+     * All variables of the caller scope will be visible in this scope (Static variables will be shared and all other
+     * non Lang vars will be copied before they are written). Variables of the caller scope shadow variables which were
+     * already set in this scope.<br>
+     * The runtime does not depend on the number of variables of the caller scope
+     */
+    void inheritCallerVariables(LangScopeVariableMap callerVariableMap) {
+        LangPersistentHashTrie<DataObject> scopeVariables = variables;
+
+        //The variables of this scope are counted again below if they are not shadowed
+        scopeVariables.forEach((key, value) -> {
+            int oldLayers = getLayers(key);
+            variables = variables.remove(key);
+            updateCounts(oldLayers, getLayers(key));
+        });
+
+        callerVariables = callerVariableMap.variables;
+        variables = callerVariables;
+
+        int shadowedConstantLangVarCount = constantLangVars == callerVariableMap.constantLangVars?
+                callerVariableMap.constantLangVarsShadowedByVariablesCount:countCommonKeys(variables, constantLangVars);
+        int shadowedLangVarCount = 0;
+        int shadowedConstantLangVarByLangVarCount = 0;
+        for(Iterator<String> iterator = langVars.keyIterator();iterator.hasNext();) {
+            String key = iterator.next();
+
+            //Keys which are present in all three tries were already counted as shadowed constant Lang vars
+            boolean isVariable = variables.containsKey(key);
+            if(isVariable && !constantLangVars.containsKey(key))
+                shadowedLangVarCount++;
+            else if(!isVariable && constantLangVars.containsKey(key))
+                shadowedConstantLangVarByLangVarCount++;
+        }
+
+        size += variables.size() - shadowedConstantLangVarCount - shadowedLangVarCount;
+        constantLangVarsShadowedByVariablesCount = shadowedConstantLangVarCount;
+        constantLangVarsShadowedByLangVarsCount = shadowedConstantLangVarByLangVarCount;
+
+        scopeVariables.forEach((key, value) -> {
+            if(!variables.containsKey(key)) {
+                int oldLayers = getLayers(key);
+                variables = variables.put(key, value);
+                updateCounts(oldLayers, getLayers(key));
+            }
+        });
+
+        shape = shape.withCallerVariables(callerVariableMap.shape);
+        modificationCount++;
+    }
+
+    /**
+     * @return True if the data object is a non-static variable of the caller scope which was not yet copied to this scope
+     */
+    boolean isSharedCallerVariable(String variableName, DataObject dataObject) {
+        return callerVariables != null && !dataObject.isStaticData() && variables.get(variableName) == dataObject &&
+                callerVariables.get(variableName) == dataObject;
+    }
+
+    /**
+     * The shared variable of the caller scope is replaced by a copy with the current value in this scope, the variable
+     * of the caller scope is not modified
+     *
+     * @return The copy
+     */
+    DataObject copySharedCallerVariable(String variableName) {
+        DataObject dataObject = variables.get(variableName);
+
+        //Copies must not be final
+        DataObject copy = new DataObject(dataObject).setVariableName(variableName);
+        variables = variables.put(variableName, copy);
+        modificationCount++;
+
+        return copy;
+    }
+
+    /**
+     * The runtime is linear in the length of str and does not depend on the number of variables
+     *
+     * @return The longest variable name which is a prefix of str or null
+     */
+    String findLongestVariableNamePrefixOf(String str) {
+        String longestVariableName = null;
+
+        int hash = 0;
+        for(int i = 0;i < str.length();i++) {
+            //Same hash as String.hashCode() of str.substring(0, i + 1)
+            hash = 31 * hash + str.charAt(i);
+
+            String variableName = variables.getKeyPrefixOf(str, i + 1, hash);
+            if(variableName == null)
+                variableName = langVars.getKeyPrefixOf(str, i + 1, hash);
+            if(variableName == null)
+                variableName = constantLangVars.getKeyPrefixOf(str, i + 1, hash);
+
+            if(variableName != null)
+                longestVariableName = variableName;
+        }
+
+        return longestVariableName;
+    }
+
+    @Override
+    public DataObject get(Object key) {
+        if(!(key instanceof String))
+            return null;
+
+        String variableName = (String)key;
+
+        DataObject dataObject = variables.get(variableName);
+        if(dataObject == null) {
+            dataObject = langVars.get(variableName);
+            return dataObject == null?constantLangVars.get(variableName):dataObject;
+        }
+
+        return dataObject;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if(!(key instanceof String))
+            return false;
+
+        String variableName = (String)key;
+        return variables.containsKey(variableName) || langVars.containsKey(variableName) ||
+                constantLangVars.containsKey(variableName);
+    }
+
+    /**
+     * @return The previous value (Variables of the caller scope will not be copied)
+     */
+    @Override
+    public DataObject put(String key, DataObject value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        DataObject old = get(key);
+
+        modificationCount++;
+
+        if(constantLangVars.containsKey(key))
+            detachConstantLangVars();
+
+        int oldLayers = getLayers(key);
+        if(value.isLangVar() && !value.isStaticData()) {
+            variables = variables.remove(key);
+            langVars = langVars.put(key, value);
+        }else {
+            variables = variables.put(key, value);
+            langVars = langVars.remove(key);
+        }
+        updateLayers(key, oldLayers);
+
+        return old;
+    }
+
+    /**
+     * @return The previous value (Variables of the caller scope will not be copied)
+     */
+    @Override
+    public DataObject remove(Object key) {
+        if(!(key instanceof String))
+            return null;
+
+        String variableName = (String)key;
+
+        if(constantLangVars.containsKey(variableName))
+            detachConstantLangVars();
+
+        DataObject old = variables.get(variableName);
+        if(old == null)
+            old = langVars.get(variableName);
+
+        if(old != null)
+            modificationCount++;
+
+        int oldLayers = getLayers(variableName);
+        variables = variables.remove(variableName);
+        langVars = langVars.remove(variableName);
+        updateLayers(variableName, oldLayers);
+
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        constantLangVars = LangPersistentHashTrie.empty();
+        langVars = LangPersistentHashTrie.empty();
+        variables = LangPersistentHashTrie.empty();
+        callerVariables = null;
+        size = 0;
+        constantLangVarsShadowedByVariablesCount = 0;
+        constantLangVarsShadowedByLangVarsCount = 0;
+
+        shape = Shape.ROOT;
+        modificationCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new VariableNameSet();
+    }
+
+    @Override
+    public Set<Entry<String, DataObject>> entrySet() {
+        return new AbstractSet<Entry<String, DataObject>>() {
+            @Override
+            public Iterator<Entry<String, DataObject>> iterator() {
+                Iterator<String> keyIterator = new KeyIterator(variables, langVars, constantLangVars);
+
+                return new Iterator<Entry<String, DataObject>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keyIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, DataObject> next() {
+                        String key = keyIterator.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LangScopeVariableMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Key set view which supports the longest prefix search of the map
+     */
+    final class VariableNameSet extends AbstractSet<String> {
+        private VariableNameSet() {}
+
+        /**
+         * @return The longest variable name which is a prefix of str or null
+         */
+        String findLongestVariableNamePrefixOf(String str) {
+            return LangScopeVariableMap.this.findLongestVariableNamePrefixOf(str);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new KeyIterator(variables, langVars, constantLangVars);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public int size() {
+            return LangScopeVariableMap.this.size();
+        }
+    }
+
+    /**
+     * Iterates over a snapshot of the tries (Shadowed Lang vars are skipped)
+     */
+    private static final class KeyIterator implements Iterator<String> {
+        private final LangPersistentHashTrie<DataObject> variables;
+        private final LangPersistentHashTrie<DataObject> langVars;
+        private final Iterator<String> variableKeyIterator;
+        private final Iterator<String> langVarKeyIterator;
+        private final Iterator<String> constantLangVarKeyIterator;
+        private String next;
+
+        private KeyIterator(LangPersistentHashTrie<DataObject> variables, LangPersistentHashTrie<DataObject> langVars,
+                            LangPersistentHashTrie<DataObject> constantLangVars) {
+            this.variables = variables;
+            this.langVars = langVars;
+            this.variableKeyIterator = variables.keyIterator();
+            this.langVarKeyIterator = langVars.keyIterator();
+            this.constantLangVarKeyIterator = constantLangVars.keyIterator();
+
+            next = findNext();
+        }
+
+        private String findNext() {
+            if(variableKeyIterator.hasNext())
+                return variableKeyIterator.next();
+
+            while(langVarKeyIterator.hasNext()) {
+                String key = langVarKeyIterator.next();
+                if(!variables.containsKey(key))
+                    return key;
+            }
+
+            while(constantLangVarKeyIterator.hasNext()) {
+                String key = constantLangVarKeyIterator.next();
+                if(!variables.containsKey(key) && !langVars.containsKey(key))
+                    return key;
+            }
+
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if(next == null)
+                throw new NoSuchElementException();
+
+            String ret = next;
+            next = findNext();
+            return ret;
+        }
+    }
+
+    /**
+     * Node of a tree of transitions between sets of variable names which is shared by all maps of the JVM<br>
+     * Shapes are only weakly referenced by their parent shape, a shape which is no longer used will be created again
+     * with a new version
+     */
+    private static final class Shape {
+        private static final AtomicLong NEXT_VERSION = new AtomicLong();
+
+        private static final Shape ROOT = new Shape(null);
+        private static final Object DETACHED_CONSTANT_LANG_VARS_TRANSITION = new Object();
+
+        private final long version = NEXT_VERSION.incrementAndGet();
+        /**
+         * The parent shape must be kept alive for its transitions as long as this shape is used
+         */
+        private final Shape parent;
+        /**
+         * Transitions for layer changes of single keys, for the variables of caller scopes, and for the detachment of
+         * the constant Lang vars
+         */
+        private final Map<Object, WeakReference<Shape>> transitions = new HashMap<>();
+        /**
+         * Transitions for constant Lang vars (The tries are only weakly referenced)
+         */
+        private final Map<LangPersistentHashTrie<DataObject>, WeakReference<Shape>> constantLangVarTransitions = new WeakHashMap<>();
+        /**
+         * Transitions which point to unused shapes are removed if the count of transitions reaches this count
+         */
+        private int transitionPurgeCount = 16;
+
+        private Shape(Shape parent) {
+            this.parent = parent;
+        }
+
+        Shape withLayers(String key, int layers) {
+            return transition(transitions, new LayersTransition(key, layers));
+        }
+
+        Shape withConstantLangVars(LangPersistentHashTrie<DataObject> constantLangVars) {
+            return transition(constantLangVarTransitions, constantLangVars);
+        }
+
+        Shape withDetachedConstantLangVars() {
+            return transition(transitions, DETACHED_CONSTANT_LANG_VARS_TRANSITION);
+        }
+
+        /**
+         * The variable names of the caller scope only depend on the shape of the caller scope
+         */
+        Shape withCallerVariables(Shape callerShape) {
+            return transition(transitions, callerShape.version);
+        }
+
+        private synchronized <K> Shape transition(Map<K, WeakReference<Shape>> transitions, K transition) {
+            WeakReference<Shape> shapeReference = transitions.get(transition);
+            Shape shape = shapeReference == null?null:shapeReference.get();
+            if(shape != null)
+                return shape;
+
+            if(transitions.size() >= transitionPurgeCount) {
+                transitions.values().removeIf(reference -> reference.get() == null);
+                transitionPurgeCount = Math.max(16, 2 * transitions.size());
+            }
+
+            shape = new Shape(this);
+            transitions.put(transition, new WeakReference<>(shape));
+
+            return shape;
+        }
+
+        private static final class LayersTransition {
+            private final String key;
+            private final int layers;
+
+            private LayersTransition(String key, int layers) {
+                this.key = key;
+                this.layers = layers;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if(this == obj)
+                    return true;
+
+                if(!(obj instanceof LayersTransition))
+                    return false;
+
+                LayersTransition that = (LayersTransition)obj;
+                return this.layers == that.layers && this.key.equals(that.key);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * key.hashCode() + layers;
+            }
+        }
+    }
+}
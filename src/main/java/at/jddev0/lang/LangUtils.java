@@ -80,11 +80,11 @@ public final class LangUtils {
         if(dataObjects.size() == 1)
             return dataObjects.get(0);
 
-        //Combine everything to a single text object
-        final StringBuilder builder = new StringBuilder();
-        dataObjects.forEach(ele ->
-                builder.append(interpreter.conversions.toText(ele, pos)));
-        return new DataObject(builder.toString());
+        //Combine everything to a single text object (Long texts are not copied)
+        DataObject.Text txt = DataObject.Text.EMPTY;
+        for(DataObject ele:dataObjects)
+            txt = txt.concat(interpreter.conversions.toText(ele, pos));
+        return new DataObject(txt);
     }
 
     /**
@@ -501,7 +501,7 @@ public final class LangUtils {
         DataType type = valueObject.getType();
 
         boolean hasOpMethod = type == DataType.OBJECT && !valueObject.getObject().isClass() &&
-                valueObject.getObject().getMethods().containsKey("op:call");
+                valueObject.getObject().hasOperatorMethod("call");
 
         return hasOpMethod || type == DataType.FUNCTION_POINTER ||
                 type == DataType.TYPE || (type == DataType.STRUCT && valueObject.getStruct().isDefinition()) ||
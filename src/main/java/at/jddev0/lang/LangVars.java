@@ -6,6 +6,8 @@ import at.jddev0.lang.LangInterpreter.InterpretingError;
 import at.jddev0.lang.LangInterpreter.StackElement;
 
 import java.nio.file.FileSystems;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Lang-Module<br>
@@ -15,12 +17,65 @@ import java.nio.file.FileSystems;
  * @version v1.0.0
  */
 public final class LangVars {
+    /**
+     * Lang vars which do not depend on the interpreter nor on the scope (Shared by all interpreters)
+     */
+    private static final LangPersistentHashTrie<DataObject> ESSENTIAL_CONSTANT_LANG_VARS;
+    static {
+        Map<String, DataObject> langVars = new HashMap<>();
+
+        addLangVar(langVars, "&LANG_ARGS", new DataObject().setArray(new DataObject[0]).setFinalData(true));
+
+        addSystemLangVars(langVars);
+        addBasicNumberLangVars(langVars);
+        addErrorLangVars(langVars);
+        addTypeLangVars(langVars);
+
+        ESSENTIAL_CONSTANT_LANG_VARS = toConstantLangVars(langVars);
+    }
+
     private final LangInterpreter interpreter;
 
+    /**
+     * Lang vars which do not depend on the scope (Includes the essential constant Lang vars)
+     */
+    private LangPersistentHashTrie<DataObject> constantLangVars;
+
     public LangVars(LangInterpreter interpreter) {
         this.interpreter = interpreter;
     }
 
+    /**
+     * @return The Lang vars which do not depend on the scope or null if addLangVars() was not called yet
+     */
+    LangPersistentHashTrie<DataObject> getConstantLangVars() {
+        return constantLangVars;
+    }
+
+    /**
+     * The Lang vars will be used by addLangVars() as is: The data objects (e.g. the finalized standard types of a
+     * LangRuntimeImage) might be shared by multiple interpreters and are therefore never modified
+     */
+    void setConstantLangVars(LangPersistentHashTrie<DataObject> constantLangVars) {
+        this.constantLangVars = constantLangVars;
+    }
+
+    private static LangPersistentHashTrie<DataObject> toConstantLangVars(Map<String, DataObject> langVars) {
+        LangPersistentHashTrie<DataObject> constantLangVars = LangPersistentHashTrie.empty();
+        for(Map.Entry<String, DataObject> entry:langVars.entrySet())
+            constantLangVars = constantLangVars.put(entry.getKey(), entry.getValue());
+
+        return constantLangVars;
+    }
+
+    private static void addLangVar(Map<String, DataObject> langVars, String variableName, DataObject langVar) {
+        langVars.put(variableName, langVar.setLangVar().setVariableName(variableName));
+    }
+
+    private static void addStaticLangVar(Map<String, DataObject> langVars, String variableName, DataObject langVar) {
+        langVars.put(variableName, langVar.setStaticData(true).setLangVar().setVariableName(variableName));
+    }
+
     private void addLangVar(String variableName, DataObject langVar) {
         interpreter.getData().var.put(variableName, langVar.setLangVar().setVariableName(variableName));
     }
@@ -30,66 +85,75 @@ public final class LangVars {
     }
 
     void addEssentialLangVars(DataObject langArgs) {
-        interpreter.getData().var.put("&LANG_ARGS", langArgs == null?new DataObject().setArray(new DataObject[0]).
-                setFinalData(true).setLangVar().setVariableName("&LANG_ARGS"):langArgs);
+        addScopeLangVars(langArgs, ESSENTIAL_CONSTANT_LANG_VARS);
+    }
+    private void addScopeLangVars(DataObject langArgs, LangPersistentHashTrie<DataObject> constantLangVars) {
+        if(langArgs != null)
+            interpreter.getData().var.put("&LANG_ARGS", langArgs);
 
-        addSystemLangVars();
-        addBasicNumberLangVars();
-        addErrorLangVars();
-        addTypeLangVars();
+        interpreter.getData().setConstantLangVars(constantLangVars);
 
         //Non-final
         addStaticLangVar("$LANG_ERRNO", new DataObject().setInt(InterpretingError.NO_ERROR.getErrorCode()));
     }
-    private void addSystemLangVars() {
-        addLangVar("$LANG_VERSION", new DataObject(LangInterpreter.VERSION).setFinalData(true));
-        addLangVar("$LANG_NAME", new DataObject("Standard Lang").setFinalData(true));
-        addLangVar("$LANG_RAND_MAX", new DataObject().setInt(Integer.MAX_VALUE).setFinalData(true));
-        addLangVar("$LANG_OS_NAME", new DataObject(System.getProperty("os.name")).setFinalData(true));
-        addLangVar("$LANG_OS_VER", new DataObject(System.getProperty("os.version")).setFinalData(true));
-        addLangVar("$LANG_OS_ARCH", new DataObject(System.getProperty("os.arch")).setFinalData(true));
-        addLangVar("$LANG_OS_FILE_SEPARATOR", new DataObject(FileSystems.getDefault().getSeparator()).setFinalData(true));
-        addLangVar("$LANG_OS_LINE_SEPARATOR", new DataObject(System.lineSeparator()).setFinalData(true));
+    private static void addSystemLangVars(Map<String, DataObject> langVars) {
+        addLangVar(langVars, "$LANG_VERSION", new DataObject(LangInterpreter.VERSION).setFinalData(true));
+        addLangVar(langVars, "$LANG_NAME", new DataObject("Standard Lang").setFinalData(true));
+        addLangVar(langVars, "$LANG_RAND_MAX", new DataObject().setInt(Integer.MAX_VALUE).setFinalData(true));
+        addLangVar(langVars, "$LANG_OS_NAME", new DataObject(System.getProperty("os.name")).setFinalData(true));
+        addLangVar(langVars, "$LANG_OS_VER", new DataObject(System.getProperty("os.version")).setFinalData(true));
+        addLangVar(langVars, "$LANG_OS_ARCH", new DataObject(System.getProperty("os.arch")).setFinalData(true));
+        addLangVar(langVars, "$LANG_OS_FILE_SEPARATOR", new DataObject(FileSystems.getDefault().getSeparator()).setFinalData(true));
+        addLangVar(langVars, "$LANG_OS_LINE_SEPARATOR", new DataObject(System.lineSeparator()).setFinalData(true));
     }
-    private void addBasicNumberLangVars() {
-        addLangVar("$LANG_INT_MIN", new DataObject().setInt(Integer.MIN_VALUE).setFinalData(true));
-        addLangVar("$LANG_INT_MAX", new DataObject().setInt(Integer.MAX_VALUE).setFinalData(true));
+    private static void addBasicNumberLangVars(Map<String, DataObject> langVars) {
+        addLangVar(langVars, "$LANG_INT_MIN", new DataObject().setInt(Integer.MIN_VALUE).setFinalData(true));
+        addLangVar(langVars, "$LANG_INT_MAX", new DataObject().setInt(Integer.MAX_VALUE).setFinalData(true));
 
-        addLangVar("$LANG_LONG_MIN", new DataObject().setLong(Long.MIN_VALUE).setFinalData(true));
-        addLangVar("$LANG_LONG_MAX", new DataObject().setLong(Long.MAX_VALUE).setFinalData(true));
+        addLangVar(langVars, "$LANG_LONG_MIN", new DataObject().setLong(Long.MIN_VALUE).setFinalData(true));
+        addLangVar(langVars, "$LANG_LONG_MAX", new DataObject().setLong(Long.MAX_VALUE).setFinalData(true));
 
-        addLangVar("$LANG_FLOAT_NAN", new DataObject().setFloat(Float.NaN).setFinalData(true));
-        addLangVar("$LANG_FLOAT_POS_INF", new DataObject().setFloat(Float.POSITIVE_INFINITY).setFinalData(true));
-        addLangVar("$LANG_FLOAT_NEG_INF", new DataObject().setFloat(Float.NEGATIVE_INFINITY).setFinalData(true));
+        addLangVar(langVars, "$LANG_FLOAT_NAN", new DataObject().setFloat(Float.NaN).setFinalData(true));
+        addLangVar(langVars, "$LANG_FLOAT_POS_INF", new DataObject().setFloat(Float.POSITIVE_INFINITY).setFinalData(true));
+        addLangVar(langVars, "$LANG_FLOAT_NEG_INF", new DataObject().setFloat(Float.NEGATIVE_INFINITY).setFinalData(true));
 
-        addLangVar("$LANG_DOUBLE_NAN", new DataObject().setDouble(Double.NaN).setFinalData(true));
-        addLangVar("$LANG_DOUBLE_POS_INF", new DataObject().setDouble(Double.POSITIVE_INFINITY).setFinalData(true));
-        addLangVar("$LANG_DOUBLE_NEG_INF", new DataObject().setDouble(Double.NEGATIVE_INFINITY).setFinalData(true));
+        addLangVar(langVars, "$LANG_DOUBLE_NAN", new DataObject().setDouble(Double.NaN).setFinalData(true));
+        addLangVar(langVars, "$LANG_DOUBLE_POS_INF", new DataObject().setDouble(Double.POSITIVE_INFINITY).setFinalData(true));
+        addLangVar(langVars, "$LANG_DOUBLE_NEG_INF", new DataObject().setDouble(Double.NEGATIVE_INFINITY).setFinalData(true));
     }
-    private void addErrorLangVars() {
+    private static void addErrorLangVars(Map<String, DataObject> langVars) {
         for(InterpretingError error:InterpretingError.values()) {
             String upperCaseErrorName = error.name().toUpperCase();
             String variableName = "$LANG_ERROR_" + upperCaseErrorName;
-            addLangVar(variableName, new DataObject().setError(new ErrorObject(error)).setFinalData(true));
+            addLangVar(langVars, variableName, new DataObject().setError(new ErrorObject(error)).setFinalData(true));
             variableName = "$LANG_ERRNO_" + upperCaseErrorName;
-            addLangVar(variableName, new DataObject().setInt(error.getErrorCode()).setFinalData(true));
+            addLangVar(langVars, variableName, new DataObject().setInt(error.getErrorCode()).setFinalData(true));
         }
     }
-    private void addTypeLangVars() {
+    private static void addTypeLangVars(Map<String, DataObject> langVars) {
         for(DataType type:DataType.values()) {
             String upperCaseTypeName = type.name().toUpperCase();
             String variableName = "$LANG_TYPE_" + upperCaseTypeName;
-            addLangVar(variableName, new DataObject().setTypeValue(type).setFinalData(true));
+            addLangVar(langVars, variableName, new DataObject().setTypeValue(type).setFinalData(true));
         }
     }
 
     public void addLangVars(DataObject langArgs) {
-        addEssentialLangVars(langArgs);
+        //The standard types are only modified if they are owned by this interpreter (Not shared by a LangRuntimeImage)
+        if(constantLangVars == null) {
+            Map<String, DataObject> langVars = new HashMap<>();
+            ESSENTIAL_CONSTANT_LANG_VARS.forEach(langVars::put);
+
+            addNumberLangVars(langVars);
+            addStructDefinitionLangVars(langVars);
+            addClassDefinitionLangVars(langVars);
+
+            constantLangVars = toConstantLangVars(langVars);
+        }
+
+        addScopeLangVars(langArgs, constantLangVars);
 
         addExecutionLangVars();
-        addNumberLangVars();
-        addStructDefinitionLangVars();
-        addClassDefinitionLangVars();
     }
     private void addExecutionLangVars() {
         StackElement currentStackElement = interpreter.getCurrentCallStackElement();
@@ -112,20 +176,20 @@ public final class LangVars {
             addLangVar("$LANG_MODULE_FILE", new DataObject(currentStackElement.getLangFile(), true));
         }
     }
-    private void addNumberLangVars() {
-        addLangVar("$LANG_MATH_PI", new DataObject().setDouble(Math.PI).setFinalData(true));
-        addLangVar("$LANG_MATH_E", new DataObject().setDouble(Math.E).setFinalData(true));
-        addLangVar("$LANG_MATH_I", interpreter.standardTypes.get("$COMPLEX_I").setFinalData(true));
-    }
-    private void addStructDefinitionLangVars() {
-        addStaticLangVar("&CodePosition", interpreter.standardTypes.get("&CodePosition").setFinalData(true));
-        addStaticLangVar("&StackTraceElement", interpreter.standardTypes.get("&StackTraceElement").setFinalData(true));
-        addStaticLangVar("&Pair", interpreter.standardTypes.get("&Pair").setFinalData(true));
-    }
-    private void addClassDefinitionLangVars() {
-        addStaticLangVar("&Object", new DataObject().setObject(DataObject.LangObject.OBJECT_CLASS).setFinalData(true));
-        addStaticLangVar("&Maybe", interpreter.standardTypes.get("&Maybe").setFinalData(true));
-        addStaticLangVar("&Complex", interpreter.standardTypes.get("&Complex").setFinalData(true));
-        addStaticLangVar("&BasicIterator", interpreter.standardTypes.get("&BasicIterator").setFinalData(true));
+    private void addNumberLangVars(Map<String, DataObject> langVars) {
+        addLangVar(langVars, "$LANG_MATH_PI", new DataObject().setDouble(Math.PI).setFinalData(true));
+        addLangVar(langVars, "$LANG_MATH_E", new DataObject().setDouble(Math.E).setFinalData(true));
+        addLangVar(langVars, "$LANG_MATH_I", interpreter.standardTypes.get("$COMPLEX_I").setFinalData(true));
+    }
+    private void addStructDefinitionLangVars(Map<String, DataObject> langVars) {
+        addStaticLangVar(langVars, "&CodePosition", interpreter.standardTypes.get("&CodePosition").setFinalData(true));
+        addStaticLangVar(langVars, "&StackTraceElement", interpreter.standardTypes.get("&StackTraceElement").setFinalData(true));
+        addStaticLangVar(langVars, "&Pair", interpreter.standardTypes.get("&Pair").setFinalData(true));
+    }
+    private void addClassDefinitionLangVars(Map<String, DataObject> langVars) {
+        addStaticLangVar(langVars, "&Object", new DataObject().setObject(DataObject.LangObject.OBJECT_CLASS).setFinalData(true));
+        addStaticLangVar(langVars, "&Maybe", interpreter.standardTypes.get("&Maybe").setFinalData(true));
+        addStaticLangVar(langVars, "&Complex", interpreter.standardTypes.get("&Complex").setFinalData(true));
+        addStaticLangVar(langVars, "&BasicIterator", interpreter.standardTypes.get("&BasicIterator").setFinalData(true));
     }
 }
\ No newline at end of file
@@ -2,15 +2,383 @@ package at.jddev0.lang.data;
 
 import at.jddev0.lang.DataObject;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Elements of an array are stored in an int[], long[], or double[] as long as all elements are INT, LONG, or DOUBLE
+ * values (Elements might be NULL values as well) without modifiers. The elements are converted to a DataObject[]
+ * permanently on the first call of getArray() or on the first write of an element of another type.
+ */
 public final class ArrayValue extends DataValue {
-    private final DataObject[] arr;
+    /**
+     * Null if the elements are stored in the primitive storage
+     */
+    private DataObject[] arr;
+
+    private final int length;
+    /**
+     * Type of all non NULL elements of the primitive storage (NULL if all elements are NULL values)
+     */
+    private DataObject.DataType elementType;
+    private int[] intArr;
+    private long[] longArr;
+    private double[] doubleArr;
+    /**
+     * Indices of the NULL elements of the primitive storage (Null if nullElementCount is 0 or if all elements are NULL values)
+     */
+    private BitSet nullElements;
+    private int nullElementCount;
 
     public ArrayValue(DataObject[] arr) {
         this.arr = arr;
+        this.length = arr.length;
+    }
+
+    private ArrayValue(int length) {
+        this.length = length;
+        this.elementType = DataObject.DataType.NULL;
+        this.nullElementCount = length;
+    }
+
+    /**
+     * @return An array with length NULL elements
+     */
+    public static ArrayValue ofNullElements(int length) {
+        return new ArrayValue(length);
+    }
+
+    /**
+     * The elements will be stored in the primitive storage if possible
+     *
+     * @param arr The array must not be used after this call, because it might be used as the storage of the array
+     */
+    public static ArrayValue ofElements(DataObject[] arr) {
+        ArrayValue arrayValue = new ArrayValue(arr.length);
+        for(int i = 0;i < arr.length;i++) {
+            if(!isPrimitiveElement(arr[i]) || !arrayValue.setPrimitiveElement(i, arr[i])) {
+                arrayValue.arr = arr;
+                arrayValue.clearPrimitiveStorage();
+
+                return arrayValue;
+            }
+        }
+
+        return arrayValue;
     }
 
+    /**
+     * Copies of the values (new DataObject(value)) are stored, but a copy is only created if the values can not be
+     * stored in the primitive storage
+     */
+    public static ArrayValue ofElementCopies(List<DataObject> values) {
+        ArrayValue arrayValue = new ArrayValue(values.size());
+        for(int i = 0;i < values.size();i++) {
+            if(!isPrimitiveElementCopy(values.get(i)) || !arrayValue.setPrimitiveElement(i, values.get(i))) {
+                DataObject[] arr = new DataObject[values.size()];
+                for(int j = 0;j < arr.length;j++)
+                    arr[j] = new DataObject(values.get(j));
+
+                arrayValue.arr = arr;
+                arrayValue.clearPrimitiveStorage();
+
+                return arrayValue;
+            }
+        }
+
+        return arrayValue;
+    }
+
+    /**
+     * @return True if the element could be stored as is in the primitive storage (The identity of the element is not preserved)
+     */
+    public static boolean isPrimitiveElement(DataObject element) {
+        if(element == null)
+            return false;
+
+        switch(element.getType()) {
+            case NULL:
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return !element.isFinalData() && !element.isStaticData() && !element.isLangVar() &&
+                        element.getTypeConstraint() == DataObject.CONSTRAINT_NORMAL;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return True if a copy of the value (new DataObject(value)) could be stored in the primitive storage
+     */
+    private static boolean isPrimitiveElementCopy(DataObject value) {
+        switch(value.getType()) {
+            case NULL:
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return !value.isCopyStaticAndFinalModifiers() || (!value.isFinalData() && !value.isStaticData());
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return True if the elements are stored in the primitive storage
+     */
+    public boolean isPrimitiveStorage() {
+        return arr == null;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return A copy of the element at index
+     */
+    public DataObject getElement(int index) {
+        if(arr != null)
+            return new DataObject(arr[index]);
+
+        if(index < 0 || index >= length)
+            throw new ArrayIndexOutOfBoundsException(index);
+
+        if(elementType == DataObject.DataType.NULL || (nullElements != null && nullElements.get(index)))
+            return new DataObject();
+
+        switch(elementType) {
+            case INT:
+                return new DataObject().setInt(intArr[index]);
+            case LONG:
+                return new DataObject().setLong(longArr[index]);
+            case DOUBLE:
+                return new DataObject().setDouble(doubleArr[index]);
+
+            default:
+                throw new IllegalStateException("Invalid element type: " + elementType);
+        }
+    }
+
+    /**
+     * Compares the elements of two arrays which are both stored in the primitive storage without the allocation of a
+     * DataObject for every element (Elements are compared with "===" (strict) or with "==")
+     *
+     * @return Will return null, if either array is not stored in the primitive storage or if the elements have different
+     * types which must be compared with the number conversion of "=="
+     */
+    public Boolean isPrimitiveElementsEqual(ArrayValue other, boolean strict) {
+        if(arr != null || other.arr != null)
+            return null;
+
+        if(length != other.length || nullElementCount != other.nullElementCount)
+            return false;
+
+        if(nullElementCount == length)
+            return true;
+
+        //INT, LONG, and DOUBLE values are never equal to NULL values
+        if(nullElementCount > 0 && !nullElements.equals(other.nullElements))
+            return false;
+
+        if(elementType != other.elementType)
+            return strict?false:null;
+
+        if(nullElementCount == 0 && elementType == DataObject.DataType.INT)
+            return Arrays.equals(intArr, other.intArr);
+        if(nullElementCount == 0 && elementType == DataObject.DataType.LONG)
+            return Arrays.equals(longArr, other.longArr);
+
+        //The values at the indices of NULL elements are undefined
+        for(int i = nullElementCount == 0?0:nullElements.nextClearBit(0);i < length;
+            i = nullElementCount == 0?i + 1:nullElements.nextClearBit(i + 1)) {
+            switch(elementType) {
+                case INT:
+                    if(intArr[i] != other.intArr[i])
+                        return false;
+
+                    break;
+                case LONG:
+                    if(longArr[i] != other.longArr[i])
+                        return false;
+
+                    break;
+                case DOUBLE:
+                    //"==" instead of Arrays.equals(), because NaN values are not equal and 0.0 is equal to -0.0
+                    if(doubleArr[i] != other.doubleArr[i])
+                        return false;
+
+                    break;
+
+                default:
+                    throw new IllegalStateException("Invalid element type: " + elementType);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Elements of the DataObject[] storage are not copied, the primitive storage is copied without the allocation of a
+     * DataObject for every element
+     *
+     * @return A new array with the elements from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    public ArrayValue copyOfRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || fromIndex > length || toIndex > length)
+            throw new ArrayIndexOutOfBoundsException(fromIndex < 0 || fromIndex > length?fromIndex:toIndex);
+        if(toIndex < fromIndex)
+            throw new IllegalArgumentException(fromIndex + " > " + toIndex);
+
+        if(arr != null)
+            return new ArrayValue(Arrays.copyOfRange(arr, fromIndex, toIndex));
+
+        ArrayValue arrayValue = new ArrayValue(toIndex - fromIndex);
+        if(elementType == DataObject.DataType.NULL)
+            return arrayValue;
+
+        arrayValue.elementType = elementType;
+        switch(elementType) {
+            case INT:
+                arrayValue.intArr = Arrays.copyOfRange(intArr, fromIndex, toIndex);
+                break;
+            case LONG:
+                arrayValue.longArr = Arrays.copyOfRange(longArr, fromIndex, toIndex);
+                break;
+            case DOUBLE:
+                arrayValue.doubleArr = Arrays.copyOfRange(doubleArr, fromIndex, toIndex);
+                break;
+
+            default:
+                throw new IllegalStateException("Invalid element type: " + elementType);
+        }
+
+        arrayValue.nullElements = nullElements == null?null:nullElements.get(fromIndex, toIndex);
+        arrayValue.nullElementCount = arrayValue.nullElements == null?0:arrayValue.nullElements.cardinality();
+        if(arrayValue.nullElementCount == 0)
+            arrayValue.nullElements = null;
+
+        return arrayValue;
+    }
+
+    /**
+     * Sets the element at index to the element
+     */
+    public void setElement(int index, DataObject element) {
+        if(arr == null && isPrimitiveElement(element) && setPrimitiveElement(index, element))
+            return;
+
+        getArray()[index] = element;
+    }
+
+    /**
+     * Sets the element at index to a copy of the value (new DataObject(value))
+     */
+    public void setElementCopy(int index, DataObject value) {
+        if(arr == null && isPrimitiveElementCopy(value) && setPrimitiveElement(index, value))
+            return;
+
+        getArray()[index] = new DataObject(value);
+    }
+
+    /**
+     * @return False if the primitive storage can not store the element (Modifiers of the element are not checked)
+     */
+    private boolean setPrimitiveElement(int index, DataObject element) {
+        if(index < 0 || index >= length)
+            throw new ArrayIndexOutOfBoundsException(index);
+
+        DataObject.DataType type = element.getType();
+        if(type == DataObject.DataType.NULL) {
+            if(elementType == DataObject.DataType.NULL)
+                return true;
+
+            if(nullElements == null)
+                nullElements = new BitSet(length);
+
+            if(!nullElements.get(index)) {
+                nullElements.set(index);
+                nullElementCount++;
+            }
+
+            return true;
+        }
+
+        if(elementType == DataObject.DataType.NULL) {
+            elementType = type;
+            switch(type) {
+                case INT:
+                    intArr = new int[length];
+                    break;
+                case LONG:
+                    longArr = new long[length];
+                    break;
+                case DOUBLE:
+                    doubleArr = new double[length];
+                    break;
+
+                default:
+                    throw new IllegalStateException("Invalid element type: " + type);
+            }
+
+            nullElements = new BitSet(length);
+            nullElements.set(0, length);
+        }else if(elementType != type) {
+            return false;
+        }
+
+        switch(type) {
+            case INT:
+                intArr[index] = element.getInt();
+                break;
+            case LONG:
+                longArr[index] = element.getLong();
+                break;
+            case DOUBLE:
+                doubleArr[index] = element.getDouble();
+                break;
+
+            default:
+                throw new IllegalStateException("Invalid element type: " + type);
+        }
+
+        if(nullElements != null && nullElements.get(index)) {
+            nullElements.clear(index);
+            nullElementCount--;
+
+            if(nullElementCount == 0)
+                nullElements = null;
+        }
+
+        return true;
+    }
+
+    private void clearPrimitiveStorage() {
+        elementType = null;
+        intArr = null;
+        longArr = null;
+        doubleArr = null;
+        nullElements = null;
+        nullElementCount = 0;
+    }
+
+    /**
+     * Converts the primitive storage to the DataObject[] storage permanently
+     */
     @Override
     public DataObject[] getArray() {
+        if(arr == null) {
+            DataObject[] arr = new DataObject[length];
+            for(int i = 0;i < length;i++)
+                arr[i] = getElement(i);
+
+            this.arr = arr;
+            clearPrimitiveStorage();
+        }
+
         return arr;
     }
 }
@@ -1,14 +1,110 @@
 package at.jddev0.lang.data;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * The bytes are either stored in a byte[] or in a java.nio.ByteBuffer (e.g. a direct buffer or a MappedByteBuffer of
+ * a file region) which is accessed in place. Only the deprecated getByteBuffer() copies the bytes of a ByteBuffer which is
+ * not backed by a whole byte[].
+ */
 public final class ByteBufferValue extends DataValue {
+    /**
+     * Null if the bytes are stored in buffer
+     */
     private final byte[] byteBuf;
+    /**
+     * Null if the bytes are stored in byteBuf (The position is always 0 and the limit is always the capacity)
+     */
+    private final ByteBuffer buffer;
 
     public ByteBufferValue(byte[] byteBuf) {
         this.byteBuf = byteBuf;
+        this.buffer = null;
+    }
+
+    /**
+     * @param buffer The bytes between the position and the limit of the buffer are used without a copy
+     */
+    public ByteBufferValue(ByteBuffer buffer) {
+        ByteBuffer slice = buffer.slice();
+        if(slice.hasArray() && slice.arrayOffset() == 0 && slice.capacity() == slice.array().length) {
+            this.byteBuf = slice.array();
+            this.buffer = null;
+        }else {
+            this.byteBuf = null;
+            this.buffer = slice;
+        }
+    }
+
+    /**
+     * @return True if the bytes are stored in a ByteBuffer which can not be written to
+     */
+    public boolean isReadOnly() {
+        return buffer != null && buffer.isReadOnly();
+    }
+
+    public int getLength() {
+        return byteBuf == null?buffer.capacity():byteBuf.length;
+    }
+
+    public byte getByte(int index) {
+        return byteBuf == null?buffer.get(index):byteBuf[index];
+    }
+
+    /**
+     * @throws java.nio.ReadOnlyBufferException If the value is read-only
+     */
+    public void setByte(int index, byte value) {
+        if(byteBuf == null)
+            buffer.put(index, value);
+        else
+            byteBuf[index] = value;
+    }
+
+    /**
+     * @return A view of the bytes from fromIndex (inclusive) to toIndex (exclusive) if the bytes are stored in a
+     * ByteBuffer, or a new value with a copy of the bytes if they are stored in a byte[]
+     */
+    public ByteBufferValue slice(int fromIndex, int toIndex) {
+        if(byteBuf != null) {
+            byte[] sliceByteBuf = new byte[toIndex - fromIndex];
+            System.arraycopy(byteBuf, fromIndex, sliceByteBuf, 0, sliceByteBuf.length);
+
+            return new ByteBufferValue(sliceByteBuf);
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        //Casts to Buffer are required, because the covariant return types of ByteBuffer do not exist in Java 8
+        ((Buffer)view).limit(toIndex);
+        ((Buffer)view).position(fromIndex);
+
+        return new ByteBufferValue(view);
+    }
+
+    /**
+     * @return A ByteBuffer which shares the bytes of this value (Position 0, limit getLength())
+     */
+    public ByteBuffer getByteBufferView() {
+        return byteBuf == null?buffer.duplicate():ByteBuffer.wrap(byteBuf);
     }
 
+    /**
+     * @return The byte[] storage or a copy of the bytes if they are stored in a ByteBuffer
+     *
+     * @deprecated Writes to the returned array are lost if the bytes are stored in a ByteBuffer (e.g. a MappedByteBuffer
+     * of a file) and the whole region is copied on every call: Use {@link #getLength()}, {@link #getByte(int)},
+     * {@link #setByte(int, byte)}, or {@link #getByteBufferView()} instead
+     */
+    @Deprecated
     @Override
     public byte[] getByteBuffer() {
-        return byteBuf;
+        if(byteBuf != null)
+            return byteBuf;
+
+        byte[] copy = new byte[buffer.capacity()];
+        buffer.duplicate().get(copy);
+
+        return copy;
     }
 }
@@ -1,8 +1,7 @@
 package at.jddev0.lang.data;
 
 import at.jddev0.lang.DataObject;
-
-import java.util.LinkedList;
+import at.jddev0.lang.LangArrayDeque;
 
 public abstract class DataValue {
     public DataObject.Text getText() {
@@ -17,7 +16,7 @@ public abstract class DataValue {
         return null;
     }
 
-    public LinkedList<DataObject> getList() {
+    public LangArrayDeque<DataObject> getList() {
         return null;
     }
 
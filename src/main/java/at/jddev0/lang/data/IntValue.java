@@ -1,8 +1,30 @@
 package at.jddev0.lang.data;
 
 public final class IntValue extends DataValue {
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+
+    /**
+     * Shared instances for small values (Including the boolean values 0 and 1)
+     */
+    private static final IntValue[] CACHE = new IntValue[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for(int i = 0;i < CACHE.length;i++)
+            CACHE[i] = new IntValue(i + CACHE_LOW);
+    }
+
     private final int intValue;
 
+    /**
+     * @return A shared instance if the value is small, otherwise a new instance
+     */
+    public static IntValue valueOf(int intValue) {
+        if(intValue >= CACHE_LOW && intValue <= CACHE_HIGH)
+            return CACHE[intValue - CACHE_LOW];
+
+        return new IntValue(intValue);
+    }
+
     public IntValue(int intValue) {
         this.intValue = intValue;
     }
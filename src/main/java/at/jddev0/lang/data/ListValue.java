@@ -1,18 +1,17 @@
 package at.jddev0.lang.data;
 
 import at.jddev0.lang.DataObject;
-
-import java.util.LinkedList;
+import at.jddev0.lang.LangArrayDeque;
 
 public final class ListValue extends DataValue {
-    private final LinkedList<DataObject> list;
+    private final LangArrayDeque<DataObject> list;
 
-    public ListValue(LinkedList<DataObject> list) {
+    public ListValue(LangArrayDeque<DataObject> list) {
         this.list = list;
     }
 
     @Override
-    public LinkedList<DataObject> getList() {
+    public LangArrayDeque<DataObject> getList() {
         return list;
     }
 }
@@ -1,8 +1,30 @@
 package at.jddev0.lang.data;
 
 public final class LongValue extends DataValue {
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+
+    /**
+     * Shared instances for small values
+     */
+    private static final LongValue[] CACHE = new LongValue[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for(int i = 0;i < CACHE.length;i++)
+            CACHE[i] = new LongValue(i + CACHE_LOW);
+    }
+
     private final long longValue;
 
+    /**
+     * @return A shared instance if the value is small, otherwise a new instance
+     */
+    public static LongValue valueOf(long longValue) {
+        if(longValue >= CACHE_LOW && longValue <= CACHE_HIGH)
+            return CACHE[(int)longValue - CACHE_LOW];
+
+        return new LongValue(longValue);
+    }
+
     public LongValue(long longValue) {
         this.longValue = longValue;
     }
@@ -7,15 +7,75 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.util.function.Consumer;
 
 public class InterpreterTest {
     @Test
     public void langSpecTest() {
+        runLangSpecTest(executionFlags -> {});
+    }
+
+    @Test
+    public void langSpecTestWithFrameSlotResolution() {
+        runLangSpecTest(executionFlags -> executionFlags.frameSlotResolution = true);
+    }
+
+    @Test
+    public void langSpecTestWithSpecializingExecutionEngine() {
+        runLangSpecTest(executionFlags -> executionFlags.specializingExecutionEngine = true);
+    }
+
+    @Test
+    public void langSpecTestWithASTCache() {
+        runLangSpecTest(executionFlags -> executionFlags.astCache = true);
+    }
+
+    @Test
+    public void runtimeImageIsolationTest() {
+        LangInterpreter interpreter = new LangInterpreter(".", null, new DefaultLangPlatformAPI());
+        LangInterpreter otherInterpreter = new LangInterpreter(".", null, new DefaultLangPlatformAPI());
+
+        DataObject mathI = interpreter.getData().var.get("$LANG_MATH_I");
+        DataObject otherMathI = otherInterpreter.getData().var.get("$LANG_MATH_I");
+        assertNotSame(mathI.getObject(), otherMathI.getObject(), "Objects of the runtime image must not be shared");
+        assertSame(mathI.getObject().getClassBaseDefinition(), otherMathI.getObject().getClassBaseDefinition());
+
+        DataObject re = mathI.getObject().getMember("$re");
+        DataObject otherRe = otherMathI.getObject().getMember("$re");
+        if(!re.isFinalData()) {
+            interpretLines(interpreter, "$LANG_MATH_I::$re ::= 42.");
+            interpretLines(otherInterpreter, "$LANG_MATH_I::$re ::= 43.");
+
+            assertEquals(42., re.getDouble());
+            assertEquals(43., otherRe.getDouble());
+        }
+
+        for(DataObject standardType:LangRuntimeImage.getDefault().getStandardTypes().values()) {
+            DataObject.LangObject langObject = standardType.getObject();
+            if(langObject == null || !langObject.isClass())
+                continue;
+
+            for(DataObject staticMember:langObject.getStaticMembers())
+                assertTrue(staticMember.isFinalData(), "Static members of the standard classes must be final");
+        }
+    }
+
+    private void interpretLines(LangInterpreter interpreter, String lines) {
+        try(BufferedReader br = new BufferedReader(new StringReader(lines))) {
+            interpreter.interpretLines(br);
+        }catch(IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void runLangSpecTest(Consumer<LangInterpreter.ExecutionFlags> executionFlagsInitializer) {
         File mainTestFile = new File("src/test/resources/spec-test/test.lang");
 
         String currentDir = mainTestFile.getParent();
 
         LangInterpreter interpreter = new LangInterpreter(currentDir, "test.lang", null, new DefaultLangPlatformAPI(), null);
+        executionFlagsInitializer.accept(interpreter.executionFlags);
 
         try(BufferedReader br = new BufferedReader(new FileReader(mainTestFile))) {
             interpreter.interpretLines(br);